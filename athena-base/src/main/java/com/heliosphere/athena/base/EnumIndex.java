@@ -0,0 +1,182 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base;
+
+import java.util.function.Function;
+
+import lombok.NonNull;
+
+/**
+ * Index of the values of an enumeration by a string key (their name, a prefix, a type name, etc.).
+ * <p>
+ * The keys are stored in an open addressing hash table built once, so a lookup is done in constant time, without
+ * iterating over the enumerated values and without allocating (a case insensitive lookup compares the characters in
+ * place instead of converting the key). When several values share a same key, the first declared one is returned.
+ * <p>
+ * The indexes by name are cached per enumeration and obtained through {@link #byName(Class)}. The indexes by a custom
+ * key are created through {@link #byKey(Class, Function, boolean)} and are expected to be held by a constant of the
+ * enumeration itself.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ * @param <E> Enumeration type.
+ */
+public final class EnumIndex<E extends Enum<E>>
+{
+	/**
+	 * Case insensitive indexes by name of the enumerations.
+	 */
+	private static final ClassValue<EnumIndex<?>> NAMES = new ClassValue<EnumIndex<?>>()
+	{
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		@Override
+		protected EnumIndex<?> computeValue(final Class<?> type)
+		{
+			return new EnumIndex((Enum[]) type.getEnumConstants(), (Function<Enum, String>) Enum::name, true);
+		}
+	};
+
+	/**
+	 * Keys of the hash table.
+	 */
+	private final String[] keys;
+
+	/**
+	 * Enumerated values of the hash table.
+	 */
+	private final E[] values;
+
+	/**
+	 * Mask applied to a hash code to get a slot of the hash table.
+	 */
+	private final int mask;
+
+	/**
+	 * Is the lookup case insensitive?
+	 */
+	private final boolean ignoreCase;
+
+	/**
+	 * Creates a new enumeration index.
+	 * <hr>
+	 * @param constants Enumerated values.
+	 * @param key Function returning the key of an enumerated value.
+	 * @param ignoreCase Is the lookup case insensitive?
+	 */
+	@SuppressWarnings("unchecked")
+	private EnumIndex(final E[] constants, final Function<? super E, String> key, final boolean ignoreCase)
+	{
+		int capacity = Integer.highestOneBit(Math.max(constants.length, 1) * 2 - 1) << 1;
+
+		this.keys = new String[capacity];
+		this.values = (E[]) new Enum<?>[capacity];
+		this.mask = capacity - 1;
+		this.ignoreCase = ignoreCase;
+
+		for (E constant : constants)
+		{
+			String value = key.apply(constant);
+			if (value != null && find(value) == null)
+			{
+				int slot = hash(value) & mask;
+				while (keys[slot] != null)
+				{
+					slot = (slot + 1) & mask;
+				}
+
+				keys[slot] = value;
+				values[slot] = constant;
+			}
+		}
+	}
+
+	/**
+	 * Returns the case insensitive index by name of an enumeration.
+	 * <hr>
+	 * @param <E> Enumeration type.
+	 * @param type Enumeration class.
+	 * @return Enumeration index.
+	 */
+	@SuppressWarnings("unchecked")
+	public static final <E extends Enum<E>> EnumIndex<E> byName(final @NonNull Class<E> type)
+	{
+		return (EnumIndex<E>) NAMES.get(type);
+	}
+
+	/**
+	 * Creates an index of an enumeration by a custom key.
+	 * <hr>
+	 * @param <E> Enumeration type.
+	 * @param type Enumeration class.
+	 * @param key Function returning the key of an enumerated value ({@code null} if the value has no key).
+	 * @param ignoreCase Is the lookup case insensitive?
+	 * @return Enumeration index.
+	 */
+	public static final <E extends Enum<E>> EnumIndex<E> byKey(final @NonNull Class<E> type, final @NonNull Function<? super E, String> key, final boolean ignoreCase)
+	{
+		return new EnumIndex<>(type.getEnumConstants(), key, ignoreCase);
+	}
+
+	/**
+	 * Finds the enumerated value associated to a key.
+	 * <hr>
+	 * @param key Key.
+	 * @return Enumerated value or {@code null} if no value is associated to the key.
+	 */
+	public final E find(final String key)
+	{
+		if (key == null)
+		{
+			return null;
+		}
+
+		int slot = hash(key) & mask;
+		String candidate;
+		while ((candidate = keys[slot]) != null)
+		{
+			if (candidate.length() == key.length() && candidate.regionMatches(ignoreCase, 0, key, 0, key.length()))
+			{
+				return values[slot];
+			}
+
+			slot = (slot + 1) & mask;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Computes the hash code of a key, consistent with the case sensitivity of the index.
+	 * <hr>
+	 * @param key Key.
+	 * @return Hash code.
+	 */
+	private final int hash(final String key)
+	{
+		int hash;
+		if (ignoreCase)
+		{
+			hash = 0;
+			for (int i = 0; i < key.length(); i++)
+			{
+				// Same folding than String.regionMatches(true, ...).
+				hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(key.charAt(i)));
+			}
+		}
+		else
+		{
+			hash = key.hashCode();
+		}
+
+		return hash ^ (hash >>> 16);
+	}
+}
@@ -0,0 +1,556 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.command;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import com.heliosphere.athena.base.command.internal.ICommandMetadata;
+import com.heliosphere.athena.base.command.internal.ICommandParameterMetadata;
+import com.heliosphere.athena.base.command.internal.protocol.ICommandProtocolType;
+import com.heliosphere.athena.base.command.internal.protocol.IParameterType;
+import com.heliosphere.athena.base.file.internal.AtomicFileWriter;
+import com.heliosphere.athena.base.file.xml.Footer;
+import com.heliosphere.athena.base.file.xml.Header;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j;
+
+/**
+ * Binary snapshot of a catalog of fully initialized commands, used to avoid parsing again a command file and
+ * resolving again the command protocols when the file has not changed.
+ * <p>
+ * A snapshot is stamped with the hash of the content of the file it has been built from and is only used while this
+ * hash matches. It is read through a memory mapped buffer and the enumerated values (command protocols and parameter
+ * types) are restored from their names, each enumeration class being resolved only once.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@Log4j
+public final class CommandCatalogSnapshot
+{
+	/**
+	 * Extension appended to the name of a command file to get the name of its snapshot.
+	 */
+	@SuppressWarnings("nls")
+	public static final String EXTENSION = ".snapshot";
+
+	/**
+	 * Snapshot format marker ({@code ATHC}).
+	 */
+	private static final int MAGIC = 0x41544843;
+
+	/**
+	 * Snapshot format version.
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * Marker of a {@code null} string, list or date.
+	 */
+	private static final int NULL = -1;
+
+	/**
+	 * File header.
+	 */
+	@Getter
+	private final Header header;
+
+	/**
+	 * File footer.
+	 */
+	@Getter
+	private final Footer footer;
+
+	/**
+	 * Initialized commands.
+	 */
+	@Getter
+	private final List<ICommandMetadata> commands;
+
+	/**
+	 * Creates a new command catalog snapshot.
+	 * <hr>
+	 * @param header File header.
+	 * @param footer File footer.
+	 * @param commands Initialized commands.
+	 */
+	private CommandCatalogSnapshot(final Header header, final Footer footer, final List<ICommandMetadata> commands)
+	{
+		this.header = header;
+		this.footer = footer;
+		this.commands = commands;
+	}
+
+	/**
+	 * Returns the snapshot file of a command file.
+	 * <hr>
+	 * @param file Command file.
+	 * @return Snapshot file.
+	 */
+	public static final File getSnapshotFile(final @NonNull File file)
+	{
+		return new File(file.getPath() + EXTENSION);
+	}
+
+	/**
+	 * Computes the hash of the content of a file (length and {@code CRC-32} of the content).
+	 * <hr>
+	 * @param file File.
+	 * @return Hash.
+	 * @throws IOException Thrown in case the file cannot be read.
+	 */
+	public static final long hash(final @NonNull File file) throws IOException
+	{
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+		{
+			CRC32 crc = new CRC32();
+			crc.update(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+
+			return channel.size() << 32 ^ crc.getValue();
+		}
+	}
+
+	/**
+	 * Reads a snapshot.
+	 * <hr>
+	 * @param snapshot Snapshot file.
+	 * @param hash Hash of the current content of the command file.
+	 * @return Snapshot or {@code null} if the snapshot does not exist, is stale or cannot be read.
+	 */
+	@SuppressWarnings("nls")
+	public static final CommandCatalogSnapshot read(final @NonNull File snapshot, final long hash)
+	{
+		if (!snapshot.isFile())
+		{
+			return null;
+		}
+
+		try (FileChannel channel = FileChannel.open(snapshot.toPath(), StandardOpenOption.READ))
+		{
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getLong() != hash)
+			{
+				return null;
+			}
+
+			CommandCatalogSnapshot catalog = new Reader(buffer).readCatalog();
+
+			return buffer.getInt() == MAGIC ? catalog : null;
+		}
+		catch (IOException | BufferUnderflowException | IllegalArgumentException | ReflectiveOperationException | ClassCastException e)
+		{
+			log.warn("Command catalog snapshot cannot be read [file=" + snapshot + ", reason=" + e.getMessage() + "]");
+			return null;
+		}
+	}
+
+	/**
+	 * Writes a snapshot.
+	 * <p>
+	 * The snapshot is written atomically (see {@link AtomicFileWriter}), so a reader never sees a partial snapshot.
+	 * <hr>
+	 * @param snapshot Snapshot file.
+	 * @param hash Hash of the content of the command file.
+	 * @param header File header.
+	 * @param footer File footer.
+	 * @param commands Initialized commands.
+	 * @return {@code True} if the snapshot has been written, {@code false} otherwise.
+	 */
+	@SuppressWarnings("nls")
+	public static final boolean write(final @NonNull File snapshot, final long hash, final Header header, final Footer footer, final @NonNull List<ICommandMetadata> commands)
+	{
+		for (ICommandMetadata command : commands)
+		{
+			if (!(command instanceof CommandMetadata))
+			{
+				return false;
+			}
+		}
+
+		try
+		{
+			AtomicFileWriter.write(snapshot, stream ->
+			{
+				DataOutputStream output = new DataOutputStream(stream);
+				output.writeInt(MAGIC);
+				output.writeInt(VERSION);
+				output.writeLong(hash);
+				writeCatalog(output, header, footer, commands);
+				output.writeInt(MAGIC);
+				output.flush();
+			});
+
+			return true;
+		}
+		catch (IOException e)
+		{
+			log.warn("Command catalog snapshot cannot be written [file=" + snapshot + ", reason=" + e.getMessage() + "]");
+
+			return false;
+		}
+	}
+
+	/**
+	 * Writes the content of a catalog.
+	 * <hr>
+	 * @param output Output stream.
+	 * @param header File header.
+	 * @param footer File footer.
+	 * @param commands Initialized commands.
+	 * @throws IOException Thrown in case an error occurred while writing.
+	 */
+	private static final void writeCatalog(final DataOutputStream output, final Header header, final Footer footer, final List<ICommandMetadata> commands) throws IOException
+	{
+		output.writeBoolean(header != null);
+		if (header != null)
+		{
+			writeString(output, header.getCompany());
+			writeString(output, header.getVersion());
+			writeString(output, header.getAuthor());
+			writeString(output, header.getDescription());
+		}
+
+		output.writeBoolean(footer != null);
+		if (footer != null)
+		{
+			writeDate(output, footer.getGenerated());
+			writeDate(output, footer.getChanged());
+		}
+
+		output.writeInt(commands.size());
+		for (ICommandMetadata element : commands)
+		{
+			CommandMetadata command = (CommandMetadata) element;
+			writeString(output, command.getFullProtocolName());
+			writeString(output, command.getProcessorClassName());
+			writeString(output, command.getName());
+			writeString(output, command.getDescription());
+			writeString(output, command.getSyntax());
+			writeEnum(output, command.getProtocolType());
+			writeStrings(output, command.getAliases());
+
+			List<ICommandParameterMetadata> parameters = command.getParameters();
+			output.writeInt(parameters != null ? parameters.size() : NULL);
+			if (parameters != null)
+			{
+				for (ICommandParameterMetadata parameter : parameters)
+				{
+					writeString(output, parameter.getName());
+					writeString(output, parameter.getDescription());
+					writeString(output, parameter instanceof CommandParameterMetadata ? ((CommandParameterMetadata) parameter).getFullProtocolName() : null);
+					writeEnum(output, parameter.getProtocolType());
+					writeString(output, parameter.getTag());
+					writeString(output, parameter.getRegExp());
+					writeEnum(output, parameter.getType());
+					writeStrings(output, parameter.getExamples());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Writes a string.
+	 * <hr>
+	 * @param output Output stream.
+	 * @param value String (can be {@code null}).
+	 * @throws IOException Thrown in case an error occurred while writing.
+	 */
+	private static final void writeString(final DataOutputStream output, final String value) throws IOException
+	{
+		if (value == null)
+		{
+			output.writeInt(NULL);
+			return;
+		}
+
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+
+	/**
+	 * Writes a list of strings.
+	 * <hr>
+	 * @param output Output stream.
+	 * @param values Strings (can be {@code null}).
+	 * @throws IOException Thrown in case an error occurred while writing.
+	 */
+	private static final void writeStrings(final DataOutputStream output, final List<String> values) throws IOException
+	{
+		output.writeInt(values != null ? values.size() : NULL);
+		if (values != null)
+		{
+			for (String value : values)
+			{
+				writeString(output, value);
+			}
+		}
+	}
+
+	/**
+	 * Writes an enumerated value as its enumeration class name followed by its name.
+	 * <hr>
+	 * @param output Output stream.
+	 * @param value Enumerated value (can be {@code null}).
+	 * @throws IOException Thrown in case an error occurred while writing.
+	 */
+	private static final void writeEnum(final DataOutputStream output, final Enum<?> value) throws IOException
+	{
+		writeString(output, value != null ? value.getDeclaringClass().getName() : null);
+		if (value != null)
+		{
+			writeString(output, value.name());
+		}
+	}
+
+	/**
+	 * Writes a date.
+	 * <hr>
+	 * @param output Output stream.
+	 * @param value Date (can be {@code null}).
+	 * @throws IOException Thrown in case an error occurred while writing.
+	 */
+	private static final void writeDate(final DataOutputStream output, final Date value) throws IOException
+	{
+		output.writeBoolean(value != null);
+		if (value != null)
+		{
+			output.writeLong(value.getTime());
+		}
+	}
+
+	/**
+	 * Decoder of the content of a snapshot.
+	 */
+	private static final class Reader
+	{
+		/**
+		 * Buffer to decode.
+		 */
+		private final ByteBuffer buffer;
+
+		/**
+		 * Enumerated values by name of the enumeration classes already resolved.
+		 */
+		private final Map<String, Map<String, Enum<?>>> enumerations = new HashMap<>();
+
+		/**
+		 * Creates a new decoder.
+		 * <hr>
+		 * @param buffer Buffer to decode.
+		 */
+		private Reader(final ByteBuffer buffer)
+		{
+			this.buffer = buffer;
+		}
+
+		/**
+		 * Reads the content of a catalog.
+		 * <hr>
+		 * @return Catalog.
+		 * @throws ReflectiveOperationException Thrown in case an enumeration cannot be resolved.
+		 */
+		@SuppressWarnings({ "unchecked", "nls" })
+		private final CommandCatalogSnapshot readCatalog() throws ReflectiveOperationException
+		{
+			Header header = null;
+			if (buffer.get() != 0)
+			{
+				header = new Header();
+				header.setCompany(readString());
+				header.setVersion(readString());
+				header.setAuthor(readString());
+				header.setDescription(readString());
+			}
+
+			Footer footer = null;
+			if (buffer.get() != 0)
+			{
+				footer = new Footer();
+				footer.setGenerated(readDate());
+				footer.setChanged(readDate());
+			}
+
+			int count = readCount(Integer.BYTES);
+			if (count == NULL)
+			{
+				throw new IllegalArgumentException("Missing command count");
+			}
+
+			List<ICommandMetadata> commands = new ArrayList<>(count);
+			for (int i = 0; i < count; i++)
+			{
+				CommandMetadata command = new CommandMetadata();
+				command.setFullProtocolName(readString());
+				command.setProcessorClassName(readString());
+				command.setName(readString());
+				command.setDescription(readString());
+				command.setSyntax(readString());
+				command.setProtocolType((Enum<? extends ICommandProtocolType>) readEnum());
+				command.setAliases(readStrings());
+
+				int parameterCount = readCount(Integer.BYTES);
+				if (parameterCount != NULL)
+				{
+					List<ICommandParameterMetadata> parameters = new ArrayList<>(parameterCount);
+					for (int j = 0; j < parameterCount; j++)
+					{
+						CommandParameterMetadata parameter = new CommandParameterMetadata();
+						parameter.setName(readString());
+						parameter.setDescription(readString());
+						parameter.setFullProtocolName(readString());
+						parameter.setProtocolType((Enum<? extends ICommandProtocolType>) readEnum());
+						parameter.setTag(readString());
+						parameter.setRegExp(readString());
+						parameter.setType((Enum<? extends IParameterType>) readEnum());
+						parameter.setExamples(readStrings());
+						parameters.add(parameter);
+					}
+					command.setParameters(parameters);
+				}
+
+				commands.add(command);
+			}
+
+			return new CommandCatalogSnapshot(header, footer, commands);
+		}
+
+		/**
+		 * Reads a string.
+		 * <hr>
+		 * @return String (can be {@code null}).
+		 */
+		private final String readString()
+		{
+			int length = readCount(1);
+			if (length == NULL)
+			{
+				return null;
+			}
+
+			byte[] bytes = new byte[length];
+			buffer.get(bytes);
+
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+
+		/**
+		 * Reads a length or a count and checks it against the remaining bytes, so a corrupted snapshot cannot trigger
+		 * huge allocations.
+		 * <hr>
+		 * @param size Minimal size (in bytes) of an element.
+		 * @return Length or count ({@code NULL} for a {@code null} value).
+		 * @throws IllegalArgumentException Thrown in case the length or count is invalid.
+		 */
+		@SuppressWarnings("nls")
+		private final int readCount(final int size)
+		{
+			int count = buffer.getInt();
+			if (count != NULL && (count < 0 || (long) count * size > buffer.remaining()))
+			{
+				throw new IllegalArgumentException("Invalid length or count: " + count + " (remaining bytes: " + buffer.remaining() + ")");
+			}
+
+			return count;
+		}
+
+		/**
+		 * Reads a list of strings.
+		 * <hr>
+		 * @return Strings (can be {@code null}).
+		 */
+		private final List<String> readStrings()
+		{
+			int count = readCount(Integer.BYTES);
+			if (count == NULL)
+			{
+				return null;
+			}
+
+			List<String> values = new ArrayList<>(count);
+			for (int i = 0; i < count; i++)
+			{
+				values.add(readString());
+			}
+
+			return values;
+		}
+
+		/**
+		 * Reads an enumerated value.
+		 * <hr>
+		 * @return Enumerated value (can be {@code null}).
+		 * @throws ReflectiveOperationException Thrown in case the enumeration cannot be resolved.
+		 */
+		@SuppressWarnings("nls")
+		private final Enum<?> readEnum() throws ReflectiveOperationException
+		{
+			String type = readString();
+			if (type == null)
+			{
+				return null;
+			}
+
+			Map<String, Enum<?>> values = enumerations.get(type);
+			if (values == null)
+			{
+				Object[] constants = Class.forName(type).getEnumConstants();
+				if (constants == null)
+				{
+					throw new IllegalArgumentException("Not an enumeration: " + type);
+				}
+
+				values = new HashMap<>();
+				for (Object value : constants)
+				{
+					values.put(((Enum<?>) value).name(), (Enum<?>) value);
+				}
+				enumerations.put(type, values);
+			}
+
+			String name = readString();
+			Enum<?> value = values.get(name);
+			if (value == null)
+			{
+				throw new IllegalArgumentException("Unknown enumerated value: " + type + "." + name);
+			}
+
+			return value;
+		}
+
+		/**
+		 * Reads a date.
+		 * <hr>
+		 * @return Date (can be {@code null}).
+		 */
+		private final Date readDate()
+		{
+			return buffer.get() != 0 ? new Date(buffer.getLong()) : null;
+		}
+	}
+}
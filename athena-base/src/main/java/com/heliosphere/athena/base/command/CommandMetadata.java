@@ -91,6 +91,14 @@ public class CommandMetadata implements ICommandMetadata
 	@Getter
 	private List<ICommandParameterMetadata> parameters;
 
+	/**
+	 * Creates a new empty command metadata (definition), used to restore a command from a catalog snapshot.
+	 */
+	CommandMetadata()
+	{
+		// Empty.
+	}
+
 	/**
 	 * Creates a new command metadata (definition).
 	 * <hr>
@@ -204,6 +212,36 @@ public class CommandMetadata implements ICommandMetadata
 		return protocolType;
 	}
 
+	/**
+	 * Sets the resolved command protocol type (used when restoring a command from a catalog snapshot).
+	 * <hr>
+	 * @param protocolType Command protocol type.
+	 */
+	final void setProtocolType(final Enum<? extends ICommandProtocolType> protocolType)
+	{
+		this.protocolType = protocolType;
+	}
+
+	/**
+	 * Sets the command aliases (used when restoring a command from a catalog snapshot).
+	 * <hr>
+	 * @param aliases Command aliases.
+	 */
+	final void setAliases(final List<String> aliases)
+	{
+		this.aliases = aliases;
+	}
+
+	/**
+	 * Sets the command parameters (used when restoring a command from a catalog snapshot).
+	 * <hr>
+	 * @param parameters Command parameters.
+	 */
+	final void setParameters(final List<ICommandParameterMetadata> parameters)
+	{
+		this.parameters = parameters;
+	}
+
 	@Override
 	public final boolean isOf(Enum<? extends ICommandProtocolType> protocol)
 	{
@@ -11,30 +11,60 @@
  */
 package com.heliosphere.athena.base.command;
 
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
 import com.heliosphere.athena.base.command.internal.ICommandParameter;
 import com.heliosphere.athena.base.command.internal.ICommandParameterMetadata;
+import com.heliosphere.athena.base.command.internal.IParameterConverter;
 import com.heliosphere.athena.base.command.protocol.DefaultParameterType;
+import com.heliosphere.athena.base.exception.InvalidArgumentException;
 
 import lombok.NonNull;
 
 /**
  * Represents a command parameter.
+ * <p>
+ * The numeric, boolean and duration values are parsed directly from the region of the command text holding them and
+ * stored as primitives, so they can be read through the typed accessors without any allocation. The values of the
+ * custom parameter types are converted according to the {@link ParameterConverterRegistry}.
  * <hr>
  * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
  * @version 1.0.0
  */
 public class CommandParameter implements ICommandParameter
 {
+	/**
+	 * Number of milliseconds in a second.
+	 */
+	private static final long MILLIS_PER_SECOND = 1000L;
+
 	/**
 	 * Original parameter text.
 	 */
 	private String text;
 
 	/**
-	 * Parameter value.
+	 * Parameter value (for the string values and the values converted into objects).
 	 */
 	private Object value;
 
+	/**
+	 * Parameter primitive value (for the integer, long, boolean, double and duration values).
+	 */
+	private long primitive;
+
+	/**
+	 * Parameter type used to store the value ({@code null} if the value is stored as an object).
+	 */
+	private DefaultParameterType storage;
+
+	/**
+	 * Does the parameter have a value?
+	 */
+	private boolean present;
+
 	/**
 	 * Parameter metadata.
 	 */
@@ -60,31 +90,75 @@ public class CommandParameter implements ICommandParameter
 	 * @param value Parameter's value (can be {@code null} in case only the parameter tag is defined).
 	 */
 	public CommandParameter(final @NonNull String text, final @NonNull ICommandParameterMetadata metadata, final String value)
+	{
+		this(text, metadata, value, 0, value != null ? value.length() : 0);
+	}
+
+	/**
+	 * Creates a new command parameter given some values.
+	 * <hr>
+	 * @param text Text representing the parameter as entered on a command-line or a terminal.
+	 * @param metadata Command parameter metadata (definition).
+	 * @param source Text containing the parameter's value (can be {@code null} in case only the parameter tag is
+	 * defined).
+	 * @param start Start index (inclusive) of the parameter's value in the source text.
+	 * @param end End index (exclusive) of the parameter's value in the source text.
+	 */
+	public CommandParameter(final @NonNull String text, final @NonNull ICommandParameterMetadata metadata, final CharSequence source, final int start, final int end)
 	{
 		this.text = text;
 		this.metadata = metadata;
+		this.storage = ParameterConverterRegistry.getStorage(metadata.getType());
+
+		IParameterConverter converter = storage == null ? ParameterConverterRegistry.getConverter(metadata.getType()) : null;
+
+		if (source == null)
+		{
+			// As for Boolean.valueOf(null), a boolean parameter without value is false.
+			present = storage == DefaultParameterType.BOOLEAN;
+			return;
+		}
+
+		present = true;
 
-		switch ((DefaultParameterType) metadata.getType())
+		if (storage == null)
+		{
+			// Values of a custom type without converter are considered as 'string'.
+			this.value = converter != null ? converter.convert(source, start, end) : toString(source, start, end);
+			return;
+		}
+
+		switch (storage)
 		{
 			case INTEGER:
-				this.value = Integer.valueOf(value);
+				long number = parseLong(source, start, end);
+				if (number < Integer.MIN_VALUE || number > Integer.MAX_VALUE)
+				{
+					throw invalidNumber(source, start, end);
+				}
+				this.primitive = number;
+				break;
+
+			case LONG:
+				this.primitive = parseLong(source, start, end);
 				break;
 
 			case BOOLEAN:
-				this.value = Boolean.valueOf(value);
+				this.primitive = regionEqualsIgnoreCase(source, start, end, Boolean.TRUE.toString()) ? 1 : 0;
 				break;
 
-			case LONG:
-				this.value = Long.valueOf(value);
+			case DOUBLE:
+				this.primitive = Double.doubleToRawLongBits(Double.parseDouble(toString(source, start, end)));
 				break;
 
-			case STRING:
-				this.value = value;
+			case DURATION:
+				this.primitive = parseDuration(source, start, end);
 				break;
 
+			case STRING:
 			default:
-				// Default is considered as a 'string'.
-				this.value = value;
+				this.value = toString(source, start, end);
+				this.storage = null;
 				break;
 		}
 	}
@@ -98,7 +172,83 @@ public class CommandParameter implements ICommandParameter
 	@Override
 	public final Object getValue()
 	{
-		return value;
+		if (!present || storage == null)
+		{
+			return value;
+		}
+
+		switch (storage)
+		{
+			case INTEGER:
+				return Integer.valueOf((int) primitive);
+
+			case LONG:
+				return Long.valueOf(primitive);
+
+			case BOOLEAN:
+				return Boolean.valueOf(primitive != 0);
+
+			case DOUBLE:
+				return Double.valueOf(Double.longBitsToDouble(primitive));
+
+			case DURATION:
+				return Duration.ofMillis(primitive);
+
+			default:
+				return value;
+		}
+	}
+
+	@Override
+	public final boolean hasValue()
+	{
+		return present;
+	}
+
+	@Override
+	public final int getInt()
+	{
+		checkValue(storage == DefaultParameterType.INTEGER, DefaultParameterType.INTEGER);
+
+		return (int) primitive;
+	}
+
+	@Override
+	public final long getLong()
+	{
+		checkValue(storage == DefaultParameterType.INTEGER || storage == DefaultParameterType.LONG, DefaultParameterType.LONG);
+
+		return primitive;
+	}
+
+	@Override
+	public final double getDouble()
+	{
+		if (storage == DefaultParameterType.INTEGER || storage == DefaultParameterType.LONG)
+		{
+			checkValue(true, DefaultParameterType.DOUBLE);
+			return primitive;
+		}
+
+		checkValue(storage == DefaultParameterType.DOUBLE, DefaultParameterType.DOUBLE);
+
+		return Double.longBitsToDouble(primitive);
+	}
+
+	@Override
+	public final boolean getBoolean()
+	{
+		checkValue(storage == DefaultParameterType.BOOLEAN, DefaultParameterType.BOOLEAN);
+
+		return primitive != 0;
+	}
+
+	@Override
+	public final Duration getDuration()
+	{
+		checkValue(storage == DefaultParameterType.DURATION, DefaultParameterType.DURATION);
+
+		return Duration.ofMillis(primitive);
 	}
 
 	@Override
@@ -112,4 +262,200 @@ public class CommandParameter implements ICommandParameter
 	{
 		this.metadata = metadata;
 	}
+
+	/**
+	 * Checks the parameter has a value of the expected type.
+	 * <hr>
+	 * @param compatible Is the parameter value compatible with the expected type?
+	 * @param expected Expected type.
+	 * @throws InvalidArgumentException Thrown in case the parameter has no value of the expected type.
+	 */
+	@SuppressWarnings("nls")
+	private final void checkValue(final boolean compatible, final DefaultParameterType expected)
+	{
+		if (!compatible || !present)
+		{
+			throw new InvalidArgumentException(String.format("Parameter: %1s has no %2s value!", metadata.getName(), expected.name().toLowerCase(Locale.ROOT)));
+		}
+	}
+
+	/**
+	 * Parses a long value from a region of a text.
+	 * <hr>
+	 * @param source Source text.
+	 * @param start Start index (inclusive).
+	 * @param end End index (exclusive).
+	 * @return Long value.
+	 * @throws NumberFormatException Thrown in case the region does not hold a valid long value.
+	 */
+	private static final long parseLong(final CharSequence source, final int start, final int end)
+	{
+		int index = start;
+		boolean negative = false;
+
+		if (index < end && (source.charAt(index) == '-' || source.charAt(index) == '+'))
+		{
+			negative = source.charAt(index) == '-';
+			index++;
+		}
+
+		if (index == end)
+		{
+			throw invalidNumber(source, start, end);
+		}
+
+		// Accumulated negatively to be able to represent Long.MIN_VALUE.
+		long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+		long result = 0;
+
+		for (; index < end; index++)
+		{
+			int digit = Character.digit(source.charAt(index), 10);
+			if (digit < 0 || result < limit / 10)
+			{
+				throw invalidNumber(source, start, end);
+			}
+
+			result *= 10;
+			if (result < limit + digit)
+			{
+				throw invalidNumber(source, start, end);
+			}
+
+			result -= digit;
+		}
+
+		return negative ? result : -result;
+	}
+
+	/**
+	 * Parses a duration, in milliseconds, from a region of a text.
+	 * <p>
+	 * The duration is either an ISO-8601 duration (such as {@code PT1H30M}) or a number followed by one of the
+	 * {@code ms}, {@code s}, {@code m}, {@code h} or {@code d} units, a number without unit being expressed in
+	 * seconds.
+	 * <hr>
+	 * @param source Source text.
+	 * @param start Start index (inclusive).
+	 * @param end End index (exclusive).
+	 * @return Duration in milliseconds.
+	 * @throws NumberFormatException Thrown in case the region does not hold a valid duration.
+	 */
+	@SuppressWarnings("nls")
+	private static final long parseDuration(final CharSequence source, final int start, final int end)
+	{
+		if (start < end && Character.toUpperCase(source.charAt(start)) == 'P')
+		{
+			try
+			{
+				return Duration.parse(toString(source, start, end)).toMillis();
+			}
+			catch (DateTimeParseException | ArithmeticException e)
+			{
+				throw invalidNumber(source, start, end);
+			}
+		}
+
+		int unit = start;
+		while (unit < end && (Character.isDigit(source.charAt(unit)) || (unit == start && (source.charAt(unit) == '-' || source.charAt(unit) == '+'))))
+		{
+			unit++;
+		}
+
+		long amount = parseLong(source, start, unit);
+		long factor;
+
+		if (unit == end || regionEqualsIgnoreCase(source, unit, end, "s"))
+		{
+			factor = MILLIS_PER_SECOND;
+		}
+		else if (regionEqualsIgnoreCase(source, unit, end, "ms"))
+		{
+			factor = 1;
+		}
+		else if (regionEqualsIgnoreCase(source, unit, end, "m"))
+		{
+			factor = 60 * MILLIS_PER_SECOND;
+		}
+		else if (regionEqualsIgnoreCase(source, unit, end, "h"))
+		{
+			factor = 60 * 60 * MILLIS_PER_SECOND;
+		}
+		else if (regionEqualsIgnoreCase(source, unit, end, "d"))
+		{
+			factor = 24 * 60 * 60 * MILLIS_PER_SECOND;
+		}
+		else
+		{
+			throw invalidNumber(source, start, end);
+		}
+
+		try
+		{
+			return Math.multiplyExact(amount, factor);
+		}
+		catch (ArithmeticException e)
+		{
+			throw invalidNumber(source, start, end);
+		}
+	}
+
+	/**
+	 * Checks if a region of a text is equal, ignoring the case, to a value.
+	 * <hr>
+	 * @param source Source text.
+	 * @param start Start index (inclusive).
+	 * @param end End index (exclusive).
+	 * @param value Value to compare to.
+	 * @return {@code True} if the region is equal to the value, {@code false} otherwise.
+	 */
+	private static final boolean regionEqualsIgnoreCase(final CharSequence source, final int start, final int end, final String value)
+	{
+		if (end - start != value.length())
+		{
+			return false;
+		}
+
+		for (int i = 0; i < value.length(); i++)
+		{
+			if (Character.toLowerCase(source.charAt(start + i)) != Character.toLowerCase(value.charAt(i)))
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns a region of a text as a string, without copy when the region covers a whole string.
+	 * <hr>
+	 * @param source Source text.
+	 * @param start Start index (inclusive).
+	 * @param end End index (exclusive).
+	 * @return String.
+	 */
+	private static final String toString(final CharSequence source, final int start, final int end)
+	{
+		if (start == 0 && end == source.length() && source instanceof String)
+		{
+			return (String) source;
+		}
+
+		return source.subSequence(start, end).toString();
+	}
+
+	/**
+	 * Creates the exception thrown for an invalid numeric value.
+	 * <hr>
+	 * @param source Source text.
+	 * @param start Start index (inclusive).
+	 * @param end End index (exclusive).
+	 * @return Exception.
+	 */
+	@SuppressWarnings("nls")
+	private static final NumberFormatException invalidNumber(final CharSequence source, final int start, final int end)
+	{
+		return new NumberFormatException("For input string: \"" + toString(source, start, end) + "\"");
+	}
 }
@@ -98,6 +98,15 @@ public class CommandParameterMetadata implements ICommandParameterMetadata
 	//@XStreamImplicit(itemFieldName = "example")
 	private List<String> examples;
 
+	/**
+	 * Creates a new empty command parameter metadata (definition), used to restore a parameter from a catalog
+	 * snapshot.
+	 */
+	CommandParameterMetadata()
+	{
+		// Empty.
+	}
+
 	/**
 	 * Creates a new command parameter metadata (definition).
 	 * <hr>
@@ -178,4 +187,14 @@ public class CommandParameterMetadata implements ICommandParameterMetadata
 	{
 		return protocolType;
 	}
+
+	/**
+	 * Sets the examples (used when restoring a parameter from a catalog snapshot).
+	 * <hr>
+	 * @param examples Examples.
+	 */
+	final void setExamples(final List<String> examples)
+	{
+		this.examples = examples;
+	}
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.command;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.heliosphere.athena.base.command.internal.IParameterConverter;
+import com.heliosphere.athena.base.command.internal.protocol.IParameterType;
+import com.heliosphere.athena.base.command.protocol.DefaultParameterType;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Registry of the conversions applied to the values of the custom parameter types (the types not defined by the
+ * {@link DefaultParameterType} enumeration).
+ * <p>
+ * A custom parameter type can either be stored as one of the default parameter types, its values being then parsed
+ * into a primitive without any allocation and read through the typed accessors of {@link CommandParameter}, or be
+ * converted by a {@link IParameterConverter} into any object. The values of a custom parameter type having no
+ * registered conversion are kept as strings.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@UtilityClass
+public final class ParameterConverterRegistry
+{
+	/**
+	 * Default parameter types used to store the custom parameter types.
+	 */
+	private static final Map<Enum<? extends IParameterType>, DefaultParameterType> STORAGES = new ConcurrentHashMap<>();
+
+	/**
+	 * Converters of the custom parameter types.
+	 */
+	private static final Map<Enum<? extends IParameterType>, IParameterConverter> CONVERTERS = new ConcurrentHashMap<>();
+
+	/**
+	 * Registers a custom parameter type stored as a default parameter type.
+	 * <hr>
+	 * @param type Custom parameter type.
+	 * @param storage Default parameter type used to parse and store the values.
+	 */
+	public static final void register(final @NonNull Enum<? extends IParameterType> type, final @NonNull DefaultParameterType storage)
+	{
+		CONVERTERS.remove(type);
+		STORAGES.put(type, storage);
+	}
+
+	/**
+	 * Registers a converter for a custom parameter type.
+	 * <hr>
+	 * @param type Custom parameter type.
+	 * @param converter Converter of the values.
+	 */
+	public static final void register(final @NonNull Enum<? extends IParameterType> type, final @NonNull IParameterConverter converter)
+	{
+		STORAGES.remove(type);
+		CONVERTERS.put(type, converter);
+	}
+
+	/**
+	 * Unregisters the conversion of a custom parameter type, its values being then kept as strings.
+	 * <hr>
+	 * @param type Custom parameter type.
+	 */
+	public static final void unregister(final @NonNull Enum<? extends IParameterType> type)
+	{
+		STORAGES.remove(type);
+		CONVERTERS.remove(type);
+	}
+
+	/**
+	 * Returns the default parameter type used to store the values of a parameter type.
+	 * <hr>
+	 * @param type Parameter type.
+	 * @return Default parameter type or {@code null} if the values of the parameter type are not stored as a default
+	 * parameter type.
+	 */
+	public static final DefaultParameterType getStorage(final Enum<? extends IParameterType> type)
+	{
+		if (type instanceof DefaultParameterType)
+		{
+			return (DefaultParameterType) type;
+		}
+
+		return type != null ? STORAGES.get(type) : null;
+	}
+
+	/**
+	 * Returns the converter of a custom parameter type.
+	 * <hr>
+	 * @param type Parameter type.
+	 * @return Converter or {@code null} if no converter is registered for this parameter type.
+	 */
+	public static final IParameterConverter getConverter(final Enum<? extends IParameterType> type)
+	{
+		return type != null ? CONVERTERS.get(type) : null;
+	}
+}
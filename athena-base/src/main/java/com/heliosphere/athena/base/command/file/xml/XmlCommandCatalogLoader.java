@@ -0,0 +1,342 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.command.file.xml;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import com.heliosphere.athena.base.command.internal.ICommandMetadata;
+import com.heliosphere.athena.base.command.internal.ICommandParameterMetadata;
+import com.heliosphere.athena.base.command.internal.exception.CommandInitializationException;
+import com.heliosphere.athena.base.command.internal.interpreter.ICommandInterpreter;
+import com.heliosphere.athena.base.command.internal.protocol.ICommandProtocolType;
+import com.heliosphere.athena.base.file.internal.FileException;
+import com.heliosphere.athena.base.file.internal.resource.Resource;
+import com.heliosphere.athena.base.resource.ResourceException;
+
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j;
+
+/**
+ * Loads in parallel the {@code XML} command files of a directory and registers their commands into a command
+ * interpreter.
+ * <p>
+ * The files are designated either by a directory (all its {@code *.xml} files) or by a glob pattern applying to the
+ * file names of a directory (for example {@code config/command/plugins/*-commands.xml}). Each file is parsed by a
+ * task of the executor (the common fork-join pool by default), then the commands are merged in the order of the file
+ * names, so a protocol type defined by several files is always reported for the same files, and registered at once.
+ * A protocol type already used by a command of the interpreter (for example a core command) is reported as well.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@Log4j
+public final class XmlCommandCatalogLoader
+{
+	/**
+	 * Glob pattern of the command files of a directory.
+	 */
+	@SuppressWarnings("nls")
+	private static final String DEFAULT_GLOB = "*.xml";
+
+	/**
+	 * Executor used to parse the command files.
+	 */
+	private final Executor executor;
+
+	/**
+	 * Creates a new command catalog loader using the common fork-join pool.
+	 */
+	public XmlCommandCatalogLoader()
+	{
+		this(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Creates a new command catalog loader.
+	 * <hr>
+	 * @param executor Executor used to parse the command files.
+	 */
+	public XmlCommandCatalogLoader(final @NonNull Executor executor)
+	{
+		this.executor = executor;
+	}
+
+	/**
+	 * Checks if a path name designates several command files (a directory or a glob pattern).
+	 * <hr>
+	 * @param pathname Path name.
+	 * @return {@code True} if the path name designates several command files, {@code false} otherwise.
+	 */
+	public static final boolean isCatalog(final @NonNull String pathname)
+	{
+		if (getWildcardIndex(pathname) != -1)
+		{
+			return true;
+		}
+
+		try
+		{
+			File file = new Resource(pathname).getFile();
+
+			return file != null && file.isDirectory();
+		}
+		catch (ResourceException e)
+		{
+			return false;
+		}
+	}
+
+	/**
+	 * Finds the command files designated by a directory or a glob pattern.
+	 * <hr>
+	 * @param pattern Directory or glob pattern.
+	 * @return Command files sorted by name.
+	 * @throws FileException Thrown in case the directory cannot be found or read.
+	 */
+	@SuppressWarnings("nls")
+	public static final List<File> find(final @NonNull String pattern) throws FileException
+	{
+		String directoryName = pattern;
+		String glob = DEFAULT_GLOB;
+
+		int wildcard = getWildcardIndex(pattern);
+		if (wildcard != -1)
+		{
+			int separator = Math.max(pattern.lastIndexOf('/', wildcard), pattern.lastIndexOf(File.separatorChar, wildcard));
+			directoryName = separator > 0 ? pattern.substring(0, separator) : ".";
+			glob = pattern.substring(separator + 1);
+		}
+
+		File directory;
+		try
+		{
+			directory = new Resource(directoryName).getFile();
+		}
+		catch (ResourceException e)
+		{
+			throw new FileException(e);
+		}
+
+		if (directory == null || !directory.isDirectory())
+		{
+			throw new FileException("Not a command file directory: " + directoryName);
+		}
+
+		PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + glob);
+		List<File> files = new ArrayList<>();
+
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory.toPath()))
+		{
+			for (Path path : stream)
+			{
+				if (Files.isRegularFile(path) && matcher.matches(path.getFileName()))
+				{
+					files.add(path.toFile());
+				}
+			}
+		}
+		catch (IOException e)
+		{
+			throw new FileException(e);
+		}
+
+		Collections.sort(files);
+
+		return files;
+	}
+
+	/**
+	 * Loads the command files designated by a directory or a glob pattern and registers their commands.
+	 * <hr>
+	 * @param pattern Directory or glob pattern.
+	 * @param interpreter Command interpreter to register the commands into.
+	 * @return Future completed once the commands have been registered or completed exceptionally with a
+	 * {@link FileException} in case a file cannot be loaded, defines a protocol type already defined by another file
+	 * or by a registered command, or its commands cannot be registered.
+	 */
+	public final CompletableFuture<Void> register(final @NonNull String pattern, final @NonNull ICommandInterpreter interpreter)
+	{
+		List<File> files;
+		try
+		{
+			files = find(pattern);
+		}
+		catch (FileException e)
+		{
+			CompletableFuture<Void> future = new CompletableFuture<>();
+			future.completeExceptionally(e);
+
+			return future;
+		}
+
+		List<CompletableFuture<List<ICommandMetadata>>> loads = new ArrayList<>(files.size());
+		for (File file : files)
+		{
+			loads.add(CompletableFuture.supplyAsync(() -> load(file), executor));
+		}
+
+		return CompletableFuture.allOf(loads.toArray(new CompletableFuture<?>[loads.size()])).thenRun(() ->
+		{
+			List<ICommandMetadata> commands = merge(files, loads, interpreter.getCommandDefinitions());
+
+			try
+			{
+				interpreter.registerCommands(commands);
+			}
+			catch (CommandInitializationException e)
+			{
+				throw new CompletionException(new FileException(e));
+			}
+
+			log.info(String.format("Command files registered [pattern=%s, files=%d, commands=%d]", pattern, Integer.valueOf(files.size()), Integer.valueOf(commands.size())));
+		});
+	}
+
+	/**
+	 * Loads a command file.
+	 * <hr>
+	 * @param file Command file.
+	 * @return Initialized commands.
+	 */
+	private static final List<ICommandMetadata> load(final File file)
+	{
+		XmlCommandFile commands = new XmlCommandFile(file.getPath());
+
+		try
+		{
+			commands.load();
+		}
+		catch (FileException e)
+		{
+			throw new CompletionException(e);
+		}
+
+		return commands.getContent();
+	}
+
+	/**
+	 * Merges the commands of the loaded files, in the order of the files.
+	 * <hr>
+	 * @param files Command files.
+	 * @param loads Loaded commands of each file.
+	 * @param registered Commands already registered.
+	 * @return Merged commands.
+	 */
+	@SuppressWarnings("nls")
+	private static final List<ICommandMetadata> merge(final List<File> files, final List<CompletableFuture<List<ICommandMetadata>>> loads, final List<ICommandMetadata> registered)
+	{
+		Set<Enum<? extends ICommandProtocolType>> existing = new HashSet<>();
+		for (ICommandMetadata command : registered)
+		{
+			existing.addAll(getProtocolTypes(command));
+		}
+
+		Map<Enum<? extends ICommandProtocolType>, File> owners = new HashMap<>();
+		List<ICommandMetadata> commands = new ArrayList<>();
+
+		for (int i = 0; i < files.size(); i++)
+		{
+			for (ICommandMetadata command : loads.get(i).join())
+			{
+				for (Enum<? extends ICommandProtocolType> protocol : getProtocolTypes(command))
+				{
+					if (existing.contains(protocol))
+					{
+						throw new CompletionException(new FileException(String.format("Protocol type: %1s already defined by a registered command [file=%2s]", protocol, files.get(i).getName())));
+					}
+
+					File owner = owners.putIfAbsent(protocol, files.get(i));
+					if (owner != null && !owner.equals(files.get(i)))
+					{
+						throw new CompletionException(new FileException(String.format("Protocol type: %1s defined in several command files [first=%2s, second=%3s]", protocol, owner.getName(), files.get(i).getName())));
+					}
+				}
+
+				commands.add(command);
+			}
+		}
+
+		return commands;
+	}
+
+	/**
+	 * Returns the protocol types of a command (declared at the command level or at the parameter level).
+	 * <hr>
+	 * @param command Command.
+	 * @return Protocol types.
+	 */
+	private static final Set<Enum<? extends ICommandProtocolType>> getProtocolTypes(final ICommandMetadata command)
+	{
+		Set<Enum<? extends ICommandProtocolType>> types = new LinkedHashSet<>();
+		if (command.getProtocolType() != null)
+		{
+			types.add(command.getProtocolType());
+		}
+
+		if (command.getParameters() != null)
+		{
+			for (ICommandParameterMetadata parameter : command.getParameters())
+			{
+				if (parameter.getProtocolType() != null)
+				{
+					types.add(parameter.getProtocolType());
+				}
+			}
+		}
+
+		return types;
+	}
+
+	/**
+	 * Returns the index of the first glob wildcard of a path name.
+	 * <hr>
+	 * @param pathname Path name.
+	 * @return Index or {@code -1} if the path name contains no wildcard.
+	 */
+	private static final int getWildcardIndex(final String pathname)
+	{
+		for (int i = 0; i < pathname.length(); i++)
+		{
+			switch (pathname.charAt(i))
+			{
+				case '*':
+				case '?':
+				case '[':
+				case '{':
+					return i;
+
+				default:
+					break;
+			}
+		}
+
+		return -1;
+	}
+}
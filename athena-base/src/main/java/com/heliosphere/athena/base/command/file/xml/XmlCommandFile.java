@@ -11,14 +11,18 @@
  */
 package com.heliosphere.athena.base.command.file.xml;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.heliosphere.athena.base.command.CommandCatalogSnapshot;
 import com.heliosphere.athena.base.command.CommandMetadata;
 import com.heliosphere.athena.base.command.CommandParameterMetadata;
 import com.heliosphere.athena.base.command.internal.ICommandMetadata;
 import com.heliosphere.athena.base.command.internal.ICommandParameterMetadata;
 import com.heliosphere.athena.base.command.internal.exception.CommandInitializationException;
+import com.heliosphere.athena.base.command.internal.interpreter.ICommandInterpreter;
 import com.heliosphere.athena.base.command.internal.protocol.ICommandCategoryType;
 import com.heliosphere.athena.base.command.internal.protocol.ICommandDomainType;
 import com.heliosphere.athena.base.command.internal.protocol.ICommandGroupType;
@@ -54,6 +58,11 @@ public final class XmlCommandFile extends XmlFile<Header, ICommandMetadata, Foot
 	@SuppressWarnings("nls")
 	private static final String FILE_ROOT_TAG = "chat-command-file";
 
+	/**
+	 * Default number of commands registered at once when loading in streaming mode.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 256;
+
 	/**
 	 * Creates a new XML file.
 	 * <hr>
@@ -66,7 +75,7 @@ public final class XmlCommandFile extends XmlFile<Header, ICommandMetadata, Foot
 
 	@SuppressWarnings("nls")
 	@Override
-	public final void setAliases()
+	protected final void setAliases()
 	{
 		super.setAliases();
 
@@ -84,6 +93,9 @@ public final class XmlCommandFile extends XmlFile<Header, ICommandMetadata, Foot
 		getEngine().alias("parameter", ICommandParameterMetadata.class, CommandParameterMetadata.class);
 		getEngine().alias("alias", String.class, String.class);
 		getEngine().alias("example", String.class, String.class);
+
+		// Processes the annotations of the commands and parameters.
+		getEngine().processAnnotations(new Class<?>[] { CommandMetadata.class, CommandParameterMetadata.class });
 	}
 
 	@Override
@@ -104,6 +116,127 @@ public final class XmlCommandFile extends XmlFile<Header, ICommandMetadata, Foot
 		}
 	}
 
+	/**
+	 * Loads the file, optionally through a binary snapshot of its initialized commands.
+	 * <p>
+	 * When the snapshot is used, it is read from the file having the name of this file followed by
+	 * {@link CommandCatalogSnapshot#EXTENSION} as long as it matches the current content of this file. Otherwise the
+	 * file is loaded as usual and the snapshot is (re)written next to it. Failing to write the snapshot does not
+	 * fail the load. Files packaged in a jar are always loaded as usual.
+	 * <hr>
+	 * @param snapshot Indicates if the snapshot must be used.
+	 * @throws FileException Thrown in case an error occurred while loading the file.
+	 */
+	public final void load(final boolean snapshot) throws FileException
+	{
+		File file = getResource().getFile();
+		if (!snapshot || file == null)
+		{
+			// Resources not being plain files (packaged in a jar) have no snapshot.
+			load();
+			return;
+		}
+
+		File snapshotFile = CommandCatalogSnapshot.getSnapshotFile(file);
+		long hash;
+
+		try
+		{
+			hash = CommandCatalogSnapshot.hash(file);
+		}
+		catch (IOException e)
+		{
+			throw new FileException(e);
+		}
+
+		CommandCatalogSnapshot catalog = CommandCatalogSnapshot.read(snapshotFile, hash);
+		if (catalog != null)
+		{
+			setHeader(catalog.getHeader());
+			setFooter(catalog.getFooter());
+			setContent(catalog.getCommands());
+			return;
+		}
+
+		load();
+
+		CommandCatalogSnapshot.write(snapshotFile, hash, getHeader(), getFooter(), getContent());
+	}
+
+	/**
+	 * Loads the commands in streaming mode and registers them into the given interpreter.
+	 * <p>
+	 * The commands are not kept by the file: each one is initialized as soon as it has been read and registered by
+	 * batches of {@link #DEFAULT_BATCH_SIZE} commands.
+	 * <hr>
+	 * @param interpreter Command interpreter to register the commands into.
+	 * @throws FileException Thrown in case an error occurred while reading the file or registering a command.
+	 */
+	public final void load(final @NonNull ICommandInterpreter interpreter) throws FileException
+	{
+		load(interpreter, DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * Loads the commands in streaming mode and registers them into the given interpreter.
+	 * <p>
+	 * The commands are not kept by the file: each one is initialized as soon as it has been read and registered by
+	 * batches, so the memory used stays bounded whatever the number of commands.
+	 * <hr>
+	 * @param interpreter Command interpreter to register the commands into.
+	 * @param batchSize Number of commands registered at once.
+	 * @throws FileException Thrown in case an error occurred while reading the file or registering a command.
+	 */
+	public final void load(final @NonNull ICommandInterpreter interpreter, final int batchSize) throws FileException
+	{
+		final List<ICommandMetadata> batch = new ArrayList<>(batchSize);
+
+		load(command -> {
+			try
+			{
+				command.initialize();
+			}
+			catch (CommandInitializationException e)
+			{
+				throw new FileException(e);
+			}
+
+			batch.add(command);
+			if (batch.size() >= batchSize)
+			{
+				register(interpreter, batch);
+			}
+		});
+
+		register(interpreter, batch);
+	}
+
+	/**
+	 * Registers a batch of commands into an interpreter and clears the batch.
+	 * <hr>
+	 * @param interpreter Command interpreter.
+	 * @param batch Commands to register.
+	 * @throws FileException Thrown in case an error occurred while registering a command.
+	 */
+	private static final void register(final ICommandInterpreter interpreter, final List<ICommandMetadata> batch) throws FileException
+	{
+		if (batch.isEmpty())
+		{
+			return;
+		}
+
+		try
+		{
+			interpreter.registerCommands(batch);
+		}
+		catch (CommandInitializationException e)
+		{
+			throw new FileException(e);
+		}
+
+		batch.clear();
+	}
+
 	/**
 	 * Finds commands matching the given command category.
 	 * <hr>
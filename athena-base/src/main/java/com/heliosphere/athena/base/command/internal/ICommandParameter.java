@@ -11,6 +11,8 @@
  */
 package com.heliosphere.athena.base.command.internal;
 
+import java.time.Duration;
+
 /**
  * Provides a basic behavior for a command parameter.
  * <hr>
@@ -46,4 +48,46 @@ public interface ICommandParameter
 	 * @return Command parameter value.
 	 */
 	Object getValue();
+
+	/**
+	 * Returns if the command parameter has a value.
+	 * <p>
+	 * @return {@code True} if the command parameter has a value, {@code false} otherwise.
+	 */
+	boolean hasValue();
+
+	/**
+	 * Returns the command parameter value of an {@code integer} parameter.
+	 * <p>
+	 * @return Command parameter value.
+	 */
+	int getInt();
+
+	/**
+	 * Returns the command parameter value of an {@code integer} or {@code long} parameter.
+	 * <p>
+	 * @return Command parameter value.
+	 */
+	long getLong();
+
+	/**
+	 * Returns the command parameter value of a numeric ({@code integer}, {@code long} or {@code double}) parameter.
+	 * <p>
+	 * @return Command parameter value.
+	 */
+	double getDouble();
+
+	/**
+	 * Returns the command parameter value of a {@code boolean} parameter.
+	 * <p>
+	 * @return Command parameter value.
+	 */
+	boolean getBoolean();
+
+	/**
+	 * Returns the command parameter value of a {@code duration} parameter.
+	 * <p>
+	 * @return Command parameter value.
+	 */
+	Duration getDuration();
 }
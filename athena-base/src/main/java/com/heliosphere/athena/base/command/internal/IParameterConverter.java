@@ -0,0 +1,32 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.command.internal;
+
+/**
+ * Functional interface converting the text of a command parameter value into the value of a custom parameter type.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface IParameterConverter
+{
+	/**
+	 * Converts the region of a text holding a parameter value.
+	 * <hr>
+	 * @param text Text containing the parameter value.
+	 * @param start Start index (inclusive) of the parameter value.
+	 * @param end End index (exclusive) of the parameter value.
+	 * @return Parameter value.
+	 */
+	Object convert(CharSequence text, int start, int end);
+}
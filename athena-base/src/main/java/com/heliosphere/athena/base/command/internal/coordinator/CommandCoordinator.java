@@ -12,8 +12,11 @@
 package com.heliosphere.athena.base.command.internal.coordinator;
 
 import java.awt.Color;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import com.heliosphere.athena.base.command.internal.ICommand;
 import com.heliosphere.athena.base.command.internal.exception.CommandException;
@@ -21,10 +24,20 @@ import com.heliosphere.athena.base.command.internal.exception.CommandNotFoundExc
 import com.heliosphere.athena.base.command.internal.interpreter.ICommandInterpreter;
 import com.heliosphere.athena.base.command.internal.processor.ExecutableCommand;
 import com.heliosphere.athena.base.command.internal.protocol.ICommandProtocolType;
+import com.heliosphere.athena.base.command.internal.protocol.ProtocolDispatchTable;
+import com.heliosphere.athena.base.command.response.CommandResponse;
+import com.heliosphere.athena.base.command.response.CommandStatusType;
+import com.heliosphere.athena.base.command.response.ICommandResponse;
 import com.heliosphere.athena.base.terminal.CommandTerminal;
 
+import lombok.NonNull;
+
 /**
  * An actor responsible to execute pre-implemented commands when they are issued (generally on a terminal).
+ * <p>
+ * Commands can be executed synchronously (on the caller's thread) or asynchronously on the executor of the
+ * command coordinator, which can be any {@link Executor} (a bounded thread pool, a fork-join pool, etc.). When no
+ * executor is given, the common fork-join pool is used.
  * <hr>
  * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Heliosphere</a>
  * @version 1.0.0
@@ -32,23 +45,50 @@ import com.heliosphere.athena.base.terminal.CommandTerminal;
 public class CommandCoordinator implements ICommandCoordinator
 {
 	/**
-	 * Pre-defined command processors.
+	 * Pre-defined command processors (replaced, never modified, when a command processor is registered).
+	 */
+	private volatile ProtocolDispatchTable<ExecutableCommand> executables = ProtocolDispatchTable.empty();
+
+	/**
+	 * Lock used to serialize the command processor registrations.
+	 */
+	private final Object lock = new Object();
+
+	/**
+	 * Last submitted asynchronous executions of the ordered command processors.
 	 */
-	private Map<Enum<? extends ICommandProtocolType>, ExecutableCommand> executables = new HashMap<>();
+	private final Map<Enum<? extends ICommandProtocolType>, CompletableFuture<ICommandResponse>> pending = new ConcurrentHashMap<>();
 
 	/**
 	 * Command terminal.
 	 */
 	private CommandTerminal terminal;
 
+	/**
+	 * Executor used to execute the commands asynchronously.
+	 */
+	private final Executor executor;
+
 	/**
 	 * Create a new command coordinator.
 	 * <hr>
 	 * @param terminal Command terminal.
 	 */
 	public CommandCoordinator(final CommandTerminal terminal)
+	{
+		this(terminal, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Create a new command coordinator.
+	 * <hr>
+	 * @param terminal Command terminal.
+	 * @param executor Executor used to execute the commands asynchronously.
+	 */
+	public CommandCoordinator(final CommandTerminal terminal, final @NonNull Executor executor)
 	{
 		this.terminal = terminal;
+		this.executor = executor;
 	}
 
 	@Override
@@ -65,14 +105,20 @@ public class CommandCoordinator implements ICommandCoordinator
 		{
 			terminal.appendToPane("Executable command cannot be null!\n", Color.ORANGE);
 		}
-		else if (executables.get(executable.getProtocolType()) != null)
-		{
-			terminal.appendToPane("A command definition is already registered for: ", Color.ORANGE);
-			terminal.appendToPane(executable.getProtocolType() + "\n", Color.ORANGE);
-		}
 		else
 		{
-			executables.put(executable.getProtocolType(), executable);
+			synchronized (lock)
+			{
+				if (executables.contains(executable.getProtocolType()))
+				{
+					terminal.appendToPane("A command definition is already registered for: ", Color.ORANGE);
+					terminal.appendToPane(executable.getProtocolType() + "\n", Color.ORANGE);
+				}
+				else
+				{
+					executables = executables.with(executable.getProtocolType(), executable);
+				}
+			}
 		}
 	}
 
@@ -99,4 +145,62 @@ public class CommandCoordinator implements ICommandCoordinator
 			throw new CommandNotFoundException();
 		}
 	}
+
+	@Override
+	public final CompletableFuture<ICommandResponse> executeAsync(final ICommand command) throws CommandNotFoundException
+	{
+		// Do we have a command processor for this command type?
+		final ExecutableCommand processor = executables.get(command.getMetadata().getProtocolType());
+		if (processor == null)
+		{
+			throw new CommandNotFoundException();
+		}
+
+		if (!processor.isOrdered())
+		{
+			return CompletableFuture.supplyAsync(() -> process(processor, command), executor);
+		}
+
+		// Chain the execution after the previous one submitted for the same protocol type (whatever its outcome).
+		final Enum<? extends ICommandProtocolType> protocol = processor.getProtocolType();
+		final CompletableFuture<ICommandResponse> future = pending.compute(protocol, (key, previous) -> previous == null
+				? CompletableFuture.supplyAsync(() -> process(processor, command), executor)
+				: previous.handle((response, exception) -> response).thenApplyAsync(response -> process(processor, command), executor));
+
+		// Forget the execution once completed unless another one has been chained after it.
+		future.whenComplete((response, exception) -> pending.remove(protocol, future));
+
+		return future;
+	}
+
+	/**
+	 * Executes a command through its command processor and builds the corresponding command response.
+	 * <hr>
+	 * @param processor Command processor.
+	 * @param command Command to execute.
+	 * @return Command response.
+	 */
+	@SuppressWarnings("nls")
+	private final ICommandResponse process(final ExecutableCommand processor, final ICommand command)
+	{
+		try
+		{
+			processor.execute(terminal, command);
+
+			return new CommandResponse(command, CommandStatusType.PROCESSED);
+		}
+		catch (CommandException e)
+		{
+			terminal.appendToPane(String.format("[ERROR] %1s\n", e.getMessage()), Color.ORANGE);
+
+			ICommandResponse response = new CommandResponse(command, CommandStatusType.FAILED);
+			if (e.getMessage() != null)
+			{
+				response.addMessage(e.getMessage());
+			}
+			response.addException(e);
+
+			return response;
+		}
+	}
 }
\ No newline at end of file
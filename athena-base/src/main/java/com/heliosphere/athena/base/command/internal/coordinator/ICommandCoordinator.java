@@ -11,11 +11,14 @@
  */
 package com.heliosphere.athena.base.command.internal.coordinator;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.heliosphere.athena.base.command.internal.ICommand;
 import com.heliosphere.athena.base.command.internal.ICommandMetadata;
 import com.heliosphere.athena.base.command.internal.exception.CommandNotFoundException;
 import com.heliosphere.athena.base.command.internal.interpreter.ICommandInterpreter;
 import com.heliosphere.athena.base.command.internal.processor.ExecutableCommand;
+import com.heliosphere.athena.base.command.response.ICommandResponse;
 
 /**
  * Provides a basic behavior for a command coordinator.
@@ -49,6 +52,21 @@ public interface ICommandCoordinator
 	 */
 	void execute(ICommand command) throws CommandNotFoundException;
 
+	/**
+	 * Executes a command asynchronously.
+	 * <p>
+	 * The command processor is resolved immediately but the command is executed by the executor of the command
+	 * coordinator. Commands of a processor declared as ordered (see {@link ExecutableCommand#isOrdered()}) are
+	 * executed in their submission order.
+	 * <hr>
+	 * @param command Command to execute.
+	 * @return Future completed with the response of the command execution.
+	 * @throws CommandNotFoundException Thrown to indicate the command coordinator has not been able to execute the command
+	 * because its definition has not been found (For example: command definition not registered by the command coordinator).
+	 * <br> In such a case, it's the responsibility of the caller to handle the execution of this command.
+	 */
+	CompletableFuture<ICommandResponse> executeAsync(ICommand command) throws CommandNotFoundException;
+
 	/**
 	 * Registers a new command processor.
 	 * <hr>
@@ -82,6 +82,46 @@ public class CommandException extends AbstractCheckedException
 		super(message);
 	}
 
+	/**
+	 * Exception thrown to indicate an error occurred while processing a {@link Command}, optionally without stack
+	 * trace (for invalid user inputs).
+	 * <p>
+	 * @param stackTrace {@code True} to fill in the stack trace, {@code false} otherwise.
+	 * @param key Exception key (enumerated value coming from an
+	 * enumeration implementing the {@link IExceptionType} or {@link IBundle} interface).
+	 * @param parameters List of parameters used to populate the exception
+	 * message.
+	 */
+	public CommandException(final boolean stackTrace, final Enum<?> key, final Object... parameters)
+	{
+		super(stackTrace, key, parameters);
+	}
+
+	/**
+	 * Exception thrown to indicate an error occurred while processing a {@link Command}, optionally without stack
+	 * trace (for invalid user inputs).
+	 * <p>
+	 * @param stackTrace {@code True} to fill in the stack trace, {@code false} otherwise.
+	 * @param message Message describing the error being the cause of the raised
+	 * exception.
+	 */
+	public CommandException(final boolean stackTrace, final String message)
+	{
+		super(stackTrace, message);
+	}
+
+	/**
+	 * Exception thrown to indicate an error occurred while processing a {@link Command}, optionally without stack
+	 * trace (for invalid user inputs).
+	 * <p>
+	 * @param stackTrace {@code True} to fill in the stack trace, {@code false} otherwise.
+	 * @param exception Parent exception.
+	 */
+	public CommandException(final boolean stackTrace, final Exception exception)
+	{
+		super(stackTrace, exception);
+	}
+
 	/**
 	 * Exception thrown to indicate an error occurred while processing a {@link Command}.
 	 * <p>
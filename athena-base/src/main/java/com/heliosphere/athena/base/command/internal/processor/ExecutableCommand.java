@@ -40,4 +40,18 @@ public interface ExecutableCommand
 	 * @throws CommandException Thrown in case an error occurred while processing the command.
 	 */
 	void execute(CommandTerminal terminal, ICommand command) throws CommandException;
+
+	/**
+	 * Returns if the commands handled by this executable command must be executed in their submission order.
+	 * <p>
+	 * When executed asynchronously by a command coordinator, the commands of an ordered executable command are
+	 * executed one after the other, while the commands of an unordered one (the default) can be executed
+	 * concurrently.
+	 * <hr>
+	 * @return {@code True} if the commands must be executed in order, {@code false} otherwise.
+	 */
+	default boolean isOrdered()
+	{
+		return false;
+	}
 }
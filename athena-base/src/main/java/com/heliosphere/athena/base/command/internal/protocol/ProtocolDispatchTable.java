@@ -0,0 +1,305 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.command.internal.protocol;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import lombok.NonNull;
+
+/**
+ * Immutable dispatch table associating values to command protocol types.
+ * <p>
+ * Values are stored in arrays indexed by the ordinal of the command protocol types, one array per protocol
+ * enumeration class. The array of the first registered protocol enumeration class is directly referenced so that
+ * looking up a value for this class neither computes a hash code nor walks a bucket.
+ * <p>
+ * Adding a value creates a new table (copy-on-write), so a table can be freely shared by concurrent readers once
+ * published (for example through a {@code volatile} field). Several values are added at once through a
+ * {@link Builder}.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ * @param <V> Type of the values.
+ */
+public final class ProtocolDispatchTable<V>
+{
+	/**
+	 * Empty dispatch table.
+	 */
+	@SuppressWarnings("rawtypes")
+	private static final ProtocolDispatchTable EMPTY = new ProtocolDispatchTable<>(null, null, Collections.<Class<?>, Object[]> emptyMap(), 0);
+
+	/**
+	 * Primary protocol enumeration class (the one of the first registered protocol type).
+	 */
+	private final Class<?> primary;
+
+	/**
+	 * Values of the primary protocol enumeration class, indexed by ordinal.
+	 */
+	private final Object[] slots;
+
+	/**
+	 * Values of the other protocol enumeration classes, indexed by ordinal.
+	 */
+	private final Map<Class<?>, Object[]> others;
+
+	/**
+	 * Number of values in the table.
+	 */
+	private final int size;
+
+	/**
+	 * Creates a new dispatch table.
+	 * <hr>
+	 * @param primary Primary protocol enumeration class.
+	 * @param slots Values of the primary protocol enumeration class.
+	 * @param others Values of the other protocol enumeration classes.
+	 * @param size Number of values.
+	 */
+	private ProtocolDispatchTable(final Class<?> primary, final Object[] slots, final Map<Class<?>, Object[]> others, final int size)
+	{
+		this.primary = primary;
+		this.slots = slots;
+		this.others = others;
+		this.size = size;
+	}
+
+	/**
+	 * Returns an empty dispatch table.
+	 * <hr>
+	 * @return Empty dispatch table.
+	 */
+	@SuppressWarnings("unchecked")
+	public static final <V> ProtocolDispatchTable<V> empty()
+	{
+		return EMPTY;
+	}
+
+	/**
+	 * Returns the value associated to a command protocol type.
+	 * <hr>
+	 * @param protocol Command protocol type.
+	 * @return Value or {@code null} if no value is associated to this protocol type.
+	 */
+	@SuppressWarnings("unchecked")
+	public final V get(final Enum<? extends ICommandProtocolType> protocol)
+	{
+		if (protocol == null)
+		{
+			return null;
+		}
+
+		// The runtime class of a constant only differs from its declaring class when the constant has a body.
+		if (protocol.getClass() == primary)
+		{
+			return (V) slots[protocol.ordinal()];
+		}
+
+		Class<?> type = protocol.getDeclaringClass();
+		Object[] values = type == primary ? slots : others.get(type);
+
+		return values != null ? (V) values[protocol.ordinal()] : null;
+	}
+
+	/**
+	 * Returns if a value is associated to a command protocol type.
+	 * <hr>
+	 * @param protocol Command protocol type.
+	 * @return {@code True} if a value is associated, {@code false} otherwise.
+	 */
+	public final boolean contains(final Enum<? extends ICommandProtocolType> protocol)
+	{
+		return get(protocol) != null;
+	}
+
+	/**
+	 * Returns the number of values in this table.
+	 * <hr>
+	 * @return Number of values.
+	 */
+	public final int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Returns a new dispatch table containing the values of this table and the given one.
+	 * <hr>
+	 * @param protocol Command protocol type.
+	 * @param value Value to associate to the command protocol type (replaces the existing one, if any).
+	 * @return New dispatch table.
+	 */
+	public final ProtocolDispatchTable<V> with(final @NonNull Enum<? extends ICommandProtocolType> protocol, final @NonNull V value)
+	{
+		Class<?> type = protocol.getDeclaringClass();
+		int count = contains(protocol) ? size : size + 1;
+
+		if (primary == null || type == primary)
+		{
+			Object[] values = slots != null ? slots.clone() : new Object[type.getEnumConstants().length];
+			values[protocol.ordinal()] = value;
+
+			return new ProtocolDispatchTable<>(type, values, others, count);
+		}
+
+		Map<Class<?>, Object[]> map = new IdentityHashMap<>(others);
+		Object[] values = map.get(type);
+		values = values != null ? values.clone() : new Object[type.getEnumConstants().length];
+		values[protocol.ordinal()] = value;
+		map.put(type, values);
+
+		return new ProtocolDispatchTable<>(primary, slots, Collections.unmodifiableMap(map), count);
+	}
+
+	/**
+	 * Returns a builder initialized with the values of this table.
+	 * <p>
+	 * The arrays of the table are copied once, so adding many values through the builder does not copy them for each
+	 * value as {@link #with(Enum, Object)} does.
+	 * <hr>
+	 * @return Dispatch table builder.
+	 */
+	public final Builder<V> toBuilder()
+	{
+		return new Builder<>(this);
+	}
+
+	/**
+	 * Mutable builder of a {@link ProtocolDispatchTable}, used to add several values at once.
+	 * <p>
+	 * A builder is not thread safe and cannot be used anymore once the table has been built.
+	 * <hr>
+	 * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+	 * @version 1.0.0
+	 * @param <V> Type of the values.
+	 */
+	public static final class Builder<V>
+	{
+		/**
+		 * Primary protocol enumeration class.
+		 */
+		private Class<?> primary;
+
+		/**
+		 * Values of the primary protocol enumeration class, indexed by ordinal.
+		 */
+		private Object[] slots;
+
+		/**
+		 * Values of the other protocol enumeration classes, indexed by ordinal.
+		 */
+		private Map<Class<?>, Object[]> others;
+
+		/**
+		 * Number of values.
+		 */
+		private int size;
+
+		/**
+		 * Creates a new builder initialized with the values of a table.
+		 * <hr>
+		 * @param table Dispatch table.
+		 */
+		private Builder(final ProtocolDispatchTable<V> table)
+		{
+			primary = table.primary;
+			slots = table.slots != null ? table.slots.clone() : null;
+			others = new IdentityHashMap<>();
+			for (Map.Entry<Class<?>, Object[]> entry : table.others.entrySet())
+			{
+				others.put(entry.getKey(), entry.getValue().clone());
+			}
+			size = table.size;
+		}
+
+		/**
+		 * Returns if a value is associated to a command protocol type.
+		 * <hr>
+		 * @param protocol Command protocol type.
+		 * @return {@code True} if a value is associated, {@code false} otherwise.
+		 */
+		public final boolean contains(final @NonNull Enum<? extends ICommandProtocolType> protocol)
+		{
+			Object[] values = getSlots(protocol.getDeclaringClass());
+
+			return values != null && values[protocol.ordinal()] != null;
+		}
+
+		/**
+		 * Associates a value to a command protocol type.
+		 * <hr>
+		 * @param protocol Command protocol type.
+		 * @param value Value to associate to the command protocol type (replaces the existing one, if any).
+		 * @return This builder.
+		 */
+		@SuppressWarnings("nls")
+		public final Builder<V> put(final @NonNull Enum<? extends ICommandProtocolType> protocol, final @NonNull V value)
+		{
+			if (others == null)
+			{
+				throw new IllegalStateException("Dispatch table already built!");
+			}
+
+			Class<?> type = protocol.getDeclaringClass();
+			Object[] values = getSlots(type);
+
+			if (values == null)
+			{
+				values = new Object[type.getEnumConstants().length];
+				if (primary == null)
+				{
+					primary = type;
+					slots = values;
+				}
+				else
+				{
+					others.put(type, values);
+				}
+			}
+
+			if (values[protocol.ordinal()] == null)
+			{
+				size++;
+			}
+			values[protocol.ordinal()] = value;
+
+			return this;
+		}
+
+		/**
+		 * Builds the dispatch table.
+		 * <hr>
+		 * @return Dispatch table.
+		 */
+		public final ProtocolDispatchTable<V> build()
+		{
+			Map<Class<?>, Object[]> map = others.isEmpty() ? Collections.<Class<?>, Object[]> emptyMap() : Collections.unmodifiableMap(others);
+			others = null;
+
+			return new ProtocolDispatchTable<>(primary, slots, map, size);
+		}
+
+		/**
+		 * Returns the values of a protocol enumeration class.
+		 * <hr>
+		 * @param type Protocol enumeration class.
+		 * @return Values or {@code null} if no value is associated to this class.
+		 */
+		private final Object[] getSlots(final Class<?> type)
+		{
+			return type == primary ? slots : others.get(type);
+		}
+	}
+}
@@ -0,0 +1,393 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.command.interpreter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.heliosphere.athena.base.command.internal.ICommandMetadata;
+import com.heliosphere.athena.base.command.internal.ICommandParameterMetadata;
+import com.heliosphere.athena.base.command.internal.exception.CommandInitializationException;
+import com.heliosphere.athena.base.command.internal.protocol.ICommandCategoryType;
+import com.heliosphere.athena.base.command.internal.protocol.ICommandDomainType;
+import com.heliosphere.athena.base.command.internal.protocol.ICommandGroupType;
+import com.heliosphere.athena.base.command.internal.protocol.ICommandProtocolType;
+import com.heliosphere.athena.base.command.internal.protocol.ProtocolDispatchTable;
+
+import lombok.extern.log4j.Log4j;
+
+/**
+ * Immutable index of the compiled commands registered in a {@link CommandInterpreter}.
+ * <p>
+ * The index is entirely computed when it is created so that resolving a command by its protocol type, by its
+ * category and name (or alias), or listing the commands of a category, group or domain are simple map lookups.
+ * Registering new commands creates a new index extending the previous one: only the new commands are indexed and
+ * only the entries they change are copied, the others being shared with the previous index.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@Log4j
+final class CommandIndex
+{
+	/**
+	 * Empty command index.
+	 */
+	static final CommandIndex EMPTY = new CommandIndex();
+
+	/**
+	 * Compiled commands (in registration order).
+	 */
+	private final List<CompiledCommand> compiled;
+
+	/**
+	 * Command definitions (in registration order).
+	 */
+	private final List<ICommandMetadata> definitions;
+
+	/**
+	 * Compiled commands by command protocol type.
+	 */
+	private final ProtocolDispatchTable<CompiledCommand> protocols;
+
+	/**
+	 * Compiled commands by name and alias, grouped by command category type.
+	 */
+	private final Map<Enum<? extends ICommandCategoryType>, Map<String, CompiledCommand>> names = new HashMap<>();
+
+	/**
+	 * Command definitions by command category type.
+	 */
+	private final Map<Enum<? extends ICommandCategoryType>, List<ICommandMetadata>> categories = new HashMap<>();
+
+	/**
+	 * Command definitions by command group type.
+	 */
+	private final Map<Enum<? extends ICommandGroupType>, List<ICommandMetadata>> groups = new HashMap<>();
+
+	/**
+	 * Command definitions by command domain type.
+	 */
+	private final Map<Enum<? extends ICommandDomainType>, List<ICommandMetadata>> domains = new HashMap<>();
+
+	/**
+	 * Builder of the protocol dispatch table (only used while the index is created).
+	 */
+	private ProtocolDispatchTable.Builder<CompiledCommand> builder;
+
+	/**
+	 * Entries copied from the previous index and modified while the index is created.
+	 */
+	private Set<Object> copied;
+
+	/**
+	 * Creates an empty command index.
+	 */
+	private CommandIndex()
+	{
+		compiled = Collections.emptyList();
+		definitions = Collections.emptyList();
+		protocols = ProtocolDispatchTable.empty();
+	}
+
+	/**
+	 * Creates a new command index extending a previous one.
+	 * <hr>
+	 * @param previous Previous command index (left unchanged).
+	 * @param commands Compiled commands to add to the index (in registration order).
+	 * @throws CommandInitializationException Thrown in case two commands are defined for the same command protocol type.
+	 */
+	CommandIndex(final CommandIndex previous, final List<CompiledCommand> commands) throws CommandInitializationException
+	{
+		List<CompiledCommand> compiledList = new ArrayList<>(previous.compiled.size() + commands.size());
+		List<ICommandMetadata> list = new ArrayList<>(previous.compiled.size() + commands.size());
+
+		compiledList.addAll(previous.compiled);
+		list.addAll(previous.definitions);
+
+		// Entries are shared with the previous index until a new command modifies them.
+		names.putAll(previous.names);
+		categories.putAll(previous.categories);
+		groups.putAll(previous.groups);
+		domains.putAll(previous.domains);
+
+		builder = previous.protocols.toBuilder();
+		copied = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		for (CompiledCommand command : commands)
+		{
+			compiledList.add(command);
+			list.add(command.getMetadata());
+			index(command);
+		}
+
+		protocols = builder.build();
+		compiled = Collections.unmodifiableList(compiledList);
+		definitions = Collections.unmodifiableList(list);
+
+		freeze(categories);
+		freeze(groups);
+		freeze(domains);
+
+		builder = null;
+		copied = null;
+	}
+
+	/**
+	 * Returns the compiled commands (in registration order).
+	 * <hr>
+	 * @return Unmodifiable list of compiled commands.
+	 */
+	final List<CompiledCommand> getCompiledCommands()
+	{
+		return compiled;
+	}
+
+	/**
+	 * Returns the command definitions (in registration order).
+	 * <hr>
+	 * @return Unmodifiable list of command definitions.
+	 */
+	final List<ICommandMetadata> getDefinitions()
+	{
+		return definitions;
+	}
+
+	/**
+	 * Returns the compiled command registered for a command protocol type.
+	 * <hr>
+	 * @param protocol Command protocol type.
+	 * @return Compiled command or {@code null} if none is registered for this protocol type.
+	 */
+	final CompiledCommand getByProtocol(final Enum<? extends ICommandProtocolType> protocol)
+	{
+		return protocols.get(protocol);
+	}
+
+	/**
+	 * Returns the compiled command matching a command category and a command name or alias.
+	 * <hr>
+	 * @param category Command category type.
+	 * @param nameOrAlias Command name or alias.
+	 * @return Compiled command or {@code null} if no command matches.
+	 */
+	final CompiledCommand getByName(final Enum<? extends ICommandCategoryType> category, final String nameOrAlias)
+	{
+		Map<String, CompiledCommand> map = names.get(category);
+
+		return map != null ? map.get(nameOrAlias) : null;
+	}
+
+	/**
+	 * Returns the command definitions of a command category.
+	 * <hr>
+	 * @param category Command category type.
+	 * @return Unmodifiable list of command definitions.
+	 */
+	final List<ICommandMetadata> findByCategory(final Enum<? extends ICommandCategoryType> category)
+	{
+		return get(categories, category);
+	}
+
+	/**
+	 * Returns the command definitions of a command group.
+	 * <hr>
+	 * @param group Command group type.
+	 * @return Unmodifiable list of command definitions.
+	 */
+	final List<ICommandMetadata> findByGroup(final Enum<? extends ICommandGroupType> group)
+	{
+		return get(groups, group);
+	}
+
+	/**
+	 * Returns the command definitions of a command domain.
+	 * <hr>
+	 * @param domain Command domain type.
+	 * @return Unmodifiable list of command definitions.
+	 */
+	final List<ICommandMetadata> findByDomain(final Enum<? extends ICommandDomainType> domain)
+	{
+		return get(domains, domain);
+	}
+
+	/**
+	 * Indexes a compiled command.
+	 * <hr>
+	 * @param command Compiled command to index.
+	 * @throws CommandInitializationException Thrown in case a command is already defined for one of the command protocol types.
+	 */
+	@SuppressWarnings("nls")
+	private final void index(final CompiledCommand command) throws CommandInitializationException
+	{
+		ICommandMetadata metadata = command.getMetadata();
+		Set<Enum<? extends ICommandProtocolType>> types = new LinkedHashSet<>();
+
+		// Is the command protocol type declared at the command level or at the parameter level?
+		if (metadata.getProtocolType() != null)
+		{
+			// Declared at command level.
+			types.add(metadata.getProtocolType());
+			register(metadata.getProtocolType(), command);
+		}
+		else
+		{
+			// Declared at parameter level.
+			for (int i = 0; i < command.getParameterCount(); i++)
+			{
+				ICommandParameterMetadata parameter = command.getParameter(i);
+				if (parameter.getProtocolType() != null)
+				{
+					register(parameter.getProtocolType(), command);
+					types.add(parameter.getProtocolType());
+				}
+			}
+		}
+
+		// Only one entry per category, group and domain even when the command protocol is defined at parameter level!
+		Set<Enum<? extends ICommandCategoryType>> indexedCategories = new LinkedHashSet<>();
+		Set<Enum<? extends ICommandGroupType>> indexedGroups = new LinkedHashSet<>();
+		Set<Enum<? extends ICommandDomainType>> indexedDomains = new LinkedHashSet<>();
+
+		for (Enum<? extends ICommandProtocolType> type : types)
+		{
+			ICommandProtocolType protocol = (ICommandProtocolType) type;
+			if (indexedCategories.add(protocol.getCategory()))
+			{
+				add(categories, protocol.getCategory(), metadata);
+				indexName(protocol.getCategory(), metadata.getName(), command);
+				if (metadata.getAliases() != null)
+				{
+					for (String alias : metadata.getAliases())
+					{
+						indexName(protocol.getCategory(), alias, command);
+					}
+				}
+			}
+			if (indexedGroups.add(protocol.getGroup()))
+			{
+				add(groups, protocol.getGroup(), metadata);
+			}
+			if (indexedDomains.add(protocol.getDomain()))
+			{
+				add(domains, protocol.getDomain(), metadata);
+			}
+		}
+	}
+
+	/**
+	 * Registers a compiled command for a command protocol type.
+	 * <hr>
+	 * @param protocol Command protocol type.
+	 * @param command Compiled command.
+	 * @throws CommandInitializationException Thrown in case a command is already defined for the command protocol type.
+	 */
+	@SuppressWarnings("nls")
+	private final void register(final Enum<? extends ICommandProtocolType> protocol, final CompiledCommand command) throws CommandInitializationException
+	{
+		if (builder.contains(protocol))
+		{
+			throw new CommandInitializationException("A command is already defined for protocol type: " + protocol);
+		}
+
+		builder.put(protocol, command);
+	}
+
+	/**
+	 * Indexes a command name or alias for a given command category. In case the name or alias is already used
+	 * in this category, the first registered command is kept.
+	 * <hr>
+	 * @param category Command category type.
+	 * @param nameOrAlias Command name or alias.
+	 * @param command Compiled command.
+	 */
+	@SuppressWarnings("nls")
+	private final void indexName(final Enum<? extends ICommandCategoryType> category, final String nameOrAlias, final CompiledCommand command)
+	{
+		Map<String, CompiledCommand> map = names.get(category);
+		if (map == null || !copied.contains(map))
+		{
+			// First modification of this entry by the new index.
+			map = map != null ? new HashMap<>(map) : new HashMap<>();
+			names.put(category, map);
+			copied.add(map);
+		}
+
+		CompiledCommand previous = map.get(nameOrAlias);
+		if (previous == null)
+		{
+			map.put(nameOrAlias, command);
+		}
+		else if (previous != command)
+		{
+			log.warn(String.format("Command name or alias already used [category=%1s, name=%2s, command=%3s], ignored for command: %4s", category, nameOrAlias, previous.getMetadata().getName(), command.getMetadata().getName()));
+		}
+	}
+
+	/**
+	 * Adds a command definition to a multi-valued index.
+	 * <hr>
+	 * @param map Index.
+	 * @param key Key.
+	 * @param metadata Command definition.
+	 */
+	private final <K> void add(final Map<K, List<ICommandMetadata>> map, final K key, final ICommandMetadata metadata)
+	{
+		List<ICommandMetadata> list = map.get(key);
+		if (list == null || !copied.contains(list))
+		{
+			// First modification of this entry by the new index.
+			list = list != null ? new ArrayList<>(list) : new ArrayList<>();
+			map.put(key, list);
+			copied.add(list);
+		}
+
+		list.add(metadata);
+	}
+
+	/**
+	 * Makes the lists of a multi-valued index modified by the new index unmodifiable (the other ones are shared with
+	 * the previous index and already unmodifiable).
+	 * <hr>
+	 * @param map Index.
+	 */
+	private final <K> void freeze(final Map<K, List<ICommandMetadata>> map)
+	{
+		for (Map.Entry<K, List<ICommandMetadata>> entry : map.entrySet())
+		{
+			if (copied.contains(entry.getValue()))
+			{
+				entry.setValue(Collections.unmodifiableList(entry.getValue()));
+			}
+		}
+	}
+
+	/**
+	 * Returns the command definitions of a multi-valued index.
+	 * <hr>
+	 * @param map Index.
+	 * @param key Key.
+	 * @return Unmodifiable list of command definitions (never {@code null}).
+	 */
+	private static final <K> List<ICommandMetadata> get(final Map<K, List<ICommandMetadata>> map, final K key)
+	{
+		List<ICommandMetadata> list = map.get(key);
+
+		return list != null ? list : Collections.<ICommandMetadata> emptyList();
+	}
+}
@@ -13,9 +13,7 @@ package com.heliosphere.athena.base.command.interpreter;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -40,6 +38,10 @@ import lombok.extern.log4j.Log4j;
 /**
  * Represents a command interpreter that is responsible to interpret a text entered on a command-line 
  * or a terminal and transform it to a command.
+ * <p>
+ * Command definitions are compiled into immutable {@link CompiledCommand} when registered, and the parsing
+ * state is local to each call to {@link #interpret(String)}, so a single interpreter can be shared by several
+ * threads.
  * <hr>
  * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
  * @version 1.0.0
@@ -48,85 +50,57 @@ import lombok.extern.log4j.Log4j;
 public final class CommandInterpreter implements ICommandInterpreter
 {
 	/**
-	 * Command regular expression.
+	 * Command regular expression (compiled once for all the interpreters).
 	 */
 	@SuppressWarnings("nls")
-	private final String COMMAND_REGEXP = "^\\s*+((\\*|/|#|%|.)\\s*+([a-zA-Z0-9_]*))";
+	private static final Pattern COMMAND_PATTERN = Pattern.compile("^\\s*+((\\*|/|#|%|.)\\s*+([a-zA-Z0-9_]*))");
 
 	/**
-	 * Collection of commands known by the command interpreter (grouped by command protocol type).
+	 * Index of the compiled commands known by the command interpreter.
+	 * <p>
+	 * The index is never modified once published, registering commands replaces it by a new one.
 	 */
-	private Map<Enum<? extends ICommandProtocolType>, ICommandMetadata> commands = null;
+	private volatile CommandIndex index = CommandIndex.EMPTY;
 
 	/**
-	 * Working copy of the original text command.
+	 * Lock used to serialize the command registrations.
 	 */
-	private String copy = null;
-
-	/**
-	 * Command protocol.
-	 */
-	private Enum<? extends ICommandProtocolType> protocol;
-
-	/**
-	 * Collection of already consumed parameters when interpreting a command.
-	 */
-	private Map<String, ICommandParameterMetadata> consumed = new HashMap<>();
+	private final Object lock = new Object();
 
 	/**
 	 * Creates a new command interpreter.
 	 */
 	public CommandInterpreter()
 	{
-		commands = new HashMap<>();
+		// Empty.
 	}
 
 	@Override
 	public final List<ICommandMetadata> getCommandDefinitions()
 	{
-		return Collections.unmodifiableList(new ArrayList<>(commands.values()));
+		return index.getDefinitions();
 	}
 
-	@SuppressWarnings("nls")
 	@Override
 	public final void registerCommand(final @NonNull ICommandMetadata metadata) throws CommandInitializationException
 	{
-		// Is the command protocol type declared at the command level or at the parameter level?
-		if (metadata.getProtocolType() != null)
-		{
-			// Declared at command level.
-			if (commands.get(metadata.getProtocolType()) == null)
-			{
-				commands.put(metadata.getProtocolType(), metadata);
-			}
-			else
-			{
-				throw new CommandInitializationException("A command is already defined for protocol type: " + metadata.getProtocolType());
-			}
-		}
-		else
-		{
-			// Declared at parameter level.
-			for (ICommandParameterMetadata parameter : metadata.getParameters())
-			{
-				if (commands.get(parameter.getProtocolType()) == null)
-				{
-					commands.put(parameter.getProtocolType(), metadata);
-				}
-				else
-				{
-					throw new CommandInitializationException("A command is already defined for protocol type: " + parameter.getProtocolType());
-				}
-			}
-		}
+		registerCommands(Collections.singletonList(metadata));
 	}
 
 	@Override
 	public final void registerCommands(final @NonNull List<ICommandMetadata> metadata) throws CommandInitializationException
 	{
-		for (ICommandMetadata definition : metadata)
+		synchronized (lock)
 		{
-			registerCommand(definition);
+			List<CompiledCommand> commands = new ArrayList<>(metadata.size());
+
+			for (ICommandMetadata definition : metadata)
+			{
+				commands.add(new CompiledCommand(definition));
+			}
+
+			// Only the new commands are compiled and indexed, the previous index is extended.
+			index = new CommandIndex(index, commands);
 		}
 	}
 
@@ -134,114 +108,33 @@ public final class CommandInterpreter implements ICommandInterpreter
 	 * Finds commands matching the given command category.
 	 * <hr>
 	 * @param category Command category.
-	 * @return List of commands.
+	 * @return Unmodifiable list of commands.
 	 */
 	protected final List<ICommandMetadata> findByCategory(final @NonNull Enum<? extends ICommandCategoryType> category)
 	{
-		List<ICommandMetadata> result = new ArrayList<>();
-
-		for (ICommandMetadata command : commands.values())
-		{
-			if (command.getProtocolType() != null)
-			{
-				if (((ICommandProtocolType) command.getProtocolType()).getCategory() == category)
-				{
-					result.add(command);
-				}
-			}
-			else
-			{
-				for (ICommandParameterMetadata parameter : command.getParameters())
-				{
-					if (parameter.getProtocolType() != null)
-					{
-						if (((ICommandProtocolType) parameter.getProtocolType()).getCategory() == category)
-						{
-							result.add(command);
-							break; // Only one entry when command protocol is defined at parameter level!
-						}
-					}
-				}
-			}
-		}
-
-		return result;
+		return index.findByCategory(category);
 	}
 
 	/**
 	 * Finds commands matching the given command group.
 	 * <hr>
 	 * @param group Command group.
-	 * @return List of commands.
+	 * @return Unmodifiable list of commands.
 	 */
 	protected final List<ICommandMetadata> findByGroup(final @NonNull Enum<? extends ICommandGroupType> group)
 	{
-		List<ICommandMetadata> result = new ArrayList<>();
-
-		for (ICommandMetadata command : commands.values())
-		{
-			if (command.getProtocolType() != null)
-			{
-				if (((ICommandProtocolType) command.getProtocolType()).getGroup() == group)
-				{
-					result.add(command);
-				}
-			}
-			else
-			{
-				for (ICommandParameterMetadata parameter : command.getParameters())
-				{
-					if (parameter.getProtocolType() != null)
-					{
-						if (((ICommandProtocolType) parameter.getProtocolType()).getGroup() == group)
-						{
-							result.add(command);
-							break; // Only one entry when command protocol is defined at parameter level!
-						}
-					}
-				}
-			}
-		}
-
-		return result;
+		return index.findByGroup(group);
 	}
 
 	/**
 	 * Finds commands matching the given command domain.
 	 * <hr>
 	 * @param domain Command domain.
-	 * @return List of commands.
+	 * @return Unmodifiable list of commands.
 	 */
 	protected final List<ICommandMetadata> findByDomain(final @NonNull Enum<? extends ICommandDomainType> domain)
 	{
-		List<ICommandMetadata> result = new ArrayList<>();
-
-		for (ICommandMetadata command : commands.values())
-		{
-			if (command.getProtocolType() != null)
-			{
-				if (((ICommandProtocolType) command.getProtocolType()).getDomain() == domain)
-				{
-					result.add(command);
-				}
-			}
-			else
-			{
-				for (ICommandParameterMetadata parameter : command.getParameters())
-				{
-					if (parameter.getProtocolType() != null)
-					{
-						if (((ICommandProtocolType) parameter.getProtocolType()).getDomain() == domain)
-						{
-							result.add(command);
-							break; // Only one entry when command protocol is defined at parameter level!
-						}
-					}
-				}
-			}
-		}
-
-		return result;
+		return index.findByDomain(domain);
 	}
 
 	/**
@@ -253,21 +146,10 @@ public final class CommandInterpreter implements ICommandInterpreter
 	 */
 	protected final ICommandMetadata getCommandByProtocol(final @NonNull Enum<? extends ICommandProtocolType> protocol, final @NonNull String nameOrAlias)
 	{
-		ICommandMetadata command = commands.get(protocol);
-		if (command != null)
+		CompiledCommand compiled = index.getByProtocol(protocol);
+		if (compiled != null && index.getByName(((ICommandProtocolType) protocol).getCategory(), nameOrAlias) == compiled)
 		{
-			if (command.getName().equals(nameOrAlias))
-			{
-				return command;
-			}
-
-			for (String alias : command.getAliases())
-			{
-				if (alias.equals(nameOrAlias))
-				{
-					return command;
-				}
-			}
+			return compiled.getMetadata();
 		}
 
 		return null;
@@ -282,61 +164,39 @@ public final class CommandInterpreter implements ICommandInterpreter
 	 */
 	protected final ICommandMetadata getCommandByCategory(final @NonNull Enum<? extends ICommandCategoryType> category, final @NonNull String nameOrAlias)
 	{
-		List<ICommandMetadata> list = findByCategory(category);
-
-		for (ICommandMetadata command : list)
-		{
-			if (command != null)
-			{
-				if (command.getName().equals(nameOrAlias))
-				{
-					return command;
-				}
-
-				for (String alias : command.getAliases())
-				{
-					if (alias.equals(nameOrAlias))
-					{
-						return command;
-					}
-				}
-			}
-		}
+		CompiledCommand compiled = index.getByName(category, nameOrAlias);
 
-		return null;
+		return compiled != null ? compiled.getMetadata() : null;
 	}
 
 	@SuppressWarnings("nls")
 	@Override
 	public final ICommand interpret(final @NonNull String text) throws CommandException
 	{
-		ICommand command = null;
+		ParseState state = new ParseState(text.trim());
 
-		copy = text.trim();
-
-		ICommandMetadata definition = extractCommand(text);
-		if (definition != null)
+		CompiledCommand compiled = extractCommand(text, state);
+		if (compiled == null)
 		{
-			List<ICommandParameter> parameters = extractParameters(definition);
-			if (definition.getParameters().size() > 0 && parameters.size() == 0 && protocol == null)
-			{
-				throw new CommandException("Unable to interpret command from: " + text);
-			}
-			if (parameters.isEmpty() || protocol == null)
-			{
-				protocol = definition.getProtocolType();
-			}
+			throw new CommandException(false, "Unknown command: " + text);
+		}
 
-			command = new Command(protocol, text);
-			command.setMetadata(definition);
-			for (ICommandParameter parameter : parameters)
-			{
-				command.addParameter(parameter);
-			}
+		ICommandMetadata definition = compiled.getMetadata();
+		List<ICommandParameter> parameters = extractParameters(compiled, state);
+		if (compiled.getParameterCount() > 0 && parameters.size() == 0 && state.protocol == null)
+		{
+			throw new CommandException(false, "Unable to interpret command from: " + text);
 		}
-		else
+		if (parameters.isEmpty() || state.protocol == null)
 		{
-			throw new CommandException("Unknown command: " + text);
+			state.protocol = definition.getProtocolType();
+		}
+
+		ICommand command = new Command(state.protocol, text);
+		command.setMetadata(definition);
+		for (ICommandParameter parameter : parameters)
+		{
+			command.addParameter(parameter);
 		}
 
 		return command;
@@ -346,18 +206,16 @@ public final class CommandInterpreter implements ICommandInterpreter
 	 * Extracts the command definition.
 	 * <hr>
 	 * @param original Original text to interpret as a command.
-	 * @return Command definition or {@code null} if no command definition has been identified.
+	 * @param state Parsing state of the current interpretation.
+	 * @return Compiled command or {@code null} if no command definition has been identified.
 	 * @throws CommandException Thrown in case an error occurred while extracting the command definition.
 	 */
 	@SuppressWarnings("nls")
-	protected ICommandMetadata extractCommand(final String original) throws CommandException
+	private final CompiledCommand extractCommand(final String original, final ParseState state) throws CommandException
 	{
-		String name = null;
-		Enum<? extends ICommandCategoryType> category = null;
-		ICommandMetadata definition = null;
+		CompiledCommand compiled = null;
 
-		Pattern pattern = Pattern.compile(COMMAND_REGEXP);
-		Matcher matcher = pattern.matcher(copy);
+		Matcher matcher = COMMAND_PATTERN.matcher(state.text);
 
 		// Find the command itself ; i.e. category + command
 		if (matcher.find())
@@ -368,54 +226,42 @@ public final class CommandInterpreter implements ICommandInterpreter
 
 				// A command cannot have blank characters!
 				value = value.replace(" ", "");
-				category = DefaultCommandCategoryType.fromPrefix(value.substring(0, 1));
-				name = value.substring(1, value.length());
-				definition = getCommandByCategory(category, name);
-				if (definition == null)
+				Enum<? extends ICommandCategoryType> category = DefaultCommandCategoryType.fromPrefix(value.substring(0, 1));
+				compiled = index.getByName(category, value.substring(1, value.length()));
+				if (compiled == null)
 				{
-					throw new CommandException("No command definition found matching: " + original);
+					throw new CommandException(false, "No command definition found matching: " + original);
 				}
-				protocol = definition.getProtocolType();
+				state.protocol = compiled.getMetadata().getProtocolType();
 			}
 			catch (Exception e)
 			{
-				throw new CommandException(e);
+				throw new CommandException(false, e);
 			}
 
-			// Reduce the original text by removing the found command pattern.
-			copy = copy.replace(matcher.group(1).trim(), "").trim();
+			// Reduce the text by removing the found command pattern.
+			state.text = state.text.substring(matcher.end(1)).trim();
 		}
 
-		return definition;
+		return compiled;
 	}
 
 	/**
 	 * Extract the parameters and their values.
 	 * <hr>
-	 * @param definition Command definition.
-	 * @return Command containing the extracted parameters.
+	 * @param compiled Compiled command.
+	 * @param state Parsing state of the current interpretation.
+	 * @return List of extracted parameters.
 	 */
-	protected List<ICommandParameter> extractParameters(final ICommandMetadata definition)
+	private static final List<ICommandParameter> extractParameters(final CompiledCommand compiled, final ParseState state)
 	{
-		boolean finish = false;
 		List<ICommandParameter> parameters = new ArrayList<>();
-		ICommandParameter parameter = null;
+		ICommandParameter parameter = getNextParameter(compiled, state);
 
-		while (finish == false)
+		while (parameter != null)
 		{
-			parameter = getNextParameter(definition);
-			if (parameter != null)
-			{
-				parameters.add(parameter);
-				if (copy.isEmpty())
-				{
-					finish = true;
-				}
-			}
-			else
-			{
-				finish = true;
-			}
+			parameters.add(parameter);
+			parameter = state.text.isEmpty() ? null : getNextParameter(compiled, state);
 		}
 
 		return parameters;
@@ -424,63 +270,71 @@ public final class CommandInterpreter implements ICommandInterpreter
 	/**
 	 * Get the next parameter.
 	 * <hr>
-	 * @param definition Command definition.
+	 * @param compiled Compiled command.
+	 * @param state Parsing state of the current interpretation.
 	 * @return Command parameter or {@code null} if no parameter has been identified.
 	 */
 	@SuppressWarnings("nls")
-	protected ICommandParameter getNextParameter(final ICommandMetadata definition)
+	private static final ICommandParameter getNextParameter(final CompiledCommand compiled, final ParseState state)
 	{
 		ICommandParameter parameter = null;
-		Pattern pattern = null;
-		Matcher matcher = null;
-		String tag = null;
-		String value = null;
 
 		// Get the next parameter present in the working copy of the command text.
-		for (ICommandParameterMetadata metadata : definition.getParameters())
+		for (int i = 0; i < compiled.getParameterCount(); i++)
 		{
-			if (!metadata.getTag().isEmpty())
+			ICommandParameterMetadata metadata = compiled.getParameter(i);
+			Pattern pattern = compiled.getPattern(i);
+
+			if (pattern != null)
 			{
 				// Does this parameter exist in the command text?
-				pattern = Pattern.compile(metadata.getRegExp());
-				matcher = pattern.matcher(copy);
+				Matcher matcher = pattern.matcher(state.text);
 
 				if (matcher.find())
 				{
-					tag = matcher.group(1);
+					String tag = matcher.group(1);
+
+					// Region of the value in the command text (trimmed and parsed in place by the parameter).
+					int start = -1;
+					int end = -1;
 					for (int index = 2; index <= matcher.groupCount(); index++)
 					{
-						if (matcher.group(index) != null)
+						if (matcher.start(index) != -1)
 						{
-							value = matcher.group(index).trim();
+							start = matcher.start(index);
+							end = matcher.end(index);
 						}
 					}
-				}
+					while (start < end && state.text.charAt(start) <= ' ')
+					{
+						start++;
+					}
+					while (end > start && state.text.charAt(end - 1) <= ' ')
+					{
+						end--;
+					}
 
-				if (tag != null)
-				{
-					tag = tag.replace("=", "");
-					if (tag.equals(metadata.getTag())) // We found a matching parameter!
+					if (tag != null && tag.replace("=", "").equals(metadata.getTag())) // We found a matching parameter!
 					{
 						// Let's extract set the parameter.
-						parameter = new CommandParameter(matcher.group(0), metadata, value);
-						protocol = metadata.getProtocolType() != null ? metadata.getProtocolType() : protocol;
+						parameter = new CommandParameter(matcher.group(0), metadata, start != -1 ? state.text : null, start, end);
+						state.protocol = metadata.getProtocolType() != null ? metadata.getProtocolType() : state.protocol;
 
 						// Remove the parameter text from the command text.
-						copy = copy.replace(matcher.group(0), "").trim();
+						state.text = (state.text.substring(0, matcher.start()) + state.text.substring(matcher.end())).trim();
 						return parameter;
 					}
 				}
 			}
 			else
 			{
-				parameter = new CommandParameter(copy, metadata, copy);
+				parameter = new CommandParameter(state.text, metadata, state.text);
 
 				// Remove the parameter text from the command text.
-				copy = copy.replace(copy, "").trim();
+				state.text = "";
 				if (metadata.getProtocolType() != null)
 				{
-					protocol = metadata.getProtocolType();
+					state.protocol = metadata.getProtocolType();
 				}
 
 				return parameter;
@@ -489,4 +343,32 @@ public final class CommandInterpreter implements ICommandInterpreter
 
 		return parameter;
 	}
+
+	/**
+	 * Holds the parsing state of a single command interpretation.
+	 * <p>
+	 * An instance is created for each call to {@link CommandInterpreter#interpret(String)} and is never shared between threads.
+	 */
+	private static final class ParseState
+	{
+		/**
+		 * Remaining text of the command to interpret.
+		 */
+		private String text;
+
+		/**
+		 * Command protocol identified so far.
+		 */
+		private Enum<? extends ICommandProtocolType> protocol;
+
+		/**
+		 * Creates a new parsing state.
+		 * <hr>
+		 * @param text Text of the command to interpret.
+		 */
+		private ParseState(final String text)
+		{
+			this.text = text;
+		}
+	}
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.command.interpreter;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import com.heliosphere.athena.base.command.internal.ICommandMetadata;
+import com.heliosphere.athena.base.command.internal.ICommandParameterMetadata;
+import com.heliosphere.athena.base.command.internal.exception.CommandInitializationException;
+
+import lombok.NonNull;
+
+/**
+ * Represents the immutable parse plan of a command definition.
+ * <p>
+ * The regular expressions of the command parameters are compiled once when the command is registered
+ * by the {@link CommandInterpreter}, so that a compiled command can be shared by any number of threads
+ * interpreting commands concurrently.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class CompiledCommand
+{
+	/**
+	 * Command definition (metadata).
+	 */
+	private final ICommandMetadata metadata;
+
+	/**
+	 * Command parameter definitions (in declaration order).
+	 */
+	private final ICommandParameterMetadata[] parameters;
+
+	/**
+	 * Compiled regular expressions of the parameters (same index as the parameters). An entry is {@code null} for an untagged parameter.
+	 */
+	private final Pattern[] patterns;
+
+	/**
+	 * Creates a new compiled command.
+	 * <hr>
+	 * @param metadata Command definition to compile.
+	 * @throws CommandInitializationException Thrown in case a parameter regular expression cannot be compiled.
+	 */
+	@SuppressWarnings("nls")
+	public CompiledCommand(final @NonNull ICommandMetadata metadata) throws CommandInitializationException
+	{
+		this.metadata = metadata;
+
+		List<ICommandParameterMetadata> list = metadata.getParameters();
+		int size = list != null ? list.size() : 0;
+
+		parameters = new ICommandParameterMetadata[size];
+		patterns = new Pattern[size];
+
+		for (int i = 0; i < size; i++)
+		{
+			ICommandParameterMetadata parameter = list.get(i);
+			parameters[i] = parameter;
+
+			if (parameter.getTag() != null && !parameter.getTag().isEmpty())
+			{
+				String regexp = parameter.getRegExp();
+				if (regexp == null)
+				{
+					throw new CommandInitializationException(String.format("Parameter has no regular expression [command=%1s, parameter=%2s]", metadata.getName(), parameter.getName()));
+				}
+
+				try
+				{
+					patterns[i] = Pattern.compile(regexp);
+				}
+				catch (PatternSyntaxException e)
+				{
+					throw new CommandInitializationException(String.format("Unable to compile parameter regular expression [command=%1s, parameter=%2s, regexp=%3s]", metadata.getName(), parameter.getName(), regexp), e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the command definition.
+	 * <hr>
+	 * @return Command metadata.
+	 */
+	public final ICommandMetadata getMetadata()
+	{
+		return metadata;
+	}
+
+	/**
+	 * Returns the number of parameters of the command.
+	 * <hr>
+	 * @return Number of parameters.
+	 */
+	public final int getParameterCount()
+	{
+		return parameters.length;
+	}
+
+	/**
+	 * Returns the parameter definition at the given index.
+	 * <hr>
+	 * @param index Parameter index.
+	 * @return Command parameter metadata.
+	 */
+	public final ICommandParameterMetadata getParameter(final int index)
+	{
+		return parameters[index];
+	}
+
+	/**
+	 * Returns the compiled regular expression of the parameter at the given index.
+	 * <hr>
+	 * @param index Parameter index.
+	 * @return Compiled pattern or {@code null} if the parameter is untagged.
+	 */
+	public final Pattern getPattern(final int index)
+	{
+		return patterns[index];
+	}
+}
@@ -24,6 +24,7 @@ import com.heliosphere.athena.base.command.internal.protocol.ICommandCategoryTyp
 import com.heliosphere.athena.base.command.internal.protocol.ICommandProtocolType;
 import com.heliosphere.athena.base.command.protocol.DefaultCommandProtocol;
 import com.heliosphere.athena.base.terminal.CommandTerminal;
+import com.heliosphere.athena.base.terminal.StyledOutput;
 
 /**
  * Provides a concrete implementation for the standard {@code Help} command.
@@ -96,16 +97,20 @@ public final class HelpCommandProcessor implements ExecutableCommand
 	@SuppressWarnings("nls")
 	private final void extractHelpForAllCommands(final CommandTerminal terminal, final ICommand command)
 	{
-		terminal.getTerminal().println();
-		terminal.appendToPane("Available commands are: \n", Color.LIGHT_GRAY);
+		StyledOutput output = new StyledOutput();
+
+		output.newLine();
+		output.append("Available commands are: \n", Color.LIGHT_GRAY);
 		for (ICommandMetadata metadata : definitions)
 		{
-			terminal.appendToPane(" [", Color.LIGHT_GRAY);
-			terminal.appendToPane(String.format("%1$-15s", metadata.getName()), Color.ORANGE);
-			terminal.appendToPane("] ", Color.LIGHT_GRAY);
-			terminal.appendToPane(metadata.getDescription() + "\n", Color.WHITE);
+			output.append(" [", Color.LIGHT_GRAY);
+			output.append(String.format("%1$-15s", metadata.getName()), Color.ORANGE);
+			output.append("] ", Color.LIGHT_GRAY);
+			output.append(metadata.getDescription() + "\n", Color.WHITE);
 		}
-		terminal.getTerminal().println();
+		output.newLine();
+
+		terminal.write(output);
 	}
 
 	/**
@@ -117,18 +122,22 @@ public final class HelpCommandProcessor implements ExecutableCommand
 	@SuppressWarnings({ "nls", "static-method" })
 	private final void extractCommandCategories(final CommandTerminal terminal, final ICommand command)
 	{
-		terminal.getTerminal().println();
-		terminal.appendToPane("Available command categories are: \n", Color.LIGHT_GRAY);
+		StyledOutput output = new StyledOutput();
+
+		output.newLine();
+		output.append("Available command categories are: \n", Color.LIGHT_GRAY);
 		Enum<?>[] enums = ((ICommandProtocolType) command.getMetadata().getProtocolType()).getCategory().getDeclaringClass().getEnumConstants();
 
 		for (int i = 0; i < enums.length; i++)
 		{
-			terminal.appendToPane(" [", Color.LIGHT_GRAY);
-			terminal.appendToPane(((ICommandCategoryType) enums[i]).getPrefix(), Color.ORANGE);
-			terminal.appendToPane("] ", Color.LIGHT_GRAY);
-			terminal.appendToPane(enums[i].name() + "\n", Color.WHITE);
+			output.append(" [", Color.LIGHT_GRAY);
+			output.append(((ICommandCategoryType) enums[i]).getPrefix(), Color.ORANGE);
+			output.append("] ", Color.LIGHT_GRAY);
+			output.append(enums[i].name() + "\n", Color.WHITE);
 		}
-		terminal.getTerminal().println();
+		output.newLine();
+
+		terminal.write(output);
 	}
 
 	/**
@@ -155,67 +164,71 @@ public final class HelpCommandProcessor implements ExecutableCommand
 		other = getCommandDefinitionByName((String) command.getParameter("name").getValue());
 		if (other != null)
 		{
-			terminal.appendToPane(" \n", Color.WHITE);
-			terminal.appendToPane("-------------------- \n", Color.GREEN);
+			StyledOutput output = new StyledOutput();
+
+			output.append(" \n", Color.WHITE);
+			output.append("-------------------- \n", Color.GREEN);
 
-			terminal.appendToPane("Help on command: '", Color.WHITE);
-			terminal.appendToPane(other.getName(), Color.YELLOW);
-			terminal.appendToPane("' - ", Color.WHITE);
-			terminal.appendToPane(other.getDescription() + "\n", Color.CYAN);
+			output.append("Help on command: '", Color.WHITE);
+			output.append(other.getName(), Color.YELLOW);
+			output.append("' - ", Color.WHITE);
+			output.append(other.getDescription() + "\n", Color.CYAN);
 
-			terminal.appendToPane(" \n", Color.WHITE);
+			output.append(" \n", Color.WHITE);
 
 			// Aliases.
 			if (!other.getAliases().isEmpty())
 			{
-				terminal.appendToPane("Aliases:\n", Color.WHITE);
+				output.append("Aliases:\n", Color.WHITE);
 				for (String alias : other.getAliases())
 				{
-					terminal.appendToPane("|   ", Color.WHITE);
-					terminal.appendToPane(alias + "\n", Color.YELLOW);
+					output.append("|   ", Color.WHITE);
+					output.append(alias + "\n", Color.YELLOW);
 				}
 			}
 			else
 			{
-				terminal.appendToPane("No alias defined!\n", Color.WHITE);
+				output.append("No alias defined!\n", Color.WHITE);
 			}
 
 			// Parameters.
 			if (!other.getParameters().isEmpty())
 			{
-				terminal.appendToPane("Parameters:\n", Color.WHITE);
+				output.append("Parameters:\n", Color.WHITE);
 				for (ICommandParameterMetadata parameter : other.getParameters())
 				{
-					terminal.appendToPane(" - '", Color.WHITE);
-					terminal.appendToPane(parameter.getName(), Color.YELLOW);
-					terminal.appendToPane("' - ", Color.WHITE);
-					terminal.appendToPane(parameter.getDescription() + "\n", Color.CYAN);
-					terminal.appendToPane(" |__ RegExp   : ", Color.WHITE);
-					terminal.appendToPane(parameter.getRegExp() + "\n", Color.YELLOW);
+					output.append(" - '", Color.WHITE);
+					output.append(parameter.getName(), Color.YELLOW);
+					output.append("' - ", Color.WHITE);
+					output.append(parameter.getDescription() + "\n", Color.CYAN);
+					output.append(" |__ RegExp   : ", Color.WHITE);
+					output.append(parameter.getRegExp() + "\n", Color.YELLOW);
 
 					// Examples.
 					if (parameter.getExamples() != null && !parameter.getExamples().isEmpty())
 					{
-						terminal.appendToPane(" |__ Examples :\n", Color.WHITE);
+						output.append(" |__ Examples :\n", Color.WHITE);
 						for (String example : parameter.getExamples())
 						{
-							terminal.appendToPane("     |_ ", Color.WHITE);
-							terminal.appendToPane(example + "\n", Color.YELLOW);
+							output.append("     |_ ", Color.WHITE);
+							output.append(example + "\n", Color.YELLOW);
 						}
 					}
 					else
 					{
-						terminal.appendToPane(" |__ No example defined!\n", Color.WHITE);
+						output.append(" |__ No example defined!\n", Color.WHITE);
 					}
 				}
 			}
 			else
 			{
-				terminal.appendToPane("No parmater defined!\n", Color.WHITE);
+				output.append("No parmater defined!\n", Color.WHITE);
 			}
 
-			terminal.appendToPane("-------------------- \n", Color.GREEN);
-			terminal.appendToPane(" \n", Color.WHITE);
+			output.append("-------------------- \n", Color.GREEN);
+			output.append(" \n", Color.WHITE);
+
+			terminal.write(output);
 		}
 	}
 
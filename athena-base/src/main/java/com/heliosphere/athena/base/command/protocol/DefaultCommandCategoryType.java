@@ -11,10 +11,10 @@
  */
 package com.heliosphere.athena.base.command.protocol;
 
+import com.heliosphere.athena.base.EnumIndex;
 import com.heliosphere.athena.base.command.internal.protocol.ICommandCategoryType;
 import com.heliosphere.athena.base.exception.InvalidArgumentException;
 import com.heliosphere.athena.base.resource.bundle.BundleAthenaBase;
-import com.heliosphere.athena.base.resource.bundle.ResourceBundleManager;
 
 /**
  * Enumeration defining a {@code default} set of command category types.
@@ -54,6 +54,11 @@ public enum DefaultCommandCategoryType implements ICommandCategoryType
 	 */
 	SYSTEM(".");
 
+	/**
+	 * Command categories by prefix (several categories can share a same prefix, the first declared one is retained).
+	 */
+	private static final EnumIndex<DefaultCommandCategoryType> PREFIXES = EnumIndex.byKey(DefaultCommandCategoryType.class, DefaultCommandCategoryType::getPrefix, true);
+
 	/**
 	 * Command category prefix.
 	 */
@@ -89,18 +94,16 @@ public enum DefaultCommandCategoryType implements ICommandCategoryType
 	{
 		if (value == null || value.trim().length() == 0)
 		{
-			throw new InvalidArgumentException(ResourceBundleManager.getMessage(BundleAthenaBase.CommandCategoryCannotBeNull));
+			throw new InvalidArgumentException(BundleAthenaBase.CommandCategoryCannotBeNull);
 		}
 
-		for (DefaultCommandCategoryType element : DefaultCommandCategoryType.values())
+		DefaultCommandCategoryType element = EnumIndex.byName(DefaultCommandCategoryType.class).find(value);
+		if (element != null)
 		{
-			if (element.name().equalsIgnoreCase(value))
-			{
-				return element;
-			}
+			return element;
 		}
 
-		throw new InvalidArgumentException(ResourceBundleManager.getMessage(BundleAthenaBase.CannotCreateEnumerated, DefaultCommandCategoryType.class.getName(), value));
+		throw new InvalidArgumentException(BundleAthenaBase.CannotCreateEnumerated, DefaultCommandCategoryType.class.getName(), value);
 	}
 
 	/**
@@ -116,17 +119,16 @@ public enum DefaultCommandCategoryType implements ICommandCategoryType
 	{
 		if (prefix == null || prefix.trim().length() == 0)
 		{
-			throw new InvalidArgumentException(ResourceBundleManager.getMessage(BundleAthenaBase.CommandCategoryCannotBeNull));
+			throw new InvalidArgumentException(BundleAthenaBase.CommandCategoryCannotBeNull);
 		}
 
-		for (DefaultCommandCategoryType value : DefaultCommandCategoryType.values())
+		DefaultCommandCategoryType value = PREFIXES.find(prefix);
+		if (value != null)
 		{
-			if (value.getPrefix().equalsIgnoreCase(prefix))
-			{
-				return value;
-			}
+			return value;
 		}
 
-		throw new InvalidArgumentException(ResourceBundleManager.getMessage(BundleAthenaBase.CannotCreateEnumerated, DefaultCommandCategoryType.class.getName(), prefix));
+		// Invalid user input, no need for a stack trace.
+		throw new InvalidArgumentException(false, BundleAthenaBase.CannotCreateEnumerated, DefaultCommandCategoryType.class.getName(), prefix);
 	}
 }
@@ -11,10 +11,10 @@
  */
 package com.heliosphere.athena.base.command.protocol;
 
+import com.heliosphere.athena.base.EnumIndex;
 import com.heliosphere.athena.base.command.internal.protocol.ICommandCodeType;
 import com.heliosphere.athena.base.exception.InvalidArgumentException;
 import com.heliosphere.athena.base.resource.bundle.BundleAthenaBase;
-import com.heliosphere.athena.base.resource.bundle.ResourceBundleManager;
 
 /**
  * Enumeration defining a set of basic command code types.
@@ -71,17 +71,15 @@ public enum DefaultCommandCodeType implements ICommandCodeType
 	{
 		if (value == null || value.trim().length() == 0)
 		{
-			throw new InvalidArgumentException(ResourceBundleManager.getMessage(BundleAthenaBase.CommandCategoryCannotBeNull));
+			throw new InvalidArgumentException(BundleAthenaBase.CommandCategoryCannotBeNull);
 		}
 
-		for (DefaultCommandCodeType element : DefaultCommandCodeType.values())
+		DefaultCommandCodeType element = EnumIndex.byName(DefaultCommandCodeType.class).find(value);
+		if (element != null)
 		{
-			if (element.name().equalsIgnoreCase(value))
-			{
-				return element;
-			}
+			return element;
 		}
 
-		throw new InvalidArgumentException(ResourceBundleManager.getMessage(BundleAthenaBase.CannotCreateEnumerated, DefaultCommandCodeType.class.getName(), value));
+		throw new InvalidArgumentException(BundleAthenaBase.CannotCreateEnumerated, DefaultCommandCodeType.class.getName(), value);
 	}
 }
@@ -11,10 +11,10 @@
  */
 package com.heliosphere.athena.base.command.protocol;
 
+import com.heliosphere.athena.base.EnumIndex;
 import com.heliosphere.athena.base.command.internal.protocol.ICommandDomainType;
 import com.heliosphere.athena.base.exception.InvalidArgumentException;
 import com.heliosphere.athena.base.resource.bundle.BundleAthenaBase;
-import com.heliosphere.athena.base.resource.bundle.ResourceBundleManager;
 
 /**
  * Enumeration defining a set of {@code default} command domain types.
@@ -46,17 +46,15 @@ public enum DefaultCommandDomainType implements ICommandDomainType
 	{
 		if (value == null || value.trim().length() == 0)
 		{
-			throw new InvalidArgumentException(ResourceBundleManager.getMessage(BundleAthenaBase.CommandCategoryCannotBeNull));
+			throw new InvalidArgumentException(BundleAthenaBase.CommandCategoryCannotBeNull);
 		}
 
-		for (DefaultCommandDomainType element : DefaultCommandDomainType.values())
+		DefaultCommandDomainType element = EnumIndex.byName(DefaultCommandDomainType.class).find(value);
+		if (element != null)
 		{
-			if (element.name().equalsIgnoreCase(value))
-			{
-				return element;
-			}
+			return element;
 		}
 
-		throw new InvalidArgumentException(ResourceBundleManager.getMessage(BundleAthenaBase.CannotCreateEnumerated, DefaultCommandDomainType.class.getName(), value));
+		throw new InvalidArgumentException(BundleAthenaBase.CannotCreateEnumerated, DefaultCommandDomainType.class.getName(), value);
 	}
 }
@@ -11,10 +11,10 @@
  */
 package com.heliosphere.athena.base.command.protocol;
 
+import com.heliosphere.athena.base.EnumIndex;
 import com.heliosphere.athena.base.command.internal.protocol.ICommandGroupType;
 import com.heliosphere.athena.base.exception.InvalidArgumentException;
 import com.heliosphere.athena.base.resource.bundle.BundleAthenaBase;
-import com.heliosphere.athena.base.resource.bundle.ResourceBundleManager;
 
 /**
  * Enumeration defining a set of {@code default} command group types.
@@ -51,17 +51,15 @@ public enum DefaultCommandGroupType implements ICommandGroupType
 	{
 		if (value == null || value.trim().length() == 0)
 		{
-			throw new InvalidArgumentException(ResourceBundleManager.getMessage(BundleAthenaBase.CommandCategoryCannotBeNull));
+			throw new InvalidArgumentException(BundleAthenaBase.CommandCategoryCannotBeNull);
 		}
 
-		for (DefaultCommandGroupType element : DefaultCommandGroupType.values())
+		DefaultCommandGroupType element = EnumIndex.byName(DefaultCommandGroupType.class).find(value);
+		if (element != null)
 		{
-			if (element.name().equalsIgnoreCase(value))
-			{
-				return element;
-			}
+			return element;
 		}
 
-		throw new InvalidArgumentException(ResourceBundleManager.getMessage(BundleAthenaBase.CannotCreateEnumerated, DefaultCommandGroupType.class.getName(), value));
+		throw new InvalidArgumentException(BundleAthenaBase.CannotCreateEnumerated, DefaultCommandGroupType.class.getName(), value);
 	}
 }
@@ -11,13 +11,13 @@
  */
 package com.heliosphere.athena.base.command.protocol;
 
+import com.heliosphere.athena.base.EnumIndex;
 import com.heliosphere.athena.base.command.internal.protocol.ICommandCategoryType;
 import com.heliosphere.athena.base.command.internal.protocol.ICommandDomainType;
 import com.heliosphere.athena.base.command.internal.protocol.ICommandGroupType;
 import com.heliosphere.athena.base.command.internal.protocol.ICommandProtocolType;
 import com.heliosphere.athena.base.exception.InvalidArgumentException;
 import com.heliosphere.athena.base.resource.bundle.BundleAthenaBase;
-import com.heliosphere.athena.base.resource.bundle.ResourceBundleManager;
 
 import lombok.NonNull;
 
@@ -82,15 +82,13 @@ public enum DefaultCommandProtocol implements ICommandProtocolType
 			throw new InvalidArgumentException("Default command type string representation cannot be null or empty!");
 		}
 
-		for (DefaultCommandProtocol element : DefaultCommandProtocol.values())
+		DefaultCommandProtocol element = EnumIndex.byName(DefaultCommandProtocol.class).find(value);
+		if (element != null)
 		{
-			if (element.name().equalsIgnoreCase(value))
-			{
-				return element;
-			}
+			return element;
 		}
 
-		throw new InvalidArgumentException(ResourceBundleManager.getMessage(BundleAthenaBase.CannotCreateEnumerated, DefaultCommandProtocol.class.getName(), value));
+		throw new InvalidArgumentException(BundleAthenaBase.CannotCreateEnumerated, DefaultCommandProtocol.class.getName(), value);
 	}
 
 	@Override
@@ -11,10 +11,12 @@
  */
 package com.heliosphere.athena.base.command.protocol;
 
+import java.time.Duration;
+
+import com.heliosphere.athena.base.EnumIndex;
 import com.heliosphere.athena.base.command.internal.protocol.IParameterType;
 import com.heliosphere.athena.base.exception.InvalidArgumentException;
 import com.heliosphere.athena.base.resource.bundle.BundleAthenaBase;
-import com.heliosphere.athena.base.resource.bundle.ResourceBundleManager;
 
 import lombok.NonNull;
 
@@ -46,7 +48,23 @@ public enum DefaultParameterType implements IParameterType
 	/**
 	 * A parameter type accepting {@code boolean} value.
 	 */
-	BOOLEAN(Boolean.class.getName());
+	BOOLEAN(Boolean.class.getName()),
+
+	/**
+	 * A parameter type accepting {@code double} value.
+	 */
+	DOUBLE(Double.class.getName()),
+
+	/**
+	 * A parameter type accepting {@code duration} value (such as {@code 500ms}, {@code 30s}, {@code 5m}, {@code 2h},
+	 * {@code 1d} or an ISO-8601 duration such as {@code PT1H30M}).
+	 */
+	DURATION(Duration.class.getName());
+
+	/**
+	 * Parameter types by type name.
+	 */
+	private static final EnumIndex<DefaultParameterType> TYPES = EnumIndex.byKey(DefaultParameterType.class, DefaultParameterType::getType, false);
 
 	/**
 	 * Parameter type.
@@ -82,18 +100,16 @@ public enum DefaultParameterType implements IParameterType
 	{
 		if (value == null || value.trim().length() == 0)
 		{
-			throw new InvalidArgumentException(ResourceBundleManager.getMessage(BundleAthenaBase.CommandCategoryCannotBeNull));
+			throw new InvalidArgumentException(BundleAthenaBase.CommandCategoryCannotBeNull);
 		}
 
-		for (DefaultParameterType element : DefaultParameterType.values())
+		DefaultParameterType element = EnumIndex.byName(DefaultParameterType.class).find(value);
+		if (element != null)
 		{
-			if (element.name().equalsIgnoreCase(value))
-			{
-				return element;
-			}
+			return element;
 		}
 
-		throw new InvalidArgumentException(ResourceBundleManager.getMessage(BundleAthenaBase.CannotCreateEnumerated, DefaultParameterType.class.getName(), value));
+		throw new InvalidArgumentException(BundleAthenaBase.CannotCreateEnumerated, DefaultParameterType.class.getName(), value);
 	}
 
 	/**
@@ -109,17 +125,15 @@ public enum DefaultParameterType implements IParameterType
 	{
 		if (value == null || value.trim().length() == 0)
 		{
-			throw new InvalidArgumentException(ResourceBundleManager.getMessage(BundleAthenaBase.CommandCategoryCannotBeNull));
+			throw new InvalidArgumentException(BundleAthenaBase.CommandCategoryCannotBeNull);
 		}
 
-		for (DefaultParameterType element : DefaultParameterType.values())
+		DefaultParameterType element = TYPES.find(value);
+		if (element != null)
 		{
-			if (element.getType().equals(value))
-			{
-				return element;
-			}
+			return element;
 		}
 
-		throw new InvalidArgumentException(ResourceBundleManager.getMessage(BundleAthenaBase.CannotCreateEnumerated, DefaultParameterType.class.getName(), value));
+		throw new InvalidArgumentException(BundleAthenaBase.CannotCreateEnumerated, DefaultParameterType.class.getName(), value);
 	}
 }
@@ -11,10 +11,10 @@
  */
 package com.heliosphere.athena.base.exception;
 
-import java.text.MessageFormat;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 
 import com.heliosphere.athena.base.resource.bundle.IBundle;
-import com.heliosphere.athena.base.resource.bundle.ResourceBundleManager;
 
 /**
  * An abstract implementation of a checked exception.
@@ -44,6 +44,16 @@ public abstract class AbstractCheckedException extends Exception
 	 */
 	protected Enum<? extends IExceptionType> key;
 
+	/**
+	 * Message resolved on demand (when the exception has been created from a key).
+	 */
+	private transient ExceptionMessage lazyMessage;
+
+	/**
+	 * Resolved message (when the exception has been created from a key).
+	 */
+	private String resolvedMessage;
+
 	/**
 	 * Creates a new checked exception.
 	 */
@@ -59,7 +69,9 @@ public abstract class AbstractCheckedException extends Exception
 	 */
 	public AbstractCheckedException(final Enum<? extends IBundle> key)
 	{
-		super(ResourceBundleManager.getMessage(key));
+		super();
+
+		lazyMessage = new ExceptionMessage(key, null);
 	}
 
 	/**
@@ -99,13 +111,65 @@ public abstract class AbstractCheckedException extends Exception
 	 * @param key Exception key (enumerated value coming from an enumeration implementing the {@link IExceptionType} interface).
 	 * @param parameters List of parameters used to populate the exception message.
 	 */
-	@SuppressWarnings({ "unchecked" })
 	public AbstractCheckedException(final Enum<?> key, final Object... parameters)
 	{
-		super(key instanceof IBundle ? MessageFormat.format(ResourceBundleManager.getMessage((Enum<? extends IBundle>) key), parameters) : MessageFormat.format(((IExceptionType) key).getMessage(), parameters));
+		super();
+
+		initialize(key, parameters);
+	}
+
+	/**
+	 * Creates a new checked exception based on an enumerated value and given parameters, optionally without stack trace.
+	 * <p>
+	 * Exceptions without stack trace are cheap to create and are intended for the errors used as control flow (for
+	 * example, invalid user inputs).
+	 * <hr>
+	 * @param stackTrace {@code True} to fill in the stack trace, {@code false} otherwise.
+	 * @param key Exception key (enumerated value coming from an enumeration implementing the {@link IExceptionType} or {@link IBundle} interface).
+	 * @param parameters List of parameters used to populate the exception message.
+	 */
+	protected AbstractCheckedException(final boolean stackTrace, final Enum<?> key, final Object... parameters)
+	{
+		super(null, null, true, stackTrace);
+
+		initialize(key, parameters);
+	}
+
+	/**
+	 * Creates a new checked exception based on a message, optionally without stack trace.
+	 * <hr>
+	 * @param stackTrace {@code True} to fill in the stack trace, {@code false} otherwise.
+	 * @param message Message of the exception.
+	 */
+	protected AbstractCheckedException(final boolean stackTrace, final String message)
+	{
+		super(message, null, true, stackTrace);
+	}
+
+	/**
+	 * Creates a new checked exception based on a parent exception, optionally without stack trace.
+	 * <hr>
+	 * @param stackTrace {@code True} to fill in the stack trace, {@code false} otherwise.
+	 * @param exception Parent exception.
+	 */
+	protected AbstractCheckedException(final boolean stackTrace, final Exception exception)
+	{
+		super(exception != null ? exception.toString() : null, exception, true, stackTrace);
+	}
+
+	/**
+	 * Initializes the message and the key of the exception.
+	 * <hr>
+	 * @param key Exception key.
+	 * @param parameters List of parameters used to populate the exception message.
+	 */
+	@SuppressWarnings({ "unchecked" })
+	private final void initialize(final Enum<?> key, final Object... parameters)
+	{
+		lazyMessage = new ExceptionMessage(key, parameters);
 
 		// Do we have an exception in the parameter list?
-		for (Object o : parameters)
+		for (Object o : parameters != null ? parameters : new Object[0])
 		{
 			if (o instanceof AbstractCheckedException) // Do not override the original error code!
 			{
@@ -140,6 +204,29 @@ public abstract class AbstractCheckedException extends Exception
 		return key.getDeclaringClass();
 	}
 
+	@Override
+	public String getMessage()
+	{
+		if (resolvedMessage == null && lazyMessage != null)
+		{
+			resolvedMessage = lazyMessage.resolve();
+		}
+
+		return resolvedMessage != null ? resolvedMessage : super.getMessage();
+	}
+
+	/**
+	 * Resolves the message before serializing the exception (its parameters are not serialized).
+	 * <hr>
+	 * @param stream Output stream.
+	 * @throws IOException Thrown in case an error occurred while serializing the exception.
+	 */
+	private void writeObject(final ObjectOutputStream stream) throws IOException
+	{
+		getMessage();
+		stream.defaultWriteObject();
+	}
+
 	@Override
 	protected final Object clone() throws CloneNotSupportedException
 	{
@@ -0,0 +1,76 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.exception;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+
+import com.heliosphere.athena.base.resource.bundle.IBundle;
+import com.heliosphere.athena.base.resource.bundle.LocaleScope;
+import com.heliosphere.athena.base.resource.bundle.ResourceBundleManager;
+
+/**
+ * Message of an exception created from a key and parameters, resolved only when requested.
+ * <p>
+ * The locale of the current {@link LocaleScope}, if any, is captured at creation so the message is resolved in the
+ * language of the thread having raised the exception.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+final class ExceptionMessage
+{
+	/**
+	 * Message key (enumerated value coming from an enumeration implementing the {@link IBundle} or the
+	 * {@link IExceptionType} interface).
+	 */
+	private final Enum<?> key;
+
+	/**
+	 * Parameters of the message (can be {@code null}).
+	 */
+	private final Object[] parameters;
+
+	/**
+	 * Locale of the scope in which the message has been created (can be {@code null}).
+	 */
+	private final Locale locale;
+
+	/**
+	 * Creates a new exception message.
+	 * <hr>
+	 * @param key Message key.
+	 * @param parameters Parameters of the message (can be {@code null}).
+	 */
+	ExceptionMessage(final Enum<?> key, final Object[] parameters)
+	{
+		this.key = key;
+		this.parameters = parameters;
+		this.locale = LocaleScope.current();
+	}
+
+	/**
+	 * Resolves the message.
+	 * <hr>
+	 * @return Message.
+	 */
+	@SuppressWarnings("unchecked")
+	final String resolve()
+	{
+		if (key instanceof IBundle)
+		{
+			return locale != null ? ResourceBundleManager.getMessageFor((Enum<? extends IBundle>) key, locale, parameters) : ResourceBundleManager.getMessage((Enum<? extends IBundle>) key, parameters);
+		}
+
+		return MessageFormat.format(((IExceptionType) key).getMessage(), parameters);
+	}
+}
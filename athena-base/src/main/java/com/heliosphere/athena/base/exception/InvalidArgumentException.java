@@ -62,6 +62,23 @@ public class InvalidArgumentException extends AbstractUncheckedException
 		super(key, parameters);
 	}
 
+	/**
+	 * Thrown to indicate that a method has been passed an illegal or
+	 * inappropriate argument, optionally without stack trace (for invalid
+	 * user inputs).
+	 * <p>
+	 * @param stackTrace {@code True} to fill in the stack trace, {@code false}
+	 * otherwise.
+	 * @param key Exception key (enumerated value coming from an enumeration
+	 * implementing the {@link IExceptionType} or {@link IBundle} interface).
+	 * @param parameters List of parameters used to populate the exception
+	 * message.
+	 */
+	public InvalidArgumentException(final boolean stackTrace, final Enum<?> key, final Object... parameters)
+	{
+		super(stackTrace, key, parameters);
+	}
+
 	/**
 	 * Thrown to indicate that a method has been passed an illegal or
 	 * inappropriate argument.
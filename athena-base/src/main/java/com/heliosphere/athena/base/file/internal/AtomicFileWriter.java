@@ -0,0 +1,137 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.file.internal;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Writes files atomically: the content is written through a buffer into a temporary file of the same directory,
+ * forced to the storage device then renamed over the target file, the directory being forced as well (where
+ * supported) so the rename itself is durable.
+ * <p>
+ * A reader, or a crash during the write, therefore never sees a partially written file: the target file contains
+ * either its previous content or its new one.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@UtilityClass
+public final class AtomicFileWriter
+{
+	/**
+	 * Size of the write buffer.
+	 */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * Extension of the temporary files.
+	 */
+	@SuppressWarnings("nls")
+	private static final String TEMPORARY_EXTENSION = ".tmp";
+
+	/**
+	 * Writes a file atomically.
+	 * <hr>
+	 * @param target File to write.
+	 * @param writer Writer of the content of the file.
+	 * @throws IOException Thrown in case an error occurred while writing the file, the target file is then left
+	 * unchanged.
+	 */
+	public static final void write(final @NonNull File target, final @NonNull IContentWriter writer) throws IOException
+	{
+		Path destination = target.getAbsoluteFile().toPath();
+		Path temporary = Files.createTempFile(destination.getParent(), destination.getFileName().toString(), TEMPORARY_EXTENSION);
+
+		try
+		{
+			copyPermissions(destination, temporary);
+
+			try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+			{
+				OutputStream output = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+				writer.write(output);
+				output.flush();
+				channel.force(true);
+			}
+
+			try
+			{
+				Files.move(temporary, destination, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException e)
+			{
+				Files.move(temporary, destination, StandardCopyOption.REPLACE_EXISTING);
+			}
+
+			forceDirectory(destination.getParent());
+		}
+		finally
+		{
+			Files.deleteIfExists(temporary);
+		}
+	}
+
+	/**
+	 * Forces the content of a directory to the storage device, so the rename of the temporary file survives a crash.
+	 * <p>
+	 * Ignored on the platforms where a directory cannot be opened (Windows).
+	 * <hr>
+	 * @param directory Directory.
+	 */
+	private static final void forceDirectory(final Path directory)
+	{
+		try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ))
+		{
+			channel.force(true);
+		}
+		catch (IOException e)
+		{
+			// Directories cannot be opened or forced on this platform.
+		}
+	}
+
+	/**
+	 * Gives to the temporary file the permissions of the existing target file (temporary files are only readable by
+	 * their owner).
+	 * <hr>
+	 * @param source Existing target file.
+	 * @param temporary Temporary file.
+	 * @throws IOException Thrown in case the permissions cannot be copied.
+	 */
+	private static final void copyPermissions(final Path source, final Path temporary) throws IOException
+	{
+		if (Files.exists(source))
+		{
+			try
+			{
+				Files.setPosixFilePermissions(temporary, Files.getPosixFilePermissions(source));
+			}
+			catch (UnsupportedOperationException e)
+			{
+				// Not a POSIX file system.
+			}
+		}
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.file.internal;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import com.heliosphere.athena.base.file.internal.resource.IResource;
+
+import lombok.NonNull;
+
+/**
+ * Saves files asynchronously, coalescing the successive saves of a same file.
+ * <p>
+ * A save requested while a previous save of the same file is still waiting to be executed is merged with it: both
+ * requests share the same future and the file is written only once, with its state at the time of the write. A save
+ * requested while the file is being written leads to a new write once the current one is finished, the writes of a
+ * same file never overlapping. The files are identified by their absolute path, not by their file object.
+ * <p>
+ * The saves are executed by the given executor (a bounded thread pool, a fork-join pool, etc.).
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class CoalescingFileSaver
+{
+	/**
+	 * Executor used to save the files.
+	 */
+	private final Executor executor;
+
+	/**
+	 * Saves waiting to be executed by file path.
+	 */
+	private final Map<Object, Save> pending = new ConcurrentHashMap<>();
+
+	/**
+	 * Number of locks (power of two).
+	 */
+	private static final int LOCK_COUNT = 64;
+
+	/**
+	 * Striped locks preventing the writes of a same file path from overlapping (the locks are selected by the hash of
+	 * the path, so their number does not grow with the number of saved files).
+	 */
+	private final Object[] locks = new Object[LOCK_COUNT];
+
+	/**
+	 * Creates a new coalescing file saver.
+	 * <hr>
+	 * @param executor Executor used to save the files.
+	 */
+	public CoalescingFileSaver(final @NonNull Executor executor)
+	{
+		this.executor = executor;
+
+		for (int i = 0; i < LOCK_COUNT; i++)
+		{
+			locks[i] = new Object();
+		}
+	}
+
+	/**
+	 * Requests the save of a file.
+	 * <p>
+	 * The saves of distinct file objects backed by the same path are coalesced as well, the last requested file object
+	 * being written.
+	 * <hr>
+	 * @param file File to save.
+	 * @return Future completed once the file has been saved, or completed exceptionally with a {@link FileException}
+	 * if the save failed.
+	 */
+	public final CompletableFuture<Void> save(final @NonNull IFileBase file)
+	{
+		Object key = getKey(file);
+		Save created = new Save(file);
+
+		Save save = pending.merge(key, created, (existing, ignored) -> existing.update(file));
+		if (save != created)
+		{
+			return save.future;
+		}
+
+		try
+		{
+			executor.execute(() -> write(key, save));
+		}
+		catch (RuntimeException e)
+		{
+			// Rejected by the executor.
+			pending.remove(key, save);
+			save.future.completeExceptionally(e);
+		}
+
+		return save.future;
+	}
+
+	/**
+	 * Writes a file whose save has been requested.
+	 * <hr>
+	 * @param key Key of the file.
+	 * @param save Save to execute.
+	 */
+	private final void write(final Object key, final Save save)
+	{
+		// From now on, a new save request must lead to a new write.
+		pending.remove(key, save);
+
+		try
+		{
+			int hash = key.hashCode();
+			synchronized (locks[(hash ^ (hash >>> 16)) & (LOCK_COUNT - 1)])
+			{
+				save.file.save();
+			}
+
+			save.future.complete(null);
+		}
+		catch (FileException | RuntimeException e)
+		{
+			save.future.completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * Returns the key identifying a file: its normalized absolute path or, if the file is not backed by a plain file,
+	 * the file object itself.
+	 * <hr>
+	 * @param file File.
+	 * @return Key.
+	 */
+	private static final Object getKey(final IFileBase file)
+	{
+		IResource resource = file.getResource();
+		File path = resource != null ? resource.getFile() : null;
+
+		return path != null ? path.toPath().toAbsolutePath().normalize() : file;
+	}
+
+	/**
+	 * Save waiting to be executed.
+	 */
+	private static final class Save
+	{
+		/**
+		 * Future of the save.
+		 */
+		private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+		/**
+		 * Last file object requested to be saved.
+		 */
+		private volatile IFileBase file;
+
+		/**
+		 * Creates a new save.
+		 * <hr>
+		 * @param file File to save.
+		 */
+		private Save(final IFileBase file)
+		{
+			this.file = file;
+		}
+
+		/**
+		 * Updates the file object to save.
+		 * <hr>
+		 * @param file File to save.
+		 * @return This save.
+		 */
+		private final Save update(final IFileBase file)
+		{
+			this.file = file;
+
+			return this;
+		}
+	}
+}
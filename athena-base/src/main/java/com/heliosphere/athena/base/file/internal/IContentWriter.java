@@ -0,0 +1,33 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.file.internal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Interface defining the behavior of a writer of the content of a file.
+ * <hr>
+ * @author  <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface IContentWriter
+{
+	/**
+	 * Writes the content of the file.
+	 * <hr>
+	 * @param output Output stream (buffered) to write the content to.
+	 * @throws IOException Thrown in case an error occurred while writing the content.
+	 */
+	void write(OutputStream output) throws IOException;
+}
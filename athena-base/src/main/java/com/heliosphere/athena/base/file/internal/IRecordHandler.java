@@ -0,0 +1,31 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.file.internal;
+
+/**
+ * Interface defining the behavior of a handler of the content records of a structured file read in streaming mode.
+ * <hr>
+ * @author  <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ * @param 	<C> Type of record constituting the content of the file.
+ */
+@FunctionalInterface
+public interface IRecordHandler<C>
+{
+	/**
+	 * Handles a record as soon as it has been read.
+	 * <hr>
+	 * @param record Record read.
+	 * @throws FileException Thrown in case the record cannot be handled, the read is then aborted.
+	 */
+	void handle(C record) throws FileException;
+}
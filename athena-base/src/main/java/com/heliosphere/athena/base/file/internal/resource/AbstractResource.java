@@ -12,16 +12,29 @@
 package com.heliosphere.athena.base.file.internal.resource;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
 import java.net.URISyntaxException;
 import java.net.URL;
-
-import org.apache.commons.io.FilenameUtils;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.heliosphere.athena.base.resource.ResourceException;
 
 /**
  * Provides an abstract implementation of a resource.
+ * <p>
+ * A path name is resolved, in this order, as a file (absolute or relative to the working directory), as a class path
+ * resource and as a class path resource without its leading separator. Class path resources can be packaged in a jar,
+ * in such a case they are only available through their {@link #getUrl()} and {@link #openStream()}.
+ * <p>
+ * Resolving a path name never modifies the disk and the resolved resources are cached by class loader and path name,
+ * a cached file (or the jar containing a cached resource) being only checked to still exist. A path name that cannot be resolved but whose parent directory exists is
+ * resolved as a new file, which is created only when written.
  * <hr>
  * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
  * @version 1.0.0
@@ -34,10 +47,21 @@ public abstract class AbstractResource implements IResource
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * Underlying file object.
+	 * Resolved resource URLs by path name, by class loader (class path resources differ from one class loader to
+	 * another, and the entries of a discarded class loader are dropped).
+	 */
+	private static final Map<ClassLoader, Map<String, URL>> RESOLVED = Collections.synchronizedMap(new WeakHashMap<>());
+
+	/**
+	 * Underlying file object ({@code null} if the resource is not a plain file).
 	 */
 	private File file = null;
 
+	/**
+	 * Resource URL.
+	 */
+	private URL url = null;
+
 	/**
 	 * Creates a new abstract resource given a pathname.
 	 * <hr>
@@ -47,16 +71,30 @@ public abstract class AbstractResource implements IResource
 	@SuppressWarnings("nls")
 	public AbstractResource(String pathname) throws ResourceException
 	{
-		if (!loadAbsolute(pathname))
+		ClassLoader loader = getClassLoader();
+		Map<String, URL> cache = RESOLVED.computeIfAbsent(loader, key -> new ConcurrentHashMap<>());
+
+		URL resolved = cache.get(pathname);
+		if (resolved == null || !exists(resolved))
 		{
-			if (!loadRelative(pathname))
+			resolved = resolve(pathname, loader);
+			if (resolved != null)
+			{
+				cache.put(pathname, resolved);
+			}
+			else
 			{
-				if (!loadRelativeSeparator(pathname))
+				cache.remove(pathname);
+				resolved = resolveNewFile(pathname, loader);
+				if (resolved == null)
 				{
 					throw new ResourceException(String.format("The resource specified by the path name: %1s can not be found", pathname));
 				}
 			}
 		}
+
+		this.url = resolved;
+		this.file = toFile(resolved);
 	}
 
 	@Override
@@ -65,178 +103,178 @@ public abstract class AbstractResource implements IResource
 		return file;
 	}
 
+	@Override
+	public URL getUrl()
+	{
+		return url;
+	}
+
+	@Override
+	public InputStream openStream() throws IOException
+	{
+		return file != null ? new FileInputStream(file) : url.openStream();
+	}
+
 	/**
-	 * Loads the file considering its pathname is absolute.
+	 * Resolves an existing resource.
 	 * <hr>
 	 * @param pathname Resource path name.
-	 * @return {@code True} if the resource can be loaded, {@code false} otherwise.
+	 * @param loader Class loader used to find the class path resources.
+	 * @return Resource URL or {@code null} if the resource does not exist.
 	 */
-	@SuppressWarnings("unused")
-	private final boolean loadAbsolute(String pathname)
+	@SuppressWarnings("nls")
+	private static final URL resolve(final String pathname, final ClassLoader loader)
 	{
-		this.file = new File(pathname);
-		if (!file.exists())
+		// Maybe the file pathname is absolute or relative to the working directory.
+		File candidate = new File(pathname);
+		if (candidate.exists())
 		{
-			try
-			{
-				file.createNewFile();
-			}
-			catch (IOException ioe)
+			return toUrl(candidate);
+		}
+
+		// Maybe the file pathname is relative to the class path.
+		URL resource = loader.getResource(pathname);
+		if (resource == null)
+		{
+			// Try to remove the leading separator, if one exist.
+			String name = toResourceName(pathname);
+			if (!name.equals(pathname))
 			{
-				return false;
+				resource = loader.getResource(name);
 			}
 		}
 
-		//String fullPath = file.getAbsolutePath();
-
-		return this.file.exists();
+		return resource;
 	}
 
 	/**
-	 * Loads the file considering its pathname is relative.
+	 * Resolves a file that does not exist yet but whose parent directory exists (on the file system or on the class
+	 * path).
 	 * <hr>
 	 * @param pathname Resource path name.
-	 * @return {@code True} if the resource can be loaded, {@code false} otherwise.
+	 * @param loader Class loader used to find the class path resources.
+	 * @return File URL or {@code null} if the parent directory does not exist.
 	 */
-	@SuppressWarnings("unused")
-	private final boolean loadRelative(String pathname)
+	private static final URL resolveNewFile(final String pathname, final ClassLoader loader)
 	{
-		URL url = null;
-
-		try
+		File candidate = new File(pathname);
+		File directory = candidate.getAbsoluteFile().getParentFile();
+		if (directory != null && directory.isDirectory())
 		{
-			// Maybe the file pathname is relative.
-			url = Thread.currentThread().getContextClassLoader().getResource(pathname);
+			return toUrl(candidate);
+		}
 
-			this.file = new File(url.toURI());
-			if (!file.exists())
+		String parent = new File(toResourceName(pathname)).getParent();
+		if (parent != null)
+		{
+			File resource = toFile(loader.getResource(toResourceName(parent)));
+			if (resource != null && resource.isDirectory())
 			{
-				try
-				{
-					file.createNewFile();
-				}
-				catch (IOException ioe)
-				{
-					return false;
-				}
+				return toUrl(new File(resource, candidate.getName()));
 			}
 		}
-		catch (Exception e)
+
+		return null;
+	}
+
+	/**
+	 * Checks a cached resource still exists.
+	 * <p>
+	 * For a resource packaged in a jar, only the jar file is checked to still exist.
+	 * <hr>
+	 * @param url Resource URL.
+	 * @return {@code True} if the resource exists, {@code false} otherwise.
+	 */
+	@SuppressWarnings("nls")
+	private static final boolean exists(final URL url)
+	{
+		URL location = url;
+		if ("jar".equals(url.getProtocol()))
 		{
-			// Try to get the parent directory of the file ... maybe the file does not exist!
-			file = new File(pathname);
-			String name = FilenameUtils.getName(pathname);
-			File directory = file.getParentFile();
+			String path = url.getPath();
+			int index = path.indexOf("!/");
+
 			try
 			{
-				url = Thread.currentThread().getContextClassLoader().getResource(file.getParent());
-
-				try
-				{
-					file = new File(url.toURI());
-					if (directory.exists() && directory.isDirectory())
-					{
-						// OK, found the parent directory, then create the file as it does not exist.
-						file = new File(directory.getAbsolutePath() + File.separator + name);
-						try
-						{
-							file.createNewFile();
-						}
-						catch (IOException e1)
-						{
-							return false;
-						}
-					}
-				}
-				catch (URISyntaxException urie)
-				{
-					return false;
-				}
+				location = new URL(index > -1 ? path.substring(0, index) : path);
 			}
-			catch (Exception e2)
+			catch (MalformedURLException e)
 			{
 				return false;
 			}
 		}
 
-		return this.file.exists();
+		File resource = toFile(location);
+
+		return resource == null || resource.exists();
 	}
 
 	/**
-	 * Loads the file considering its pathname is relative.
+	 * Converts a path name to a class path resource name (without leading separator and using {@code /} as
+	 * separator).
 	 * <hr>
-	 * @param pathname Resource path name.
-	 * @return {@code True} if the resource can be loaded, {@code false} otherwise.
+	 * @param pathname Path name.
+	 * @return Resource name.
 	 */
-	@SuppressWarnings({ "nls", "unused" })
-	private final boolean loadRelativeSeparator(String pathname)
+	@SuppressWarnings("nls")
+	private static final String toResourceName(final String pathname)
 	{
-		URL url = null;
+		String name = pathname.replace(File.separatorChar, '/');
+
+		return name.startsWith("/") ? name.substring(1) : name;
+	}
 
-		// Try to remove the leading file separator, if one exist.
-		if (pathname.startsWith(File.separator))
+	/**
+	 * Converts a resource URL to a file.
+	 * <hr>
+	 * @param url Resource URL (can be {@code null}).
+	 * @return File or {@code null} if the resource is not a plain file.
+	 */
+	@SuppressWarnings("nls")
+	private static final File toFile(final URL url)
+	{
+		if (url == null || !"file".equals(url.getProtocol()))
 		{
-			try
-			{
-				// Maybe the file pathname is relative.
-				url = Thread.currentThread().getContextClassLoader().getResource(pathname.replaceFirst(File.separator, ""));
-				this.file = new File(url.toURI());
-				if (!file.exists())
-				{
-					try
-					{
-						file.createNewFile();
-					}
-					catch (IOException ioe)
-					{
-						return false;
-					}
-				}
-			}
-			catch (Exception e)
-			{
-				// Try to get the parent directory of the file ... maybe the file does not exist!
-				file = new File(pathname);
-				String name = FilenameUtils.getName(pathname);
-				File directory = file.getParentFile();
-				try
-				{
-					url = Thread.currentThread().getContextClassLoader().getResource(file.getParent().replaceFirst(File.separator, ""));
-
-					try
-					{
-						directory = new File(url.toURI());
-						if (directory.getAbsoluteFile().exists() && directory.getAbsoluteFile().isDirectory())
-						{
-							// OK, found the parent directory, then create the file as it does not exist.
-							file = new File(directory.getAbsolutePath() + File.separator + name);
-							try
-							{
-								file.createNewFile();
-							}
-							catch (IOException e1)
-							{
-								return false;
-							}
-						}
-					}
-					catch (URISyntaxException urie)
-					{
-						return false;
-					}
-				}
-				catch (Exception e2)
-				{
-					return false;
-				}
-			}
+			return null;
 		}
 
-		if (file == null)
+		try
+		{
+			return new File(url.toURI());
+		}
+		catch (URISyntaxException | IllegalArgumentException e)
+		{
+			return new File(url.getPath());
+		}
+	}
+
+	/**
+	 * Converts a file to an URL.
+	 * <hr>
+	 * @param file File.
+	 * @return File URL.
+	 */
+	private static final URL toUrl(final File file)
+	{
+		try
 		{
-			return false;
+			return file.getAbsoluteFile().toURI().toURL();
 		}
+		catch (MalformedURLException e)
+		{
+			throw new ResourceException(e);
+		}
+	}
+
+	/**
+	 * Returns the class loader used to find the class path resources.
+	 * <hr>
+	 * @return Class loader.
+	 */
+	private static final ClassLoader getClassLoader()
+	{
+		ClassLoader loader = Thread.currentThread().getContextClassLoader();
 
-		return this.file.exists();
+		return loader != null ? loader : AbstractResource.class.getClassLoader();
 	}
 }
@@ -12,7 +12,10 @@
 package com.heliosphere.athena.base.file.internal.resource;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.Serializable;
+import java.net.URL;
 
 /**
  * Defines the behavior of a {@code Resource} ; typically a file.
@@ -25,7 +28,22 @@ public interface IResource extends Serializable
 	/**
 	 * Returns the file object representing the resource on the file system.
 	 * <hr>
-	 * @return {@link File}.
+	 * @return {@link File} or {@code null} if the resource is not a plain file (for example packaged in a jar).
 	 */
 	File getFile();
+
+	/**
+	 * Returns the URL of the resource.
+	 * <hr>
+	 * @return {@link URL}.
+	 */
+	URL getUrl();
+
+	/**
+	 * Opens an input stream to read the resource.
+	 * <hr>
+	 * @return {@link InputStream}.
+	 * @throws IOException Thrown in case the resource cannot be read.
+	 */
+	InputStream openStream() throws IOException;
 }
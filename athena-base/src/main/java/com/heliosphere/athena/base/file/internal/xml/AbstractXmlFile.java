@@ -11,21 +11,30 @@
  */
 package com.heliosphere.athena.base.file.internal.xml;
 
-import java.io.FileOutputStream;
+import java.io.BufferedInputStream;
 import java.io.IOException;
-import java.util.TimeZone;
+import java.io.InputStream;
 
 import com.heliosphere.athena.base.file.internal.AbstractStructuredFile;
+import com.heliosphere.athena.base.file.internal.AtomicFileWriter;
 import com.heliosphere.athena.base.file.internal.FileException;
+import com.heliosphere.athena.base.file.internal.IRecordHandler;
 import com.thoughtworks.xstream.XStream;
 import com.thoughtworks.xstream.XStreamException;
 import com.thoughtworks.xstream.annotations.XStreamOmitField;
-import com.thoughtworks.xstream.converters.basic.DateConverter;
+import com.thoughtworks.xstream.io.HierarchicalStreamReader;
+import com.thoughtworks.xstream.io.xml.StaxDriver;
+import com.thoughtworks.xstream.mapper.Mapper;
 
-import lombok.Getter;
+import lombok.NonNull;
 
 /**
  * Provides an abstract implementation of a XML file.
+ * <p>
+ * The {@code XML} engine is shared by all the files of a same class: it is created and configured, through
+ * {@link #setAliases()}, the first time a file of the class is loaded or saved, then reused as is.
+ * <p>
+ * Saving a file is atomic (see {@link AtomicFileWriter}): a crash during the save never leaves a truncated file.
  * <hr>
  * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
  * @version 1.0.0
@@ -42,29 +51,17 @@ public abstract class AbstractXmlFile<H, C, F> extends AbstractStructuredFile<H,
 	private static final long serialVersionUID = 1L;
 
 	/**
-	 * XStream date converter.
+	 * StAX driver used to read the files in streaming mode.
 	 */
-	@SuppressWarnings("nls")
 	@XStreamOmitField
-	private static final DateConverter dateConverter = new DateConverter("yyyy-MM-dd HH:mm:ss", new String[] {}, TimeZone.getDefault());
+	private static final StaxDriver STREAMING_DRIVER = new StaxDriver();
 
 	/**
-	 * XML engine to use.
+	 * XML engine to use (shared by the files of the same class).
 	 */
 	@XStreamOmitField
-	@Getter
 	private XStream engine;
 
-	/**
-	 * Initializes the {@code XML} engine.
-	 */
-	private void initialize()
-	{
-		engine = new XStream();
-		engine.registerConverter(dateConverter);
-		engine.autodetectAnnotations(true);
-	}
-
 	/**
 	 * Creates a new abstract XML file.
 	 * <hr>
@@ -73,45 +70,124 @@ public abstract class AbstractXmlFile<H, C, F> extends AbstractStructuredFile<H,
 	public AbstractXmlFile(String pathname)
 	{
 		super(pathname);
+	}
 
-		initialize();
+	/**
+	 * Sets (append) aliases to the XML engine.
+	 * <p>
+	 * Only called by the engine registry, once per file class, when its shared engine is created. The annotations of
+	 * the file class are processed afterwards but the ones of the other types (for example the default
+	 * implementations of the aliased types) must be processed here as the engine does not auto-detect annotations
+	 * once configured.
+	 */
+	protected void setAliases()
+	{
+		// Empty.
 	}
 
 	@Override
-	public void setAliases()
+	public XStream getEngine()
 	{
-		// Empty.
+		if (engine == null)
+		{
+			engine = XmlEngineRegistry.get(this);
+		}
+
+		return engine;
+	}
+
+	/**
+	 * Configures a new {@code XML} engine with the aliases of this file class.
+	 * <hr>
+	 * @param engine {@code XML} engine to configure.
+	 */
+	final void configure(final XStream engine)
+	{
+		this.engine = engine;
+
+		setAliases();
 	}
 
 	@SuppressWarnings("unchecked")
 	@Override
 	public void load() throws FileException
 	{
-		setAliases();
-
-		try
+		try (InputStream input = new BufferedInputStream(getResource().openStream()))
 		{
-			IXmlFile<H, C, F> holder = (IXmlFile<H, C, F>) engine.fromXML(getResource().getFile());
+			IXmlFile<H, C, F> holder = (IXmlFile<H, C, F>) getEngine().fromXML(input);
 			setHeader(holder.getHeader());
 			setFooter(holder.getFooter());
 			setContent(holder.getContent());
 		}
-		catch (XStreamException e)
+		catch (XStreamException | IOException e)
 		{
 			throw new FileException(e);
 		}
 	}
 
+	@SuppressWarnings({ "unchecked", "nls" })
 	@Override
-	public void save() throws FileException
+	public void load(final @NonNull IRecordHandler<? super C> handler) throws FileException
 	{
-		setAliases();
+		try (InputStream input = new BufferedInputStream(getResource().openStream()))
+		{
+			HierarchicalStreamReader reader = STREAMING_DRIVER.createReader(input);
+			Mapper mapper = getEngine().getMapper();
+
+			try
+			{
+				while (reader.hasMoreChildren())
+				{
+					reader.moveDown();
 
+					String member = mapper.realMember(AbstractStructuredFile.class, reader.getNodeName());
+					if ("content".equals(member))
+					{
+						// Content records are unmarshalled and handled one at a time.
+						while (reader.hasMoreChildren())
+						{
+							reader.moveDown();
+							handler.handle((C) getEngine().unmarshal(reader));
+							reader.moveUp();
+						}
+					}
+					else if ("header".equals(member))
+					{
+						setHeader((H) getEngine().unmarshal(reader));
+					}
+					else if ("footer".equals(member))
+					{
+						setFooter((F) getEngine().unmarshal(reader));
+					}
+
+					reader.moveUp();
+				}
+			}
+			finally
+			{
+				reader.close();
+			}
+		}
+		catch (XStreamException | IOException e)
+		{
+			throw new FileException(e);
+		}
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public void save() throws FileException
+	{
 		if (getResource() != null)
 		{
-			try (FileOutputStream output = new FileOutputStream(getResource().getFile().getAbsolutePath()))
+			if (getResource().getFile() == null)
+			{
+				throw new FileException("Cannot save a read-only resource: " + getResource().getUrl());
+			}
+
+			try
 			{
-				engine.toXML(this, output);
+				AtomicFileWriter.write(getResource().getFile(), output -> getEngine().toXML(this, output));
 			}
 			catch (XStreamException | IOException e)
 			{
@@ -11,6 +11,8 @@
  */
 package com.heliosphere.athena.base.file.internal.xml;
 
+import com.heliosphere.athena.base.file.internal.FileException;
+import com.heliosphere.athena.base.file.internal.IRecordHandler;
 import com.heliosphere.athena.base.file.internal.IStructuredFile;
 import com.thoughtworks.xstream.XStream;
 
@@ -25,15 +27,24 @@ import com.thoughtworks.xstream.XStream;
  */
 public interface IXmlFile<H, C, F> extends IStructuredFile<H, C, F>
 {
-	/**
-	 * Sets (append) aliases to the XML engine.
-	 */
-	void setAliases();
-
 	/**
 	 * Returns the {@code XML} engine used for serialization/deserialization.
+	 * <p>
+	 * The engine is shared by all the files of the same class and used concurrently: it must not be modified (no
+	 * alias nor converter registered) once returned.
 	 * <hr>
 	 * @return {@code XML} engine used.
 	 */
 	XStream getEngine();
+
+	/**
+	 * Loads the file in streaming mode.
+	 * <p>
+	 * The header and the footer are set but the content records are not kept by the file: each one is passed to the
+	 * given handler as soon as it has been read, so the memory used does not depend on the number of records.
+	 * <hr>
+	 * @param handler Handler of the content records.
+	 * @throws FileException Thrown in case an error occurred while reading the file or handling a record.
+	 */
+	void load(IRecordHandler<? super C> handler) throws FileException;
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.file.internal.xml;
+
+import java.util.TimeZone;
+
+import com.thoughtworks.xstream.XStream;
+import com.thoughtworks.xstream.converters.basic.DateConverter;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Registry of the {@code XML} engines shared by the {@code XML} files of a same class.
+ * <p>
+ * An engine is created and configured (aliases, annotations) only once per {@code XML} file class, when the first
+ * file of this class needs it. Once configured, the annotations auto-detection is switched off so the engine is no
+ * more modified and can be used concurrently by all the files of the class.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@UtilityClass
+final class XmlEngineRegistry
+{
+	/**
+	 * XStream date converter.
+	 */
+	@SuppressWarnings("nls")
+	private static final DateConverter DATE_CONVERTER = new DateConverter("yyyy-MM-dd HH:mm:ss", new String[] {}, TimeZone.getDefault());
+
+	/**
+	 * Engines by {@code XML} file class (stored along with the class, so a file class and its class loader are not
+	 * kept reachable by the registry).
+	 */
+	private static final ClassValue<Engine> ENGINES = new ClassValue<Engine>()
+	{
+		@Override
+		protected Engine computeValue(final Class<?> type)
+		{
+			return new Engine();
+		}
+	};
+
+	/**
+	 * Returns the engine of the class of the given {@code XML} file, creating it if required.
+	 * <hr>
+	 * @param file {@code XML} file.
+	 * @return Configured engine.
+	 */
+	static final XStream get(final AbstractXmlFile<?, ?, ?> file)
+	{
+		return ENGINES.get(file.getClass()).get(file);
+	}
+
+	/**
+	 * Engine of a {@code XML} file class, created and configured on first use.
+	 */
+	private static final class Engine
+	{
+		/**
+		 * Configured engine ({@code null} until the first use).
+		 */
+		private volatile XStream engine;
+
+		/**
+		 * Returns the engine, creating and configuring it if required.
+		 * <hr>
+		 * @param file {@code XML} file used to apply the aliases of its class.
+		 * @return Configured engine.
+		 */
+		private final XStream get(final AbstractXmlFile<?, ?, ?> file)
+		{
+			XStream configured = engine;
+
+			return configured != null ? configured : create(file);
+		}
+
+		/**
+		 * Creates and configures the engine.
+		 * <hr>
+		 * @param file {@code XML} file used to apply the aliases of its class.
+		 * @return Configured engine.
+		 */
+		private final synchronized XStream create(final AbstractXmlFile<?, ?, ?> file)
+		{
+			if (engine == null)
+			{
+				XStream created = new XStream();
+				created.registerConverter(DATE_CONVERTER);
+				created.autodetectAnnotations(true);
+
+				file.configure(created);
+
+				created.processAnnotations(file.getClass());
+				created.autodetectAnnotations(false);
+
+				engine = created;
+			}
+
+			return engine;
+		}
+	}
+}
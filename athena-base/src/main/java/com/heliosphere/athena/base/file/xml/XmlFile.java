@@ -46,7 +46,7 @@ public class XmlFile<H, C, F> extends AbstractXmlFile<H, C, F>
 
 	@SuppressWarnings("nls")
 	@Override
-	public void setAliases()
+	protected void setAliases()
 	{
 		super.setAliases();
 
@@ -11,9 +11,9 @@
  */
 package com.heliosphere.athena.base.message.internal.protocol;
 
+import com.heliosphere.athena.base.EnumIndex;
 import com.heliosphere.athena.base.exception.InvalidArgumentException;
 import com.heliosphere.athena.base.resource.bundle.BundleAthenaBase;
-import com.heliosphere.athena.base.resource.bundle.ResourceBundleManager;
 
 /**
  * Enumeration defining a set of {@code default} message protocol category.
@@ -76,14 +76,12 @@ public enum MessageProtocolCategory implements IMessageProtocolCategory
 			throw new InvalidArgumentException("Message protocol category cannot be null or empty!");
 		}
 
-		for (MessageProtocolCategory element : MessageProtocolCategory.values())
+		MessageProtocolCategory element = EnumIndex.byName(MessageProtocolCategory.class).find(value);
+		if (element != null)
 		{
-			if (element.name().equalsIgnoreCase(value))
-			{
-				return element;
-			}
+			return element;
 		}
 
-		throw new InvalidArgumentException(ResourceBundleManager.getMessage(BundleAthenaBase.CannotCreateEnumerated, MessageProtocolCategory.class.getName(), value));
+		throw new InvalidArgumentException(BundleAthenaBase.CannotCreateEnumerated, MessageProtocolCategory.class.getName(), value);
 	}
 }
@@ -11,11 +11,14 @@
  */
 package com.heliosphere.athena.base.message.protocol;
 
+import com.heliosphere.athena.base.EnumIndex;
+import com.heliosphere.athena.base.exception.InvalidArgumentException;
 import com.heliosphere.athena.base.message.internal.protocol.IMessageProtocol;
 import com.heliosphere.athena.base.message.internal.protocol.IMessageProtocolDomain;
 import com.heliosphere.athena.base.message.internal.protocol.IMessageProtocolGroup;
 import com.heliosphere.athena.base.message.internal.protocol.MessageProtocolCategory;
 import com.heliosphere.athena.base.message.internal.protocol.MessageProtocolNature;
+import com.heliosphere.athena.base.resource.bundle.BundleAthenaBase;
 
 public enum TestMessageProtocol implements IMessageProtocol
 {
@@ -368,10 +371,30 @@ public enum TestMessageProtocol implements IMessageProtocol
 		return domain;
 	}
 
+	/**
+	 * Creates a message protocol enumerated value from a given string value.
+	 * <p>
+	 * <b>Example:</b><p>
+	 * <code>TestMessageProtocol.fromString("Message_Lobby_Create");</code>
+	 * <hr>
+	 * @param value String representing the enumerated value.
+	 * @return Message protocol.
+	 */
+	@SuppressWarnings("nls")
 	@Override
 	public Enum<? extends IMessageProtocol> fromString(String value)
 	{
-		// TODO Auto-generated method stub
-		return null;
+		if (value == null || value.trim().length() == 0)
+		{
+			throw new InvalidArgumentException("Message protocol cannot be null or empty!");
+		}
+
+		TestMessageProtocol element = EnumIndex.byName(TestMessageProtocol.class).find(value);
+		if (element != null)
+		{
+			return element;
+		}
+
+		throw new InvalidArgumentException(BundleAthenaBase.CannotCreateEnumerated, TestMessageProtocol.class.getName(), value);
 	}
 }
@@ -11,10 +11,10 @@
  */
 package com.heliosphere.athena.base.message.protocol;
 
+import com.heliosphere.athena.base.EnumIndex;
 import com.heliosphere.athena.base.exception.InvalidArgumentException;
 import com.heliosphere.athena.base.message.internal.protocol.IMessageProtocolDomain;
 import com.heliosphere.athena.base.resource.bundle.BundleAthenaBase;
-import com.heliosphere.athena.base.resource.bundle.ResourceBundleManager;
 
 /**
  * Enumeration defining a set of {@code test} message protocol domains.
@@ -70,14 +70,12 @@ public enum TestMessageProtocolDomain implements IMessageProtocolDomain
 			throw new InvalidArgumentException("Message protocol domain cannot be null or empty!");
 		}
 
-		for (TestMessageProtocolDomain element : TestMessageProtocolDomain.values())
+		TestMessageProtocolDomain element = EnumIndex.byName(TestMessageProtocolDomain.class).find(value);
+		if (element != null)
 		{
-			if (element.name().equalsIgnoreCase(value))
-			{
-				return element;
-			}
+			return element;
 		}
 
-		throw new InvalidArgumentException(ResourceBundleManager.getMessage(BundleAthenaBase.CannotCreateEnumerated, TestMessageProtocolDomain.class.getName(), value));
+		throw new InvalidArgumentException(BundleAthenaBase.CannotCreateEnumerated, TestMessageProtocolDomain.class.getName(), value);
 	}
 }
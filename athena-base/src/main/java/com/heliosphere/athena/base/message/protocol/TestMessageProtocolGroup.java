@@ -11,10 +11,10 @@
  */
 package com.heliosphere.athena.base.message.protocol;
 
+import com.heliosphere.athena.base.EnumIndex;
 import com.heliosphere.athena.base.exception.InvalidArgumentException;
 import com.heliosphere.athena.base.message.internal.protocol.IMessageProtocolGroup;
 import com.heliosphere.athena.base.resource.bundle.BundleAthenaBase;
-import com.heliosphere.athena.base.resource.bundle.ResourceBundleManager;
 
 /**
  * Enumeration defining a set of {@code test} message protocol groups.
@@ -55,14 +55,12 @@ public enum TestMessageProtocolGroup implements IMessageProtocolGroup
 			throw new InvalidArgumentException("Message protocol group cannot be null or empty!");
 		}
 
-		for (TestMessageProtocolGroup element : TestMessageProtocolGroup.values())
+		TestMessageProtocolGroup element = EnumIndex.byName(TestMessageProtocolGroup.class).find(value);
+		if (element != null)
 		{
-			if (element.name().equalsIgnoreCase(value))
-			{
-				return element;
-			}
+			return element;
 		}
 
-		throw new InvalidArgumentException(ResourceBundleManager.getMessage(BundleAthenaBase.CannotCreateEnumerated, TestMessageProtocolGroup.class.getName(), value));
+		throw new InvalidArgumentException(BundleAthenaBase.CannotCreateEnumerated, TestMessageProtocolGroup.class.getName(), value);
 	}
 }
@@ -22,7 +22,7 @@ package com.heliosphere.athena.base.resource.bundle;
  * @version 1.0.0
  */
 @SuppressWarnings("nls")
-@BundleEnumRegister(priority = 50)
+@BundleEnumRegister(priority = 50, indexed = true)
 public enum BundleAthenaBase implements IBundle
 {
 	/**
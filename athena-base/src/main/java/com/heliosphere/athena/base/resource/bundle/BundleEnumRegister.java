@@ -35,4 +35,16 @@ public @interface BundleEnumRegister
 	 * @return Priority to load the resource bundle enumeration.
 	 */
 	int priority() default 100;
+
+	/**
+	 * Is the resource bundle enumeration registered in indexed mode?
+	 * <p>
+	 * In indexed mode, the messages of all the enumerated values are resolved once (for the current locale) when the
+	 * resource bundle is registered, then retrieved by the ordinal of the enumerated values. Default value is
+	 * {@code false}.
+	 * <hr>
+	 * @return {@code True} to register the resource bundle enumeration in indexed mode, {@code false} otherwise.
+	 * @see ResourceBundleManager#register(Class, boolean)
+	 */
+	boolean indexed() default false;
 }
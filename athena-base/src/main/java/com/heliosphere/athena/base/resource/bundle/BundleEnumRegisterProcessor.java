@@ -0,0 +1,168 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.resource.bundle;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor writing, at compile time, the index of the resource bundle enumerations annotated with the
+ * {@link BundleEnumRegister} annotation.
+ * <p>
+ * The index is a properties file (resource {@value #INDEX}) associating the binary name of each annotated enumeration
+ * to its priority. When present on the class path, it is used by the {@link ResourceBundleManager} instead of
+ * scanning the whole class path for annotated classes.
+ * <p>
+ * The entries of an existing index are kept (incremental compilation) unless the enumeration is processed again or
+ * no longer exists.
+ * <p>
+ * The processor is not registered as a service: a module wanting an index must declare it explicitly in the
+ * {@code annotationProcessors} of its compiler configuration (see the {@code bundle-enum-register-index} execution of
+ * the athena-base build).
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@SupportedAnnotationTypes("com.heliosphere.athena.base.resource.bundle.BundleEnumRegister")
+public final class BundleEnumRegisterProcessor extends AbstractProcessor
+{
+	/**
+	 * Class path resource name of the index.
+	 */
+	@SuppressWarnings("nls")
+	public static final String INDEX = "META-INF/athena/bundle-enum-register.index";
+
+	/**
+	 * Priorities by resource bundle enumeration binary name.
+	 */
+	private final Map<String, Integer> entries = new TreeMap<>();
+
+	@Override
+	public final SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+
+	@SuppressWarnings("nls")
+	@Override
+	public final boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment environment)
+	{
+		if (environment.processingOver())
+		{
+			if (!entries.isEmpty())
+			{
+				write();
+			}
+
+			return false;
+		}
+
+		for (Element element : environment.getElementsAnnotatedWith(BundleEnumRegister.class))
+		{
+			if (element.getKind() == ElementKind.ENUM)
+			{
+				TypeElement type = (TypeElement) element;
+				entries.put(processingEnv.getElementUtils().getBinaryName(type).toString(), Integer.valueOf(type.getAnnotation(BundleEnumRegister.class).priority()));
+			}
+			else
+			{
+				processingEnv.getMessager().printMessage(Kind.WARNING, "@BundleEnumRegister must be placed on an enumeration implementing the IBundle interface", element);
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Writes the index, merged with the entries of the existing one, if any.
+	 * <p>
+	 * The entries of the existing index whose enumeration has been deleted, renamed or is no longer annotated are
+	 * dropped.
+	 */
+	@SuppressWarnings("nls")
+	private final void write()
+	{
+		Map<String, Integer> index = new TreeMap<>();
+		for (Map.Entry<String, Integer> entry : read().entrySet())
+		{
+			TypeElement type = processingEnv.getElementUtils().getTypeElement(entry.getKey().replace('$', '.'));
+			if (type != null && type.getKind() == ElementKind.ENUM && type.getAnnotation(BundleEnumRegister.class) != null)
+			{
+				index.put(entry.getKey(), entry.getValue());
+			}
+		}
+		index.putAll(entries);
+
+		try
+		{
+			FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+			try (Writer writer = file.openWriter())
+			{
+				writer.write("# Resource bundle enumerations annotated with @BundleEnumRegister (class=priority).\n");
+				for (Map.Entry<String, Integer> entry : index.entrySet())
+				{
+					writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+				}
+			}
+		}
+		catch (IOException e)
+		{
+			processingEnv.getMessager().printMessage(Kind.ERROR, "Cannot write the resource bundle enumeration index: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Reads the existing index, if any.
+	 * <hr>
+	 * @return Priorities by resource bundle enumeration binary name.
+	 */
+	private final Map<String, Integer> read()
+	{
+		Map<String, Integer> index = new TreeMap<>();
+
+		try
+		{
+			FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+			try (Reader reader = file.openReader(true))
+			{
+				Properties properties = new Properties();
+				properties.load(reader);
+				for (String name : properties.stringPropertyNames())
+				{
+					index.put(name, Integer.valueOf(properties.getProperty(name).trim()));
+				}
+			}
+		}
+		catch (IOException | NumberFormatException e)
+		{
+			// No (valid) existing index.
+		}
+
+		return index;
+	}
+}
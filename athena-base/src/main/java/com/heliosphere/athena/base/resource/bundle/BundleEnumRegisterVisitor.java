@@ -11,19 +11,37 @@
  */
 package com.heliosphere.athena.base.resource.bundle;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.annotation.Annotation;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
 import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Properties;
+import java.util.ResourceBundle;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import com.heliosphere.athena.base.annotation.IAnnotationVisitor;
 
+import lombok.NonNull;
 import lombok.extern.log4j.Log4j;
 
 /**
  * Class used to visit all annotated classes available on the classpath that are
  * annotated with the {@link BundleEnumRegister} annotation.
+ * <p>
+ * The annotated classes can also be read from the indexes generated at compile time by the
+ * {@link BundleEnumRegisterProcessor} (see {@link #loadIndex(ClassLoader)}).
  * <hr>
  * @author  <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
  * @version 1.0.0
@@ -31,6 +49,13 @@ import lombok.extern.log4j.Log4j;
 @Log4j
 public final class BundleEnumRegisterVisitor implements IAnnotationVisitor
 {
+	/**
+	 * System property which, set to {@code true}, restricts the discovery to the indexes: the class path roots having
+	 * no index are then not scanned.
+	 */
+	@SuppressWarnings("nls")
+	public static final String INDEX_ONLY_PROPERTY = "athena.bundle.indexOnly";
+
 	/**
 	 * Collection of bundles to auto-register (by priority).
 	 */
@@ -47,18 +72,12 @@ public final class BundleEnumRegisterVisitor implements IAnnotationVisitor
 	@Override
 	public void reportTypeAnnotation(Class<? extends Annotation> annotation, String className)
 	{
-		List<String> classes = null;
-		Integer key = null;
-
 		Class<? extends IBundle> bClass;
 		try
 		{
 			bClass = (Class<? extends IBundle>) Class.forName(className);
 			BundleEnumRegister a = bClass.getAnnotation(BundleEnumRegister.class);
-			key = Integer.valueOf(a.priority());
-			classes = (List<String>) (bundles.containsKey(key) ? bundles.get(key) : new ArrayList<>());
-			classes.add(className);
-			bundles.put(Integer.valueOf(a.priority()), classes);
+			add(Integer.valueOf(a.priority()), className);
 		}
 		catch (ClassNotFoundException e)
 		{
@@ -66,6 +85,155 @@ public final class BundleEnumRegisterVisitor implements IAnnotationVisitor
 		}
 	}
 
+	/**
+	 * Loads the resource bundle enumerations to register from the indexes generated by the
+	 * {@link BundleEnumRegisterProcessor} and available on the class path.
+	 * <p>
+	 * Only the class path roots shipping an index are covered: the roots without an index (modules compiled without
+	 * the processor, but also all the third-party libraries) are returned so they can still be scanned, unless the
+	 * {@value #INDEX_ONLY_PROPERTY} system property is set to {@code true}.
+	 * <hr>
+	 * @param loader Class loader used to find the indexes.
+	 * @return Class path roots having no index and that must be scanned (empty in index only mode).
+	 * @throws IOException Thrown in case an index cannot be read.
+	 */
+	public final List<File> loadIndex(final @NonNull ClassLoader loader) throws IOException
+	{
+		Set<File> indexed = new HashSet<>();
+
+		Enumeration<URL> urls = loader.getResources(BundleEnumRegisterProcessor.INDEX);
+		while (urls.hasMoreElements())
+		{
+			URL url = urls.nextElement();
+
+			Properties index = new Properties();
+			try (InputStream input = url.openStream())
+			{
+				index.load(input);
+			}
+
+			for (String className : index.stringPropertyNames())
+			{
+				add(Integer.valueOf(index.getProperty(className).trim()), className);
+			}
+
+			File root = getRoot(url);
+			if (root != null)
+			{
+				indexed.add(root);
+			}
+		}
+
+		List<File> roots = new ArrayList<>();
+		if (Boolean.getBoolean(INDEX_ONLY_PROPERTY))
+		{
+			return roots;
+		}
+
+		for (String path : System.getProperty("java.class.path", "").split(File.pathSeparator))
+		{
+			if (!path.isEmpty())
+			{
+				File root = new File(path).getCanonicalFile();
+				if (root.exists() && !indexed.contains(root))
+				{
+					roots.add(root);
+				}
+			}
+		}
+
+		return roots;
+	}
+
+	/**
+	 * Returns the class path root (directory or archive) containing an index.
+	 * <hr>
+	 * @param url URL of the index.
+	 * @return Canonical class path root or {@code null} if the index is not stored in a file or an archive.
+	 * @throws IOException Thrown in case the canonical path of the root cannot be resolved.
+	 */
+	@SuppressWarnings("nls")
+	private static final File getRoot(final URL url) throws IOException
+	{
+		String location = url.toExternalForm();
+		if (location.startsWith("jar:"))
+		{
+			location = location.substring(4, location.lastIndexOf("!/"));
+		}
+		else
+		{
+			location = location.substring(0, location.length() - BundleEnumRegisterProcessor.INDEX.length());
+		}
+
+		try
+		{
+			URI uri = new URI(location);
+			return "file".equals(uri.getScheme()) ? new File(uri).getCanonicalFile() : null;
+		}
+		catch (URISyntaxException | IllegalArgumentException e)
+		{
+			return null;
+		}
+	}
+
+	/**
+	 * Loads, in parallel, the resource bundle files of the resource bundle enumerations to register.
+	 * <p>
+	 * Loaded resource bundles are cached by the {@link ResourceBundle} class so the registration itself does not
+	 * have to read the files anymore. Errors are ignored as they are reported by the registration.
+	 * <hr>
+	 * @param locale Locale of the resource bundles to load.
+	 * @param executor Executor used to load the resource bundles.
+	 * @return Future completed once all the resource bundles have been loaded.
+	 */
+	@SuppressWarnings("unchecked")
+	public final CompletableFuture<Void> preload(final @NonNull Locale locale, final @NonNull Executor executor)
+	{
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+		for (List<String> classes : bundles.values())
+		{
+			for (String className : classes)
+			{
+				futures.add(CompletableFuture.runAsync(() ->
+				{
+					try
+					{
+						IBundle value = ((Class<? extends IBundle>) Class.forName(className)).getEnumConstants()[0];
+						ResourceBundle.getBundle(value.getKey(), locale);
+					}
+					catch (Exception e)
+					{
+						log.debug(e.getMessage());
+					}
+				}, executor));
+			}
+		}
+
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()]));
+	}
+
+	/**
+	 * Adds a resource bundle enumeration to register.
+	 * <hr>
+	 * @param priority Priority of the resource bundle enumeration.
+	 * @param className Class name of the resource bundle enumeration.
+	 */
+	private final void add(final Integer priority, final String className)
+	{
+		List<String> classes = bundles.get(priority);
+		if (classes == null)
+		{
+			classes = new ArrayList<>();
+			bundles.put(priority, classes);
+		}
+
+		if (!classes.contains(className))
+		{
+			classes.add(className);
+		}
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public void delegateRegistration() throws ClassNotFoundException
@@ -74,7 +242,8 @@ public final class BundleEnumRegisterVisitor implements IAnnotationVisitor
 		{
 			for (String e : bundles.get(i))
 			{
-				ResourceBundleManager.register((Class<? extends IBundle>) Class.forName(e));
+				Class<? extends IBundle> bClass = (Class<? extends IBundle>) Class.forName(e);
+				ResourceBundleManager.register(bClass, bClass.getAnnotation(BundleEnumRegister.class).indexed());
 			}
 		}
 	}
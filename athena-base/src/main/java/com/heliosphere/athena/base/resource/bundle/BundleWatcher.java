@@ -0,0 +1,391 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.resource.bundle;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.extern.log4j.Log4j;
+
+/**
+ * Watcher reloading the resource bundle files of the registered resource bundle enumerations when they are edited.
+ * <p>
+ * Only the resource bundle files available as plain files (not packaged in a jar) can be watched. When a file
+ * changes, only this file is parsed again and the resource bundles depending on it (the ones of its locale and of the
+ * more specific locales) are rebuilt and swapped in the snapshots of the {@link ResourceBundleManager}, so readers are
+ * never blocked.
+ * <p>
+ * A watcher is created by {@link ResourceBundleManager#watch()} and must be closed once no more needed.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@Log4j
+public final class BundleWatcher implements AutoCloseable
+{
+	/**
+	 * Resource bundle file extension.
+	 */
+	@SuppressWarnings("nls")
+	private static final String EXTENSION = "properties";
+
+	/**
+	 * Control used to compute the resource names and the candidate locales of the resource bundles.
+	 */
+	private static final ResourceBundle.Control CONTROL = ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+
+	/**
+	 * Watch service.
+	 */
+	private final WatchService service;
+
+	/**
+	 * Resource bundle base names by watched directory.
+	 */
+	private final Map<Path, Set<String>> directories = new HashMap<>();
+
+	/**
+	 * Parsed resource bundle files by resource name.
+	 */
+	private final Map<String, Map<String, Object>> files = new ConcurrentHashMap<>();
+
+	/**
+	 * Class loader used to find the resource bundle files.
+	 */
+	private final ClassLoader loader;
+
+	/**
+	 * Thread waiting for the file changes.
+	 */
+	private final Thread thread;
+
+	/**
+	 * Creates and starts a new watcher.
+	 * <hr>
+	 * @param names Base names of the resource bundles to watch.
+	 * @param loader Class loader used to find the resource bundle files.
+	 * @throws IOException Thrown in case the watch service cannot be created.
+	 */
+	@SuppressWarnings("nls")
+	BundleWatcher(final Collection<String> names, final ClassLoader loader) throws IOException
+	{
+		this.loader = loader;
+		this.service = FileSystems.getDefault().newWatchService();
+
+		for (String name : names)
+		{
+			Path file = toPath(loader.getResource(CONTROL.toResourceName(name, EXTENSION)));
+			if (file == null)
+			{
+				log.debug("Resource bundle cannot be watched (not a file) [name=" + name + "]");
+				continue;
+			}
+
+			Path directory = file.getParent();
+			if (!directories.containsKey(directory))
+			{
+				directory.register(service, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+				directories.put(directory, new HashSet<>());
+			}
+			directories.get(directory).add(name);
+		}
+
+		thread = new Thread(this::run, "athena-bundle-watcher");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Returns the number of watched directories.
+	 * <hr>
+	 * @return Number of watched directories.
+	 */
+	public final int getDirectoryCount()
+	{
+		return directories.size();
+	}
+
+	@Override
+	public final void close() throws IOException
+	{
+		service.close();
+		thread.interrupt();
+	}
+
+	/**
+	 * Waits for the file changes until the watcher is closed.
+	 */
+	@SuppressWarnings("nls")
+	private final void run()
+	{
+		try
+		{
+			while (!Thread.currentThread().isInterrupted())
+			{
+				WatchKey key = service.take();
+				Path directory = (Path) key.watchable();
+
+				for (WatchEvent<?> event : key.pollEvents())
+				{
+					if (event.kind() != StandardWatchEventKinds.OVERFLOW)
+					{
+						changed(directory, (Path) event.context());
+					}
+				}
+
+				key.reset();
+			}
+		}
+		catch (InterruptedException | ClosedWatchServiceException e)
+		{
+			// Watcher closed.
+		}
+	}
+
+	/**
+	 * Handles the change of a file in a watched directory.
+	 * <hr>
+	 * @param directory Watched directory.
+	 * @param file Changed file (relative to the directory).
+	 */
+	@SuppressWarnings("nls")
+	private final void changed(final Path directory, final Path file)
+	{
+		String filename = file.getFileName().toString();
+		if (!filename.endsWith("." + EXTENSION))
+		{
+			return;
+		}
+
+		String stem = filename.substring(0, filename.length() - EXTENSION.length() - 1);
+		for (String name : directories.get(directory))
+		{
+			String simple = name.substring(name.lastIndexOf('.') + 1);
+			if (stem.equals(simple) || stem.startsWith(simple + "_"))
+			{
+				Locale locale = toLocale(stem.substring(simple.length()));
+
+				try (InputStream input = Files.newInputStream(directory.resolve(file)))
+				{
+					files.put(CONTROL.toResourceName(CONTROL.toBundleName(name, locale), EXTENSION), parse(input));
+				}
+				catch (IOException | IllegalArgumentException e)
+				{
+					// The file may still be being written, a new event will follow.
+					log.warn("Resource bundle file cannot be reloaded [file=" + directory.resolve(file) + ", reason=" + e.getMessage() + "]");
+					return;
+				}
+
+				ResourceBundleManager.reload(name, locale, this::load);
+				log.info("Resource bundle file reloaded [file=" + directory.resolve(file) + "]");
+			}
+		}
+	}
+
+	/**
+	 * Loads a resource bundle from the parsed files, parsing the files not parsed yet.
+	 * <hr>
+	 * @param name Base name of the resource bundle.
+	 * @param locale Locale of the resource bundle.
+	 * @return Resource bundle.
+	 */
+	private final ResourceBundle load(final String name, final Locale locale)
+	{
+		List<Locale> candidates = new ArrayList<>(CONTROL.getCandidateLocales(name, locale));
+		Collections.reverse(candidates);
+
+		ReloadedBundle bundle = null;
+		for (Locale candidate : candidates)
+		{
+			Map<String, Object> entries = getFile(CONTROL.toResourceName(CONTROL.toBundleName(name, candidate), EXTENSION));
+			if (entries != null)
+			{
+				bundle = new ReloadedBundle(entries, candidate, bundle);
+			}
+		}
+
+		return bundle;
+	}
+
+	/**
+	 * Returns a parsed resource bundle file.
+	 * <hr>
+	 * @param resource Resource name of the file.
+	 * @return Entries of the file or {@code null} if the file does not exist.
+	 */
+	@SuppressWarnings("nls")
+	private final Map<String, Object> getFile(final String resource)
+	{
+		Map<String, Object> entries = files.get(resource);
+		if (entries == null)
+		{
+			try (InputStream input = loader.getResourceAsStream(resource))
+			{
+				if (input == null)
+				{
+					return null;
+				}
+
+				entries = parse(input);
+				files.put(resource, entries);
+			}
+			catch (IOException e)
+			{
+				throw new ResourceBundleException("Cannot read resource bundle file: " + resource, e);
+			}
+		}
+
+		return entries;
+	}
+
+	/**
+	 * Parses a resource bundle file.
+	 * <hr>
+	 * @param input Input stream of the file.
+	 * @return Entries of the file.
+	 * @throws IOException Thrown in case the file cannot be read.
+	 */
+	private static final Map<String, Object> parse(final InputStream input) throws IOException
+	{
+		Properties properties = new Properties();
+		properties.load(input);
+
+		Map<String, Object> entries = new HashMap<>();
+		for (String key : properties.stringPropertyNames())
+		{
+			entries.put(key, properties.getProperty(key));
+		}
+
+		return Collections.unmodifiableMap(entries);
+	}
+
+	/**
+	 * Converts a resource URL to a file path.
+	 * <hr>
+	 * @param url Resource URL.
+	 * @return File path or {@code null} if the resource is not a plain file.
+	 */
+	@SuppressWarnings("nls")
+	private static final Path toPath(final URL url)
+	{
+		if (url == null || !"file".equals(url.getProtocol()))
+		{
+			return null;
+		}
+
+		try
+		{
+			return Paths.get(url.toURI());
+		}
+		catch (URISyntaxException e)
+		{
+			return null;
+		}
+	}
+
+	/**
+	 * Converts the locale suffix of a resource bundle file name to a locale.
+	 * <hr>
+	 * @param suffix Locale suffix (for example {@code _fr} or {@code _en_US}), empty for the base resource bundle.
+	 * @return Locale.
+	 */
+	@SuppressWarnings("nls")
+	private static final Locale toLocale(final String suffix)
+	{
+		if (suffix.isEmpty())
+		{
+			return Locale.ROOT;
+		}
+
+		String[] parts = suffix.substring(1).split("_", 3);
+
+		return new Locale(parts[0], parts.length > 1 ? parts[1] : "", parts.length > 2 ? parts[2] : "");
+	}
+
+	/**
+	 * Resource bundle built from a parsed resource bundle file.
+	 */
+	private static final class ReloadedBundle extends ResourceBundle
+	{
+		/**
+		 * Entries of the resource bundle file.
+		 */
+		private final Map<String, Object> entries;
+
+		/**
+		 * Locale of the resource bundle.
+		 */
+		private final Locale locale;
+
+		/**
+		 * Creates a new resource bundle.
+		 * <hr>
+		 * @param entries Entries of the resource bundle file.
+		 * @param locale Locale of the resource bundle.
+		 * @param parent Parent resource bundle (can be {@code null}).
+		 */
+		private ReloadedBundle(final Map<String, Object> entries, final Locale locale, final ResourceBundle parent)
+		{
+			this.entries = entries;
+			this.locale = locale;
+			setParent(parent);
+		}
+
+		@Override
+		public final Locale getLocale()
+		{
+			return locale;
+		}
+
+		@Override
+		protected final Object handleGetObject(final String key)
+		{
+			return entries.get(key);
+		}
+
+		@Override
+		protected final Set<String> handleKeySet()
+		{
+			return entries.keySet();
+		}
+
+		@Override
+		public final Enumeration<String> getKeys()
+		{
+			return Collections.enumeration(keySet());
+		}
+	}
+}
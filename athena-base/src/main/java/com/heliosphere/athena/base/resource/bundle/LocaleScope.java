@@ -0,0 +1,72 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.resource.bundle;
+
+import java.util.Locale;
+
+/**
+ * Scope during which the messages retrieved by the current thread through the {@link ResourceBundleManager} are
+ * resolved for a given locale, without changing the locale of the resource bundle manager.
+ * <p>
+ * A scope is opened by {@link ResourceBundleManager#withLocale(Locale)}, typically when starting to handle a request
+ * of a user (session), and must be closed by the same thread, preferably using a {@code try-with-resources}
+ * statement. Closing a scope restores the locale of the enclosing scope, if any.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class LocaleScope implements AutoCloseable
+{
+	/**
+	 * Locale of the current scope of each thread.
+	 */
+	private static final ThreadLocal<Locale> CURRENT = new ThreadLocal<>();
+
+	/**
+	 * Locale of the enclosing scope ({@code null} if none).
+	 */
+	private final Locale previous;
+
+	/**
+	 * Opens a new scope.
+	 * <hr>
+	 * @param locale Locale of the scope.
+	 */
+	LocaleScope(final Locale locale)
+	{
+		previous = CURRENT.get();
+		CURRENT.set(locale);
+	}
+
+	/**
+	 * Returns the locale of the current scope of the current thread.
+	 * <hr>
+	 * @return Locale or {@code null} if the current thread is not in a scope.
+	 */
+	public static final Locale current()
+	{
+		return CURRENT.get();
+	}
+
+	@Override
+	public final void close()
+	{
+		if (previous != null)
+		{
+			CURRENT.set(previous);
+		}
+		else
+		{
+			CURRENT.remove();
+		}
+	}
+}
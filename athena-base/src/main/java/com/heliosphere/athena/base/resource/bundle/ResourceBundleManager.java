@@ -11,14 +11,24 @@
  */
 package com.heliosphere.athena.base.resource.bundle;
 
+import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.Method;
 import java.text.MessageFormat;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
 
 import org.apache.commons.configuration.ConfigurationException;
 import org.apache.commons.configuration.PropertiesConfiguration;
@@ -26,6 +36,8 @@ import org.apache.commons.configuration.PropertiesConfiguration;
 import com.heliosphere.athena.base.exception.InvalidArgumentException;
 
 import eu.infomas.annotation.AnnotationDetector;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import lombok.Synchronized;
 import lombok.experimental.UtilityClass;
@@ -33,6 +45,28 @@ import lombok.extern.log4j.Log4j;
 
 /**
  * A manager to access resource bundles.
+ * <p>
+ * The registered resource bundles are held in an immutable snapshot replaced (copy-on-write) each time a bundle is
+ * registered or the locale changes, so retrieving a message never takes a lock. Only the registration services and
+ * {@link #setLocale(Locale)} are synchronized.
+ * <p>
+ * Message templates are parsed once per resource key and cached along with the snapshot, so the cache is dropped
+ * whenever a bundle is replaced or the locale changes. Resource bundles registered in indexed mode (see
+ * {@link #register(Class, boolean)}) have all their message templates resolved when the snapshot is built, and
+ * stored in an array indexed by the ordinal of the enumerated values.
+ * <p>
+ * Besides the locale of the manager, messages can be retrieved for any locale, either explicitly (see
+ * {@link #getMessageFor(Enum, Locale, Object...)}) or for the current thread (see {@link #withLocale(Locale)}). The
+ * resource bundles of each such locale are loaded once into their own snapshot (view) and kept side by side, so
+ * serving users in several languages neither changes nor reloads the resource bundles of the manager.
+ * <p>
+ * The resource bundle enumerations annotated with {@link BundleEnumRegister} are discovered through the indexes
+ * generated at compile time, the class path roots without index being scanned. Setting the
+ * {@value BundleEnumRegisterVisitor#INDEX_ONLY_PROPERTY} system property to {@code true} disables this scan, so the
+ * startup does not depend on the size of the class path (every module must then be compiled with the
+ * {@link BundleEnumRegisterProcessor}).
+ * <p>
+ * The resource bundle files can be reloaded when edited by starting a {@link BundleWatcher} (see {@link #watch()}).
  * <hr>
  * @author <a href="mailto:christophe.resse@gmail.com">Christophe Resse - Heliosphere</a>
  * @version 1.0.0
@@ -54,15 +88,57 @@ public final class ResourceBundleManager
 	private static final String BUNDLE_FILENAME = "BundleFilename";
 
 	/**
-	 * Collection of resource bundles by resource bundle class.
+	 * Current snapshot of the resource bundles (replaced on each registration).
 	 */
-	private static final Map<Class<? extends IBundle>, ResourceBundle> BUNDLES = new HashMap<>(1, 0.75f);
+	private static volatile Catalog catalog = new Catalog(Collections.<Class<? extends IBundle>, ResourceBundle> emptyMap(), Collections.<Class<? extends IBundle>> emptySet(), null);
 
 	/**
-	 * Collection of resource bundle names by resource bundle class.
+	 * Collection of resource bundle names by resource bundle class (only accessed while holding the lock).
 	 */
 	private static final Map<Class<? extends IBundle>, String> NAMES = new HashMap<>(1, 0.75f);
 
+	/**
+	 * Resource bundle classes registered in indexed mode (only accessed while holding the lock).
+	 */
+	private static final Set<Class<? extends IBundle>> INDEXED = new HashSet<>();
+
+	/**
+	 * Methods annotated with the {@link BundleEnum} annotation (by method name) of the enumeration classes.
+	 */
+	private static final ClassValue<Map<String, BundleEnum>> BUNDLE_ENUMS = new ClassValue<Map<String, BundleEnum>>()
+	{
+		@Override
+		protected Map<String, BundleEnum> computeValue(final Class<?> type)
+		{
+			Map<String, BundleEnum> methods = new HashMap<>();
+			for (Method method : type.getMethods())
+			{
+				BundleEnum annotation = method.getAnnotation(BundleEnum.class);
+				if (annotation != null)
+				{
+					methods.put(method.getName(), annotation);
+				}
+			}
+
+			return Collections.unmodifiableMap(methods);
+		}
+	};
+
+	/**
+	 * Resource strings resolved through the {@link BundleEnum} annotation.
+	 */
+	private static final Map<ResourceKey, String> RESOURCES = new ConcurrentHashMap<>();
+
+	/**
+	 * Snapshots of the resource bundles by locale, loaded on demand (dropped on each registration).
+	 */
+	private static final Map<Locale, Catalog> VIEWS = new ConcurrentHashMap<>();
+
+	/**
+	 * Control used to load the views: falls back to the base resource bundle rather than to the default locale.
+	 */
+	private static final ResourceBundle.Control VIEW_CONTROL = ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_DEFAULT);
+
 	/**
 	 * English locale.
 	 */
@@ -72,7 +148,7 @@ public final class ResourceBundleManager
 	/**
 	 * Locale of manager (set to english by default).
 	 */
-	private static Locale locale = english;
+	private static volatile Locale locale = english;
 
 	/**
 	 * Configuration property file.
@@ -82,7 +158,7 @@ public final class ResourceBundleManager
 	/**
 	 * Is the manager initialized?
 	 */
-	private static boolean isInitialized = false;
+	private static volatile boolean isInitialized = false;
 
 	/**
 	 * Returns a resource string from its key using an enumerated value.
@@ -91,7 +167,6 @@ public final class ResourceBundleManager
 	 * implementing the {@code IBundle} interface).
 	 * @return Resource string.
 	 */
-	@Synchronized
 	public static final String getMessage(final Enum<? extends IBundle> key)
 	{
 		return getMessage(key, (Object[]) null);
@@ -108,7 +183,6 @@ public final class ResourceBundleManager
 	 * @return Message associated to the resource key or an exception message if
 	 * the corresponding resource string cannot be loaded.
 	 */
-	@Synchronized
 	public static final String getMessage(final Enum<? extends IBundle> key, final Object... parameters)
 	{
 		if (key == null)
@@ -116,7 +190,45 @@ public final class ResourceBundleManager
 			throw new InvalidArgumentException(BundleAthenaBase.ResourceBundleInvalidKey);
 		}
 
-		return retrieve(key, parameters);
+		return retrieve(key, LocaleScope.current(), parameters);
+	}
+
+	/**
+	 * Returns a message from a resource bundle file handled by the resource bundle manager for a given locale,
+	 * whatever the locale of the resource bundle manager is.
+	 * <p>
+	 * This service is not an overload of {@link #getMessage(Enum, Object...)} so that a locale passed as the first
+	 * message parameter keeps being formatted into the message.
+	 * <hr>
+	 * @param key Enumerated resource key.
+	 * @param locale Locale of the message.
+	 * @param parameters Parameters to inject in the message during message formatting.
+	 * @return Message associated to the resource key or an exception message if the corresponding resource string
+	 * cannot be loaded.
+	 */
+	public static final String getMessageFor(final Enum<? extends IBundle> key, final @NonNull Locale locale, final Object... parameters)
+	{
+		if (key == null)
+		{
+			throw new InvalidArgumentException(BundleAthenaBase.ResourceBundleInvalidKey);
+		}
+
+		return retrieve(key, locale, parameters);
+	}
+
+	/**
+	 * Opens a scope during which the messages retrieved by the current thread are resolved for the given locale.
+	 * <p>
+	 * <b>Example:</b>
+	 * <p>
+	 * <code>try (LocaleScope scope = ResourceBundleManager.withLocale(session.getLocale())) { ... }</code>
+	 * <hr>
+	 * @param locale Locale of the scope.
+	 * @return Scope to close once done.
+	 */
+	public static final LocaleScope withLocale(final @NonNull Locale locale)
+	{
+		return new LocaleScope(locale);
 	}
 
 	/**
@@ -132,17 +244,90 @@ public final class ResourceBundleManager
 		autoRegisterAnnotated();
 	}
 
+	/**
+	 * Initializes the resource bundle manager if not already done. The check is done again while holding the lock so
+	 * that only one thread initializes the manager.
+	 */
+	@Synchronized
+	private static final void initializeIfRequired()
+	{
+		if (!isInitialized)
+		{
+			initialize();
+		}
+	}
+
+	/**
+	 * Initializes the resource bundle manager asynchronously, typically at application boot, so that the first
+	 * message retrieval does not pay for the discovery and the loading of the resource bundles.
+	 * <p>
+	 * The resource bundle files are loaded in parallel using the given executor, then registered by priority.
+	 * <hr>
+	 * @param executor Executor used to initialize the resource bundle manager.
+	 * @return Future completed once the resource bundle manager is initialized.
+	 */
+	public static final CompletableFuture<Void> initializeAsync(final @NonNull Executor executor)
+	{
+		return CompletableFuture.supplyAsync(ResourceBundleManager::discoverAnnotated, executor)
+				.thenCompose(visitor -> visitor.preload(locale, executor).thenApply(ignored -> visitor))
+				.thenAcceptAsync(ResourceBundleManager::registerAnnotated, executor);
+	}
+
 	/**
 	 * Auto register resource bundle enumeration classes annotated with {@link BundleEnumRegister}
 	 * annotation.
 	 */
 	private static final void autoRegisterAnnotated()
+	{
+		registerAnnotated(discoverAnnotated());
+	}
+
+	/**
+	 * Discovers the resource bundle enumeration classes annotated with {@link BundleEnumRegister} annotation.
+	 * <p>
+	 * The indexes generated at compile time by the {@link BundleEnumRegisterProcessor} are used when available, the
+	 * class path roots having no index being scanned.
+	 * <hr>
+	 * @return Visitor holding the annotated classes.
+	 */
+	private static final BundleEnumRegisterVisitor discoverAnnotated()
 	{
 		try
 		{
 			BundleEnumRegisterVisitor visitor = new BundleEnumRegisterVisitor();
-			final AnnotationDetector detector = new AnnotationDetector(visitor);
-			detector.detect();
+
+			ClassLoader loader = Thread.currentThread().getContextClassLoader();
+			List<File> roots = visitor.loadIndex(loader != null ? loader : ResourceBundleManager.class.getClassLoader());
+			if (!roots.isEmpty())
+			{
+				final AnnotationDetector detector = new AnnotationDetector(visitor);
+				detector.detect(roots.toArray(new File[roots.size()]));
+			}
+
+			return visitor;
+		}
+		catch (Exception e)
+		{
+			throw new ResourceBundleException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Registers the discovered resource bundle enumeration classes, unless the resource bundle manager is already
+	 * initialized.
+	 * <hr>
+	 * @param visitor Visitor holding the annotated classes.
+	 */
+	@Synchronized
+	private static final void registerAnnotated(final BundleEnumRegisterVisitor visitor)
+	{
+		if (isInitialized)
+		{
+			return;
+		}
+
+		try
+		{
 			visitor.delegateRegistration();
 		}
 		catch (Exception e)
@@ -163,6 +348,7 @@ public final class ResourceBundleManager
 	 * be found.
 	 */
 	@SuppressWarnings("unused")
+	@Synchronized
 	private static final void initialize(final String filename, final Locale locale)
 	{
 		if (filename == null || filename.length() == 0)
@@ -175,19 +361,16 @@ public final class ResourceBundleManager
 			throw new InvalidArgumentException(BundleAthenaBase.ResourceBundleInvalidLocale);
 		}
 
-		synchronized (BUNDLES)
+		try
 		{
-			try
-			{
-				setProperties(new PropertiesConfiguration(filename));
-				setLocale(locale);
-				register(properties);
-			}
-			catch (final ConfigurationException e)
-			{
-				setInitialized(false);
-				throw new ResourceBundleException(e.getMessage(), e);
-			}
+			setProperties(new PropertiesConfiguration(filename));
+			setLocale(locale);
+			register(properties);
+		}
+		catch (final ConfigurationException e)
+		{
+			setInitialized(false);
+			throw new ResourceBundleException(e.getMessage(), e);
 		}
 	}
 
@@ -212,15 +395,55 @@ public final class ResourceBundleManager
 		ResourceBundleManager.properties = properties;
 	}
 
+	/**
+	 * Publishes a new snapshot of the resource bundles containing the given one.
+	 * <p>
+	 * Must be called while holding the lock.
+	 * <hr>
+	 * @param bundleClass Class of the resource bundle.
+	 * @param bundle Resource bundle.
+	 */
+	private static final void publish(final Class<? extends IBundle> bundleClass, final ResourceBundle bundle)
+	{
+		Map<Class<? extends IBundle>, ResourceBundle> copy = new HashMap<>(catalog.bundles);
+		copy.put(bundleClass, bundle);
+		catalog = new Catalog(copy, INDEXED, catalog);
+
+		// Views are reloaded on demand to include the new resource bundle.
+		VIEWS.clear();
+	}
+
 	/**
 	 * Registers a resource bundle using a resource bundle enumeration class
 	 * (implementing the {@link IBundle} interface).
 	 * <p>
 	 * @param bundleEnumClass Resource bundle enumeration class.
 	 */
-	@Synchronized
 	public static final void register(final Class<? extends IBundle> bundleEnumClass)
 	{
+		register(bundleEnumClass, false);
+	}
+
+	/**
+	 * Registers a resource bundle using a resource bundle enumeration class
+	 * (implementing the {@link IBundle} interface).
+	 * <p>
+	 * In indexed mode, the messages of all the enumerated values are resolved once for the current locale (and again
+	 * on each locale change) so that retrieving a message is a single array access by ordinal. Once registered in
+	 * indexed mode, a resource bundle enumeration class stays in this mode.
+	 * <hr>
+	 * @param bundleEnumClass Resource bundle enumeration class.
+	 * @param indexed {@code True} to register the resource bundle enumeration class in indexed mode, {@code false}
+	 * otherwise.
+	 */
+	@Synchronized
+	public static final void register(final Class<? extends IBundle> bundleEnumClass, final boolean indexed)
+	{
+		if (indexed)
+		{
+			INDEXED.add(bundleEnumClass);
+		}
+
 		IBundle value = bundleEnumClass.getEnumConstants()[0]; // BUNDLE_FILENAME must be at index 0!
 		if (value.toString().equals(BUNDLE_FILENAME))
 		{
@@ -340,9 +563,10 @@ public final class ResourceBundleManager
 
 		try
 		{
-			if (!BUNDLES.containsKey(bundleClass))
+			previous = catalog.bundles.get(bundleClass);
+			if (previous == null)
 			{
-				BUNDLES.put(bundleClass, bundle);
+				publish(bundleClass, bundle);
 				NAMES.put(bundleClass, bundleClass.getEnumConstants()[0].getKey());
 
 				setInitialized(true);
@@ -362,14 +586,19 @@ public final class ResourceBundleManager
 				 * the same, do nothing but if the locale is different then
 				 * replace it with the new one.
 				 */
-				previous = BUNDLES.get(bundleClass);
 				if (previous.getLocale().equals(bundle.getLocale()))
 				{
+					if (INDEXED.contains(bundleClass) && !catalog.indexes.containsKey(bundleClass))
+					{
+						// Registered again in indexed mode.
+						publish(bundleClass, previous);
+					}
+
 					log.debug(getMessage(BundleAthenaBase.ResourceBundleAlreadyRegistered, bundleClass.getSimpleName(), locale.toString()));
 				}
 				else
 				{
-					BUNDLES.put(bundleClass, bundle);
+					publish(bundleClass, bundle);
 
 					log.debug(getMessage(BundleAthenaBase.ResourceBundleReplaced, bundleClass.getSimpleName(), previous.getLocale().toString(), locale.toString(), Integer.valueOf(bundle.keySet().size())));
 				}
@@ -386,32 +615,112 @@ public final class ResourceBundleManager
 	 * Retrieves a message from a resource bundle from its key.
 	 * <p>
 	 * @param key Resource key to retrieve.
+	 * @param locale Locale of the message ({@code null} to use the locale of the manager).
 	 * @param parameters Parameters to inject while formatting the message.
 	 * @return The formatted message.
 	 */
 	@SuppressWarnings("nls")
-	private static final String retrieve(final Enum<? extends IBundle> key, final Object... parameters)
+	private static final String retrieve(final Enum<? extends IBundle> key, final Locale locale, final Object... parameters)
 	{
 		if (!isInitialized)
 		{
-			initialize();
+			initializeIfRequired();
 		}
 
 		final Class<? extends IBundle> bundleClass = key.getDeclaringClass();
 
-		if (BUNDLES.containsKey(bundleClass))
+		Catalog current = locale != null ? getView(locale) : catalog;
+		MessageTemplate[] index = current.indexes.get(bundleClass);
+		if (index != null && index[key.ordinal()] != null)
 		{
-			try
+			return index[key.ordinal()].format(parameters);
+		}
+
+		ResourceBundle bundle = current.bundles.get(bundleClass);
+		if (bundle == null)
+		{
+			// The bundle may be being registered by another thread.
+			current = awaitCatalog(locale);
+			bundle = current.bundles.get(bundleClass);
+		}
+
+		if (bundle != null)
+		{
+			MessageTemplate template = current.templates.get(key);
+			if (template == null)
 			{
-				return MessageFormat.format(BUNDLES.get(bundleClass).getString(((IBundle) key).getKey()), parameters);
+				try
+				{
+					template = new MessageTemplate(bundle.getString(((IBundle) key).getKey()));
+				}
+				catch (MissingResourceException e)
+				{
+					throw new ResourceBundleException(BundleAthenaBase.ResourceBundleInvalidKey, bundleClass.getSimpleName(), key.name(), bundleClass.getEnumConstants()[0].getKey(), locale != null ? locale : getLocale(), e);
+				}
+				current.templates.put(key, template);
 			}
-			catch (MissingResourceException e)
+
+			return template.format(parameters);
+		}
+
+		return "Resource bundle key cannot be found [bundle=" + bundleClass.getName() + ", key=" + key.name() + "]";
+	}
+
+	/**
+	 * Returns the snapshot of the resource bundles once the pending registrations, if any, are completed.
+	 * <hr>
+	 * @param locale Locale of the snapshot ({@code null} for the locale of the manager).
+	 * @return Snapshot of the resource bundles.
+	 */
+	@Synchronized
+	private static final Catalog awaitCatalog(final Locale locale)
+	{
+		return locale != null ? getView(locale) : catalog;
+	}
+
+	/**
+	 * Returns the snapshot of the resource bundles for a given locale, loading it if required.
+	 * <hr>
+	 * @param locale Locale.
+	 * @return Snapshot of the resource bundles.
+	 */
+	private static final Catalog getView(final Locale locale)
+	{
+		Catalog view = VIEWS.get(locale);
+
+		return view != null ? view : loadView(locale);
+	}
+
+	/**
+	 * Loads the snapshot of the registered resource bundles for a given locale.
+	 * <hr>
+	 * @param locale Locale.
+	 * @return Snapshot of the resource bundles.
+	 */
+	@Synchronized
+	private static final Catalog loadView(final Locale locale)
+	{
+		Catalog view = VIEWS.get(locale);
+		if (view == null)
+		{
+			Map<Class<? extends IBundle>, ResourceBundle> map = new HashMap<>();
+			for (Map.Entry<Class<? extends IBundle>, String> entry : NAMES.entrySet())
 			{
-				throw new ResourceBundleException(BundleAthenaBase.ResourceBundleInvalidKey, bundleClass.getSimpleName(), key.name(), bundleClass.getEnumConstants()[0].getKey(), getLocale(), e);
+				try
+				{
+					map.put(entry.getKey(), ResourceBundle.getBundle(entry.getValue(), locale, VIEW_CONTROL));
+				}
+				catch (MissingResourceException e)
+				{
+					throw new ResourceBundleException(BundleAthenaBase.ResourceBundleNotFound, entry.getValue(), locale, e);
+				}
 			}
+
+			view = new Catalog(map, INDEXED, null);
+			VIEWS.put(locale, view);
 		}
 
-		return "Resource bundle key cannot be found [bundle=" + bundleClass.getName() + ", key=" + key.name() + "]";
+		return view;
 	}
 
 	/**
@@ -432,6 +741,102 @@ public final class ResourceBundleManager
 		}
 	}
 
+	/**
+	 * Starts watching the resource bundle files of the registered resource bundle enumerations so that they are
+	 * reloaded when edited, without restarting the application nor changing the locale.
+	 * <hr>
+	 * @return Watcher to close to stop watching.
+	 * @throws IOException Thrown in case the watcher cannot be created.
+	 */
+	public static final BundleWatcher watch() throws IOException
+	{
+		if (!isInitialized)
+		{
+			initializeIfRequired();
+		}
+
+		return new BundleWatcher(getNames(), ResourceBundleManager.class.getClassLoader());
+	}
+
+	/**
+	 * Returns the base names of the registered resource bundles.
+	 * <hr>
+	 * @return Base names.
+	 */
+	@Synchronized
+	private static final Set<String> getNames()
+	{
+		return new HashSet<>(NAMES.values());
+	}
+
+	/**
+	 * Reloads a resource bundle whose file for a given locale has changed, in the snapshot of the manager and in the
+	 * views depending on this file. The other resource bundles and views are kept as is.
+	 * <p>
+	 * The strings resolved through the {@link BundleEnum} annotation from this resource bundle are dropped, along with
+	 * the resource bundles cached by the {@link ResourceBundle} class, so they are read again from the changed file.
+	 * <hr>
+	 * @param name Base name of the resource bundle.
+	 * @param changed Locale of the changed file ({@link Locale#ROOT} for the base file).
+	 * @param loader Function loading the resource bundle of the given base name for a given locale.
+	 */
+	@Synchronized
+	static final void reload(final String name, final Locale changed, final BiFunction<String, Locale, ResourceBundle> loader)
+	{
+		Catalog reloaded = reload(catalog, locale, name, changed, loader);
+		if (reloaded != null)
+		{
+			catalog = reloaded;
+		}
+
+		for (Map.Entry<Locale, Catalog> view : VIEWS.entrySet())
+		{
+			reloaded = reload(view.getValue(), view.getKey(), name, changed, loader);
+			if (reloaded != null)
+			{
+				view.setValue(reloaded);
+			}
+		}
+
+		ResourceBundle.clearCache();
+		RESOURCES.keySet().removeIf(key ->
+		{
+			BundleEnum annotation = BUNDLE_ENUMS.get(key.type).get(key.method);
+			return annotation == null || annotation.file().equals(name);
+		});
+	}
+
+	/**
+	 * Reloads a resource bundle in a snapshot if the snapshot depends on the changed file.
+	 * <hr>
+	 * @param source Snapshot.
+	 * @param locale Locale of the snapshot.
+	 * @param name Base name of the resource bundle.
+	 * @param changed Locale of the changed file.
+	 * @param loader Function loading the resource bundle of the given base name for a given locale.
+	 * @return New snapshot or {@code null} if the snapshot does not depend on the changed file.
+	 */
+	private static final Catalog reload(final Catalog source, final Locale locale, final String name, final Locale changed, final BiFunction<String, Locale, ResourceBundle> loader)
+	{
+		if (!VIEW_CONTROL.getCandidateLocales(name, locale).contains(changed))
+		{
+			return null;
+		}
+
+		Map<Class<? extends IBundle>, ResourceBundle> copy = null;
+		for (Map.Entry<Class<? extends IBundle>, String> entry : NAMES.entrySet())
+		{
+			ResourceBundle bundle = entry.getValue().equals(name) && source.bundles.containsKey(entry.getKey()) ? loader.apply(name, locale) : null;
+			if (bundle != null)
+			{
+				copy = copy != null ? copy : new HashMap<>(source.bundles);
+				copy.put(entry.getKey(), bundle);
+			}
+		}
+
+		return copy != null ? new Catalog(copy, INDEXED, source) : null;
+	}
+
 	/**
 	 * Refresh all the resource bundles already handled by the
 	 * {@link ResourceBundleManager} for the given {@link Locale}.
@@ -446,6 +851,10 @@ public final class ResourceBundleManager
 			ResourceBundleManager.locale = locale;
 		}
 
+		// All the bundles are reloaded then published at once so readers never see a partial snapshot.
+		final Map<Class<? extends IBundle>, ResourceBundle> previous = catalog.bundles;
+		final Map<Class<? extends IBundle>, ResourceBundle> refreshed = new HashMap<>(previous);
+
 		for (Class<? extends IBundle> bundleClass : NAMES.keySet())
 		{
 			final ResourceBundle bundle = ResourceBundle.getBundle(NAMES.get(bundleClass), locale);
@@ -459,8 +868,15 @@ public final class ResourceBundleManager
 				ResourceBundleManager.locale = locale;
 			}
 
-			BUNDLES.clear();
-			register(bundleClass, bundle);
+			refreshed.put(bundleClass, bundle);
+		}
+
+		catalog = new Catalog(refreshed, INDEXED, null);
+
+		for (Class<? extends IBundle> bundleClass : NAMES.keySet())
+		{
+			ResourceBundle bundle = refreshed.get(bundleClass);
+			log.debug(getMessage(BundleAthenaBase.ResourceBundleReplaced, bundleClass.getSimpleName(), previous.get(bundleClass).getLocale().toString(), ResourceBundleManager.locale.toString(), Integer.valueOf(bundle.keySet().size())));
 		}
 	}
 
@@ -477,63 +893,273 @@ public final class ResourceBundleManager
 	/**
 	 * Returns the resource bundle string of a given enumerated value for the given enumeration class. This
 	 * method is generally used by enumeration classes using the {@code BundleEnum} annotation.
+	 * <p>
+	 * When the enumeration class has several methods annotated with {@link BundleEnum}, the calling method is found
+	 * by walking the stack of the current thread.
 	 * <hr>
 	 * @param eClass Class of the enumeration.
 	 * @param e Enumerated value.
 	 * @return Resource bundle string.
+	 * @deprecated Use {@link #getResourceForMethodName(Class, String, Enum)} naming the calling method.
 	 */
+	@Deprecated
 	public static final String getResourceForMethodName(@NonNull final Class<? extends Enum<?>> eClass, final Enum<?> e)
 	{
-		return getResourceForMethodName(eClass, e, getLocale());
+		Locale scoped = LocaleScope.current();
+
+		return getResourceForMethodName(eClass, e, scoped != null ? scoped : locale);
 	}
 
 	/**
 	 * Returns the resource bundle string of a given enumerated value for the given enumeration class. This
 	 * method is generally used by enumeration classes using the {@code BundleEnum} annotation.
+	 * <p>
+	 * When the enumeration class has several methods annotated with {@link BundleEnum}, the calling method is found
+	 * by walking the stack of the current thread.
 	 * <hr>
 	 * @param eClass Class of the enumeration.
 	 * @param e Enumerated value.
 	 * @param locale {@link Locale} to use for resource string retrieval.
 	 * @return Resource bundle string.
+	 * @deprecated Use {@link #getResourceForMethodName(Class, String, Enum, Locale)} naming the calling method.
 	 */
-	@SuppressWarnings("nls")
+	@Deprecated
 	public static final String getResourceForMethodName(@NonNull final Class<? extends Enum<?>> eClass, final Enum<?> e, final Locale locale)
 	{
-		String key = null;
-		ResourceBundle bundle;
-		String methodName = null;
-		String className;
+		// A single annotated method name: no need to find the calling method.
+		Map<String, BundleEnum> methods = BUNDLE_ENUMS.get(eClass);
+		if (methods.size() == 1)
+		{
+			return getResourceForMethodName(eClass, methods.keySet().iterator().next(), e, locale);
+		}
 
-		int index = 1;
-		boolean found = false;
-		while (!found)
+		for (StackTraceElement element : new Throwable().getStackTrace())
 		{
-			className = Thread.currentThread().getStackTrace()[index].getClassName();
-			if (className.equals(eClass.getName()))
+			if (element.getClassName().equals(eClass.getName()))
 			{
-				methodName = Thread.currentThread().getStackTrace()[index].getMethodName();
-				found = true;
+				return getResourceForMethodName(eClass, element.getMethodName(), e, locale);
 			}
-			else
+		}
+
+		throw new ResourceBundleException(BundleAthenaBase.ResourceBundleInvalidKey, null, null, null, locale, e);
+	}
+
+	/**
+	 * Returns the resource bundle string of a given enumerated value for the given method (annotated with the
+	 * {@link BundleEnum} annotation) of an enumeration class, for the locale of the current thread (see
+	 * {@link #withLocale(Locale)}) or else the locale of the manager.
+	 * <hr>
+	 * @param eClass Class of the enumeration.
+	 * @param methodName Name of the method annotated with the {@link BundleEnum} annotation.
+	 * @param e Enumerated value.
+	 * @return Resource bundle string.
+	 */
+	public static final String getResourceForMethodName(@NonNull final Class<? extends Enum<?>> eClass, @NonNull final String methodName, @NonNull final Enum<?> e)
+	{
+		Locale scoped = LocaleScope.current();
+
+		return getResourceForMethodName(eClass, methodName, e, scoped != null ? scoped : locale);
+	}
+
+	/**
+	 * Returns the resource bundle string of a given enumerated value for the given method (annotated with the
+	 * {@link BundleEnum} annotation) of an enumeration class.
+	 * <p>
+	 * The annotated methods of an enumeration class are only introspected once and the resolved strings are cached
+	 * by enumerated value, method and locale.
+	 * <hr>
+	 * @param eClass Class of the enumeration.
+	 * @param methodName Name of the method annotated with the {@link BundleEnum} annotation.
+	 * @param e Enumerated value.
+	 * @param locale {@link Locale} to use for resource string retrieval.
+	 * @return Resource bundle string.
+	 */
+	@SuppressWarnings("nls")
+	public static final String getResourceForMethodName(@NonNull final Class<? extends Enum<?>> eClass, @NonNull final String methodName, @NonNull final Enum<?> e, @NonNull final Locale locale)
+	{
+		final ResourceKey resourceKey = new ResourceKey(eClass, methodName, e, locale);
+
+		String resource = RESOURCES.get(resourceKey);
+		if (resource == null)
+		{
+			BundleEnum annotation = BUNDLE_ENUMS.get(eClass).get(methodName);
+			String key = annotation != null ? annotation.path() + "." + e.name() : null;
+
+			try
+			{
+				if (annotation == null)
+				{
+					throw new MissingResourceException(methodName, eClass.getName(), e.name());
+				}
+
+				resource = ResourceBundle.getBundle(annotation.file(), locale).getString(key);
+			}
+			catch (MissingResourceException exception)
 			{
-				index++;
+				throw new ResourceBundleException(BundleAthenaBase.ResourceBundleInvalidKey, null, key, null, locale, e);
 			}
+
+			RESOURCES.putIfAbsent(resourceKey, resource);
 		}
 
-		if (found)
+		return resource;
+	}
+
+	/**
+	 * Immutable snapshot of the registered resource bundles along with the message templates parsed from them.
+	 */
+	private static final class Catalog
+	{
+		/**
+		 * Resource bundles by resource bundle class.
+		 */
+		private final Map<Class<? extends IBundle>, ResourceBundle> bundles;
+
+		/**
+		 * Message templates by resource bundle class, indexed by ordinal (only for the resource bundles registered in
+		 * indexed mode).
+		 */
+		private final Map<Class<? extends IBundle>, MessageTemplate[]> indexes;
+
+		/**
+		 * Message templates by resource key (filled on demand).
+		 */
+		private final Map<Enum<? extends IBundle>, MessageTemplate> templates = new ConcurrentHashMap<>();
+
+		/**
+		 * Creates a new snapshot.
+		 * <hr>
+		 * @param bundles Resource bundles by resource bundle class.
+		 * @param indexed Resource bundle classes registered in indexed mode.
+		 * @param previous Previous snapshot whose indexes are reused for the unchanged resource bundles (can be
+		 * {@code null}).
+		 */
+		private Catalog(final Map<Class<? extends IBundle>, ResourceBundle> bundles, final Set<Class<? extends IBundle>> indexed, final Catalog previous)
 		{
-			for (Method method : eClass.getMethods())
+			this.bundles = Collections.unmodifiableMap(bundles);
+
+			Map<Class<? extends IBundle>, MessageTemplate[]> map = new HashMap<>();
+			for (Class<? extends IBundle> bundleClass : indexed)
 			{
-				BundleEnum annotation = method.getAnnotation(BundleEnum.class);
-				if (annotation != null && method.getName().equals(methodName))
+				ResourceBundle bundle = bundles.get(bundleClass);
+				if (bundle != null)
+				{
+					MessageTemplate[] index = previous != null && previous.bundles.get(bundleClass) == bundle ? previous.indexes.get(bundleClass) : null;
+					map.put(bundleClass, index != null ? index : index(bundleClass, bundle));
+				}
+			}
+			this.indexes = Collections.unmodifiableMap(map);
+		}
+
+		/**
+		 * Resolves the message templates of all the enumerated values of a resource bundle enumeration class.
+		 * <hr>
+		 * @param bundleClass Resource bundle enumeration class.
+		 * @param bundle Resource bundle.
+		 * @return Message templates indexed by ordinal ({@code null} for the enumerated values having no message).
+		 */
+		private static final MessageTemplate[] index(final Class<? extends IBundle> bundleClass, final ResourceBundle bundle)
+		{
+			IBundle[] values = bundleClass.getEnumConstants();
+			MessageTemplate[] index = new MessageTemplate[values.length];
+
+			for (int i = 0; i < values.length; i++)
+			{
+				String key = values[i].getKey();
+				if (bundle.containsKey(key))
 				{
-					bundle = ResourceBundle.getBundle(annotation.file(), locale);
-					key = annotation.path() + "." + e.name();
-					return bundle.getString(key);
+					index[i] = new MessageTemplate(bundle.getString(key));
 				}
 			}
+
+			return index;
 		}
+	}
+
+	/**
+	 * Parsed message of a resource key.
+	 */
+	private static final class MessageTemplate
+	{
+		/**
+		 * Message formatted without parameters.
+		 */
+		private final String text;
+
+		/**
+		 * Parsed message format ({@code null} when the message contains neither format element nor quote).
+		 */
+		private final MessageFormat format;
+
+		/**
+		 * Copies of the message format owned by each reading thread (a message format is not thread safe).
+		 */
+		private final ThreadLocal<MessageFormat> formats;
+
+		/**
+		 * Creates a new message template.
+		 * <hr>
+		 * @param pattern Message pattern.
+		 */
+		private MessageTemplate(final String pattern)
+		{
+			if (pattern.indexOf('{') < 0 && pattern.indexOf('\'') < 0)
+			{
+				format = null;
+				formats = null;
+				text = pattern;
+			}
+			else
+			{
+				format = new MessageFormat(pattern);
+				formats = ThreadLocal.withInitial(() -> (MessageFormat) format.clone());
+				text = format.format(new Object[0]);
+			}
+		}
+
+		/**
+		 * Formats the message.
+		 * <hr>
+		 * @param parameters Parameters to inject in the message (can be {@code null}).
+		 * @return Formatted message.
+		 */
+		private final String format(final Object... parameters)
+		{
+			if (format == null || parameters == null || parameters.length == 0)
+			{
+				return text;
+			}
+
+			// Each thread formats through its own copy, so concurrent readers never block each other.
+			return formats.get().format(parameters);
+		}
+	}
+
+	/**
+	 * Key of a resource string resolved through the {@link BundleEnum} annotation.
+	 */
+	@AllArgsConstructor
+	@EqualsAndHashCode
+	private static final class ResourceKey
+	{
+		/**
+		 * Class of the enumeration.
+		 */
+		private final Class<?> type;
+
+		/**
+		 * Name of the annotated method.
+		 */
+		private final String method;
+
+		/**
+		 * Enumerated value.
+		 */
+		private final Enum<?> value;
 
-		throw new ResourceBundleException(BundleAthenaBase.ResourceBundleInvalidKey, null, key, null, locale, e);
+		/**
+		 * Locale.
+		 */
+		private final Locale locale;
 	}
 }
@@ -12,13 +12,13 @@
 package com.heliosphere.athena.base.terminal;
 
 import java.awt.Color;
-import java.io.FileInputStream;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
 import java.util.Properties;
 
-import javax.swing.text.AttributeSet;
-import javax.swing.text.SimpleAttributeSet;
-import javax.swing.text.StyleConstants;
-import javax.swing.text.StyleContext;
+import javax.swing.JTextPane;
+import javax.swing.SwingUtilities;
+import javax.swing.text.BadLocationException;
 
 import org.beryx.textio.TextTerminal;
 import org.beryx.textio.swing.SwingTextTerminal;
@@ -27,17 +27,21 @@ import com.heliosphere.athena.base.file.internal.FileException;
 import com.heliosphere.athena.base.file.internal.resource.IResource;
 import com.heliosphere.athena.base.file.internal.resource.Resource;
 
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j;
+
+@Log4j
 public abstract class AbstractTerminal implements Runnable
 {
 	/**
 	 * Terminal state.
 	 */
-	protected TerminalStatusType status = TerminalStatusType.UNKNOWN;
+	protected volatile TerminalStatusType status = TerminalStatusType.UNKNOWN;
 
 	/**
-	 * Wait interval.
+	 * Monitor used to wake up the terminal thread when some work is available or when the terminal status changes.
 	 */
-	protected static volatile int WAIT_INTERVAL = 100;
+	private final Object signal = new Object();
 
 	/**
 	 * Terminal thread.
@@ -47,14 +51,25 @@ public abstract class AbstractTerminal implements Runnable
 	/**
 	 * Text IO entry point.
 	 */
-	protected SwingTextTerminal io = null;
+	protected TextTerminal<?> io = null;
+
+	/**
+	 * Swing text terminal ({@code null} for a headless terminal).
+	 */
+	private SwingTextTerminal swing = null;
+
+	/**
+	 * Terminal configuration properties.
+	 */
+	private final Properties properties = new Properties();
 
 	/**
 	 * Creates a new abstract terminal.
 	 */
 	private AbstractTerminal()
 	{
-		io = new SwingTextTerminal();
+		swing = new SwingTextTerminal();
+		io = swing;
 	}
 
 	/**
@@ -68,14 +83,13 @@ public abstract class AbstractTerminal implements Runnable
 	{
 		this();
 
-		Properties properties = new Properties();
 		IResource resource = new Resource(config);
 
-		try (FileInputStream input = new FileInputStream(resource.getFile()))
+		try (InputStream input = resource.openStream())
 		{
 			properties.load(input);
-			io.initProperties(properties);
-			io.getFrame().setTitle(name);
+			swing.initProperties(properties);
+			swing.getFrame().setTitle(name);
 		}
 		catch (Exception e)
 		{
@@ -83,6 +97,20 @@ public abstract class AbstractTerminal implements Runnable
 		}
 	}
 
+	/**
+	 * Creates a new headless terminal.
+	 * <p>
+	 * The terminal reads and writes through the given text terminal instead of a Swing window, for example a
+	 * {@code SystemTextTerminal} (standard input and output streams) or a {@code MockTextTerminal} (in memory).
+	 * Styled outputs are written as plain text.
+	 * <hr>
+	 * @param terminal Text terminal to use.
+	 */
+	public AbstractTerminal(final @NonNull TextTerminal<?> terminal)
+	{
+		io = terminal;
+	}
+
 	/**
 	 * Returns the terminal's thread status.
 	 * <hr>
@@ -94,13 +122,35 @@ public abstract class AbstractTerminal implements Runnable
 	}
 
 	/**
-	 * Returns the underlying terminal.
+	 * Returns the value of a terminal configuration property.
+	 * <hr>
+	 * @param key Property key.
+	 * @param defaultValue Value to return if the property is not defined.
+	 * @return Property value.
+	 */
+	public final String getProperty(final String key, final String defaultValue)
+	{
+		return properties.getProperty(key, defaultValue);
+	}
+
+	/**
+	 * Returns the underlying Swing terminal.
 	 * <hr>
-	 * @return Underlying terminal.
+	 * @return Underlying Swing terminal or {@code null} for a headless terminal.
 	 */
 	public final SwingTextTerminal getIO()
 	{
-		return io;
+		return swing;
+	}
+
+	/**
+	 * Returns if this terminal is headless (not backed by a Swing window).
+	 * <hr>
+	 * @return {@code True} if the terminal is headless, {@code false} otherwise.
+	 */
+	public final boolean isHeadless()
+	{
+		return swing == null;
 	}
 
 	/**
@@ -113,7 +163,10 @@ public abstract class AbstractTerminal implements Runnable
 			thread = new Thread(this);
 			status = TerminalStatusType.INITIALIZE;
 			thread.start();
-			getIO().getFrame().setVisible(true);
+			if (swing != null)
+			{
+				swing.getFrame().setVisible(true);
+			}
 		}
 	}
 
@@ -125,6 +178,7 @@ public abstract class AbstractTerminal implements Runnable
 		if (status == TerminalStatusType.RUNNING)
 		{
 			status = TerminalStatusType.STOPPED;
+			signal();
 		}
 	}
 
@@ -136,6 +190,7 @@ public abstract class AbstractTerminal implements Runnable
 		if (status == TerminalStatusType.PAUSED)
 		{
 			status = TerminalStatusType.RUNNING;
+			signal();
 		}
 	}
 
@@ -147,9 +202,52 @@ public abstract class AbstractTerminal implements Runnable
 		if (status == TerminalStatusType.RUNNING)
 		{
 			status = TerminalStatusType.PAUSED;
+			signal();
 		}
 	}
 
+	/**
+	 * Wakes up the terminal thread if it is waiting for some work.
+	 */
+	protected final void signal()
+	{
+		synchronized (signal)
+		{
+			signal.notifyAll();
+		}
+	}
+
+	/**
+	 * Blocks the terminal thread until some work is available (see {@link #hasPendingWork()}), the terminal status
+	 * changes or the terminal is stopped.
+	 * <hr>
+	 * @throws InterruptedException Thrown in case the terminal thread has been interrupted while waiting.
+	 */
+	protected final void awaitWork() throws InterruptedException
+	{
+		synchronized (signal)
+		{
+			TerminalStatusType current = status;
+			while (status == current && status != TerminalStatusType.STOPPED && !hasPendingWork())
+			{
+				signal.wait();
+			}
+		}
+	}
+
+	/**
+	 * Returns if some work is waiting to be processed by the terminal thread.
+	 * <p>
+	 * Subclasses having queued work must override this method and call {@link #signal()} each time some work is
+	 * queued.
+	 * <hr>
+	 * @return {@code True} if some work is pending, {@code false} otherwise.
+	 */
+	protected boolean hasPendingWork()
+	{
+		return false;
+	}
+
 	/**
 	 * Returns the underlying text terminal.
 	 * <hr>
@@ -168,7 +266,10 @@ public abstract class AbstractTerminal implements Runnable
 	 */
 	public final void setTitle(final String title)
 	{
-		io.getFrame().setTitle(title);
+		if (swing != null)
+		{
+			swing.getFrame().setTitle(title);
+		}
 	}
 
 	/**
@@ -178,7 +279,10 @@ public abstract class AbstractTerminal implements Runnable
 	 */
 	public final void setBackgroundColor(final Color color)
 	{
-		io.getFrame().setBackground(color);
+		if (swing != null)
+		{
+			swing.getFrame().setBackground(color);
+		}
 	}
 
 	/**
@@ -187,20 +291,9 @@ public abstract class AbstractTerminal implements Runnable
 	 * @param text Text to be written to the console.
 	 * @param color Foreground color to use to write the text.
 	 */
-	@SuppressWarnings({ "nls", "boxing" })
 	public final void appendToPane(final String text, final Color color)
 	{
-		StyleContext sc = StyleContext.getDefaultStyleContext();
-		AttributeSet aset = sc.addAttribute(SimpleAttributeSet.EMPTY, StyleConstants.Foreground, color);
-
-		//		aset = sc.addAttribute(aset, StyleConstants.FontFamily, "Menlo Regular");
-		//		aset = sc.addAttribute(aset, StyleConstants.FontSize, 12);
-		aset = sc.addAttribute(aset, StyleConstants.Alignment, StyleConstants.ALIGN_LEFT);
-
-		int len = io.getTextPane().getDocument().getLength();
-		io.getTextPane().setCaretPosition(len);
-		io.getTextPane().setCharacterAttributes(aset, false);
-		io.getTextPane().replaceSelection(text);
+		write(new StyledOutput().append(text, color));
 	}
 
 	/**
@@ -211,19 +304,88 @@ public abstract class AbstractTerminal implements Runnable
 	 * @param fontFamily Font family.
 	 * @param fontSize Font size.
 	 */
-	@SuppressWarnings("boxing")
 	public final void appendToPane(final String text, final Color color, final String fontFamily, final int fontSize)
 	{
-		StyleContext sc = StyleContext.getDefaultStyleContext();
-		AttributeSet aset = sc.addAttribute(SimpleAttributeSet.EMPTY, StyleConstants.Foreground, color);
+		write(new StyledOutput().append(text, color, fontFamily, fontSize));
+	}
+
+	/**
+	 * Writes a styled output to the text pane.
+	 * <p>
+	 * The text runs are inserted at the end of the document in one operation executed on the Swing event dispatch
+	 * thread, so styled outputs written concurrently are never interleaved. A headless terminal prints the text of
+	 * the runs in one operation.
+	 * <hr>
+	 * @param output Styled output to write.
+	 */
+	public final void write(final @NonNull StyledOutput output)
+	{
+		if (output.isEmpty())
+		{
+			return;
+		}
+
+		if (swing == null)
+		{
+			synchronized (io)
+			{
+				io.print(output.getText());
+			}
+		}
+		else if (SwingUtilities.isEventDispatchThread())
+		{
+			insert(output);
+		}
+		else
+		{
+			SwingUtilities.invokeLater(() -> insert(output));
+		}
+	}
+
+	/**
+	 * Waits until all the styled outputs written so far have been inserted in the text pane.
+	 * <p>
+	 * Must be called before writing directly through the underlying text terminal (for example a prompt) to keep
+	 * the output in order.
+	 */
+	public final void flush()
+	{
+		if (swing != null && !SwingUtilities.isEventDispatchThread())
+		{
+			try
+			{
+				SwingUtilities.invokeAndWait(() -> {
+					// Empty, only waits for the previously scheduled outputs.
+				});
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+			catch (InvocationTargetException e)
+			{
+				log.error(e.getMessage(), e);
+			}
+		}
+	}
 
-		aset = sc.addAttribute(aset, StyleConstants.FontFamily, fontFamily);
-		aset = sc.addAttribute(aset, StyleConstants.FontSize, fontSize);
-		aset = sc.addAttribute(aset, StyleConstants.Alignment, StyleConstants.ALIGN_LEFT);
+	/**
+	 * Inserts a styled output at the end of the text pane.
+	 * <hr>
+	 * @param output Styled output to insert.
+	 */
+	private final void insert(final StyledOutput output)
+	{
+		JTextPane pane = swing.getTextPane();
 
-		int len = io.getTextPane().getDocument().getLength();
-		io.getTextPane().setCaretPosition(len);
-		io.getTextPane().setCharacterAttributes(aset, false);
-		io.getTextPane().replaceSelection(text);
+		try
+		{
+			output.insertInto(pane.getStyledDocument());
+			pane.setCaretPosition(pane.getDocument().getLength());
+		}
+		catch (BadLocationException e)
+		{
+			log.error(e.getMessage(), e);
+		}
 	}
 }
@@ -16,9 +16,14 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 
+import org.beryx.textio.TextTerminal;
+
+import com.heliosphere.athena.base.command.file.xml.XmlCommandCatalogLoader;
 import com.heliosphere.athena.base.command.file.xml.XmlCommandFile;
 import com.heliosphere.athena.base.command.internal.ICommand;
 import com.heliosphere.athena.base.command.internal.ICommandListener;
@@ -34,6 +39,7 @@ import com.heliosphere.athena.base.message.protocol.DefaultMessageProtocolUsingC
 
 import jline.Terminal;
 import lombok.NonNull;
+import lombok.extern.log4j.Log4j;
 
 /**
  * Provides a command terminal (a console being able to process commands) based on {@code Text IO}.
@@ -42,6 +48,7 @@ import lombok.NonNull;
  * @version 1.0.0
  * @see ICommand
  */
+@Log4j
 public final class CommandTerminal extends AbstractTerminal
 {
 	/**
@@ -80,6 +87,11 @@ public final class CommandTerminal extends AbstractTerminal
 	 */
 	protected ICommandCoordinator coordinator = null;
 
+	/**
+	 * Registration of the plug-in command files loaded in background.
+	 */
+	private CompletableFuture<Void> plugins = CompletableFuture.completedFuture(null);
+
 	/**
 	 * Creates a new basic terminal given the path name of an XMl file containing commands to register.
 	 * <hr>
@@ -98,6 +110,59 @@ public final class CommandTerminal extends AbstractTerminal
 		coordinator = new CommandCoordinator(this);
 	}
 
+	/**
+	 * Creates a new basic terminal given the path name of an XMl file containing the core commands to register and
+	 * the plug-in command files to register in background.
+	 * <p>
+	 * The terminal can be used as soon as the core commands are registered, the plug-in commands becoming available
+	 * once their files are loaded (see {@link #getPluginRegistration()}).
+	 * <hr>
+	 * @param name Terminal's window title.
+	 * @param config Terminal configuration file name.
+	 * @param commandFilename XML path name containing the core commands to register.
+	 * @param pluginCommands Directory or glob pattern of the plug-in command files to register.
+	 * @throws FileException In case an error occurred while trying to access the core command file.
+	 */
+	public CommandTerminal(final @NonNull String name, final @NonNull String config, final @NonNull String commandFilename, final @NonNull String pluginCommands) throws FileException
+	{
+		this(name, config, commandFilename);
+
+		plugins = registerCommandsAsync(pluginCommands);
+	}
+
+	/**
+	 * Creates a new headless command terminal given the path name of an XMl file containing commands to register.
+	 * <hr>
+	 * @param terminal Text terminal to read from and write to (see {@link AbstractTerminal#AbstractTerminal(TextTerminal)}).
+	 * @param commandFilename XML path name containing the commands to register.
+	 * @throws FileException In case an error occurred while trying to access the file.
+	 */
+	public CommandTerminal(final @NonNull TextTerminal<?> terminal, final @NonNull String commandFilename) throws FileException
+	{
+		super(terminal);
+
+		interpreter = new CommandInterpreter();
+		registerCommands(commandFilename);
+
+		coordinator = new CommandCoordinator(this);
+	}
+
+	/**
+	 * Creates a new headless command terminal given the path name of an XMl file containing the core commands to
+	 * register and the plug-in command files to register in background.
+	 * <hr>
+	 * @param terminal Text terminal to read from and write to (see {@link AbstractTerminal#AbstractTerminal(TextTerminal)}).
+	 * @param commandFilename XML path name containing the core commands to register.
+	 * @param pluginCommands Directory or glob pattern of the plug-in command files to register.
+	 * @throws FileException In case an error occurred while trying to access the core command file.
+	 */
+	public CommandTerminal(final @NonNull TextTerminal<?> terminal, final @NonNull String commandFilename, final @NonNull String pluginCommands) throws FileException
+	{
+		this(terminal, commandFilename);
+
+		plugins = registerCommandsAsync(pluginCommands);
+	}
+
 	/**
 	 * Submits a command.
 	 * <hr>
@@ -106,6 +171,7 @@ public final class CommandTerminal extends AbstractTerminal
 	public final void submitCommand(final DefaultMessageProtocolUsingClasses.SubmitCommand command)
 	{
 		commands.offer(command);
+		signal();
 	}
 	
 	public final boolean hasCommandToSubmit()
@@ -144,15 +210,80 @@ public final class CommandTerminal extends AbstractTerminal
 	}
 
 	/**
-	 * Registers a set of command metadata (definitions) contained in a {@code XML} file.
+	 * Returns the registration of the plug-in command files loaded in background.
 	 * <hr>
-	 * @param pathname XML command file path name.
+	 * @return Future completed once the plug-in commands have been registered (already completed if there is no
+	 * plug-in command file).
+	 */
+	public final CompletableFuture<Void> getPluginRegistration()
+	{
+		return plugins;
+	}
+
+	/**
+	 * Registers a set of command metadata (definitions) contained in a {@code XML} file or, when the path name is a
+	 * directory or a glob pattern, in several {@code XML} files loaded in parallel (see
+	 * {@link XmlCommandCatalogLoader}).
+	 * <hr>
+	 * @param pathname XML command file path name, directory or glob pattern.
 	 * @throws FileException Thrown in case an error occurred while trying to access the file.
 	 */
 	public final void registerCommands(final @NonNull String pathname) throws FileException
 	{
+		if (!XmlCommandCatalogLoader.isCatalog(pathname))
+		{
+			new XmlCommandFile(pathname).load(interpreter);
+			return;
+		}
+
+		try
+		{
+			registerCommandsAsync(pathname).join();
+		}
+		catch (CompletionException e)
+		{
+			throw e.getCause() instanceof FileException ? (FileException) e.getCause() : new FileException(e);
+		}
+	}
+
+	/**
+	 * Registers in background the command metadata (definitions) contained in the {@code XML} files of a directory
+	 * or matching a glob pattern, the files being loaded in parallel on the common fork-join pool.
+	 * <hr>
+	 * @param pattern Directory or glob pattern of the command files.
+	 * @return Future completed once the commands have been registered or completed exceptionally with a
+	 * {@link FileException}.
+	 */
+	@SuppressWarnings("nls")
+	public final CompletableFuture<Void> registerCommandsAsync(final @NonNull String pattern)
+	{
+		return new XmlCommandCatalogLoader().register(pattern, interpreter).whenComplete((result, e) ->
+		{
+			if (e != null)
+			{
+				log.error("Unable to register command files: " + pattern, e);
+			}
+		});
+	}
+
+	/**
+	 * Registers a set of command metadata (definitions) contained in a {@code XML} file, optionally through a binary
+	 * snapshot of its initialized commands (see {@link XmlCommandFile#load(boolean)}).
+	 * <hr>
+	 * @param pathname XML command file path name.
+	 * @param snapshot Indicates if the snapshot of the file must be used.
+	 * @throws FileException Thrown in case an error occurred while trying to access the file.
+	 */
+	public final void registerCommands(final @NonNull String pathname, final boolean snapshot) throws FileException
+	{
+		if (!snapshot)
+		{
+			registerCommands(pathname);
+			return;
+		}
+
 		XmlCommandFile file = new XmlCommandFile(pathname);
-		file.load();
+		file.load(true);
 
 		try
 		{
@@ -166,6 +297,9 @@ public final class CommandTerminal extends AbstractTerminal
 
 	/**
 	 * Processes a command.
+	 * <p>
+	 * The command is executed synchronously, on the terminal thread, so its output is printed before the next prompt
+	 * and the submitted commands are executed in order.
 	 * <hr>
 	 * @param command Command to process.
 	 */
@@ -216,13 +350,12 @@ public final class CommandTerminal extends AbstractTerminal
 	{
 		while (status != TerminalStatusType.STOPPED)
 		{
-			if (status == TerminalStatusType.INITIALIZE) 
+			if (status == TerminalStatusType.INITIALIZE)
 			{
-				if (commands.size() > 0) 
+				DefaultMessageProtocolUsingClasses.SubmitCommand command = commands.poll();
+				if (command != null)
 				{
-					DefaultMessageProtocolUsingClasses.SubmitCommand command = commands.poll();
-
-					if (command.getDuration() != null) 
+					if (command.getDuration() != null)
 					{
 						try
 						{
@@ -237,33 +370,46 @@ public final class CommandTerminal extends AbstractTerminal
 					// Execute the command.
 					interpretAndSubmit(command.getText());
 				}
-				else 
+				else
 				{
 					status = TerminalStatusType.RUNNING;
 				}
 			}
-
-			if (status == TerminalStatusType.RUNNING)
+			else if (status == TerminalStatusType.RUNNING)
 			{
-				io.print(prompt);
+				// Blocks until the user enters some text.
+				flush();
+				synchronized (io)
+				{
+					// Same lock as the headless writes, so the prompt is never interleaved with a command output.
+					io.print(prompt);
+				}
 				text = io.read(false);
 
 				interpretAndSubmit(text);
 			}
-
-			try
-			{
-				Thread.sleep(WAIT_INTERVAL); // Value is expressed in milliseconds.
-			}
-			catch (InterruptedException e)
+			else
 			{
-				getTerminal().println("Terminal interrupted!");
+				try
+				{
+					// Paused, blocks until the terminal status changes.
+					awaitWork();
+				}
+				catch (InterruptedException e)
+				{
+					getTerminal().println("Terminal interrupted!");
+				}
 			}
 		}
 	}
 
+	/**
+	 * Prints an exception on the terminal.
+	 * <hr>
+	 * @param e Exception to print.
+	 */
 	@SuppressWarnings("nls")
-	public final void printException(final Exception e)
+	public final void printException(final Throwable e)
 	{
 		appendToPane("[error] " + e.getMessage() + "\n\n", Color.ORANGE);
 		resume();
@@ -14,6 +14,9 @@ package com.heliosphere.athena.base.terminal;
 import java.awt.Color;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.beryx.textio.TextTerminal;
 
 import com.heliosphere.athena.base.command.internal.ICommand;
 import com.heliosphere.athena.base.file.internal.FileException;
@@ -29,11 +32,37 @@ import lombok.NonNull;
  */
 public final class OutputTerminal extends AbstractTerminal
 {
+	/**
+	 * Terminal configuration property defining the maximum number of lines waiting to be written to the console.
+	 */
+	@SuppressWarnings("nls")
+	public static final String PROPERTY_HIGH_WATER_MARK = "athena.terminal.output.highWaterMark";
+
+	/**
+	 * Default maximum number of lines waiting to be written to the console.
+	 */
+	public static final int DEFAULT_HIGH_WATER_MARK = 10000;
+
 	/**
 	 * Received text to output on the console.
 	 */
 	private Queue<String> queue = new ConcurrentLinkedQueue<>();
 
+	/**
+	 * Number of lines waiting to be written to the console.
+	 */
+	private final AtomicInteger pending = new AtomicInteger();
+
+	/**
+	 * Number of lines dropped since the last write to the console.
+	 */
+	private final AtomicInteger dropped = new AtomicInteger();
+
+	/**
+	 * Maximum number of lines waiting to be written to the console. Once reached, the oldest lines are dropped.
+	 */
+	private volatile int highWaterMark;
+
 	/**
 	 * Creates a new basic output terminal.
 	 * <hr>
@@ -46,35 +75,123 @@ public final class OutputTerminal extends AbstractTerminal
 		super(name, terminalConfigurationFilename);
 
 		// Disable text input!
-		io.getFrame().setEnabled(false);
+		getIO().getFrame().setEnabled(false);
+
+		try
+		{
+			setHighWaterMark(Integer.parseInt(getProperty(PROPERTY_HIGH_WATER_MARK, String.valueOf(DEFAULT_HIGH_WATER_MARK)).trim()));
+		}
+		catch (IllegalArgumentException e)
+		{
+			throw new FileException(e);
+		}
+	}
+
+	/**
+	 * Creates a new headless output terminal.
+	 * <hr>
+	 * @param terminal Text terminal to write to.
+	 */
+	public OutputTerminal(final @NonNull TextTerminal<?> terminal)
+	{
+		super(terminal);
+
+		setHighWaterMark(DEFAULT_HIGH_WATER_MARK);
+	}
+
+	/**
+	 * Sets the maximum number of lines waiting to be written to the console. When more lines are added, the oldest
+	 * ones are dropped and replaced by a notice.
+	 * <hr>
+	 * @param highWaterMark Maximum number of pending lines (must be strictly positive).
+	 */
+	@SuppressWarnings("nls")
+	public final void setHighWaterMark(final int highWaterMark)
+	{
+		if (highWaterMark <= 0)
+		{
+			throw new IllegalArgumentException("High water mark must be strictly positive: " + highWaterMark);
+		}
+
+		this.highWaterMark = highWaterMark;
+	}
+
+	/**
+	 * Returns the maximum number of lines waiting to be written to the console.
+	 * <hr>
+	 * @return Maximum number of pending lines.
+	 */
+	public final int getHighWaterMark()
+	{
+		return highWaterMark;
 	}
 
 	@SuppressWarnings("nls")
 	@Override
 	public final void run()
 	{
+		StringBuilder batch = new StringBuilder();
+
 		while (status != TerminalStatusType.STOPPED)
 		{
-			if (status == TerminalStatusType.RUNNING)
+			if (status == TerminalStatusType.INITIALIZE)
 			{
-				String text = queue.peek();
-				if (text != null)
-				{
-					getTerminal().println(text);
-				}
+				status = TerminalStatusType.RUNNING;
 			}
 
-			try
+			if (status == TerminalStatusType.RUNNING && drain(batch))
 			{
-				Thread.sleep(WAIT_INTERVAL); // Value is expressed in milliseconds.
+				// Write all the pending lines in one document update.
+				flush();
+				getTerminal().print(batch.toString());
+				batch.setLength(0);
 			}
-			catch (InterruptedException e)
+			else
 			{
-				getTerminal().println("Terminal interrupted! Reason is: " + e.getMessage());
+				try
+				{
+					// Blocks until some text is added or the terminal status changes.
+					awaitWork();
+				}
+				catch (InterruptedException e)
+				{
+					getTerminal().println("Terminal interrupted! Reason is: " + e.getMessage());
+				}
 			}
 		}
 	}
 
+	/**
+	 * Moves all the pending lines to a batch.
+	 * <hr>
+	 * @param batch Batch receiving the lines (each one terminated by a new line).
+	 * @return {@code True} if some lines have been moved, {@code false} otherwise.
+	 */
+	@SuppressWarnings("nls")
+	private final boolean drain(final StringBuilder batch)
+	{
+		int count = dropped.getAndSet(0);
+		if (count > 0)
+		{
+			batch.append("[").append(count).append(" line(s) dropped]\n");
+		}
+
+		String text;
+		while ((text = queue.poll()) != null)
+		{
+			pending.decrementAndGet();
+			batch.append(text).append('\n');
+		}
+
+		return batch.length() > 0;
+	}
+
+	@Override
+	protected final boolean hasPendingWork()
+	{
+		return status == TerminalStatusType.RUNNING && !queue.isEmpty();
+	}
+
 	/**
 	 * Adds some text to be written to the console.
 	 * <hr>
@@ -83,6 +200,15 @@ public final class OutputTerminal extends AbstractTerminal
 	public final void addText(final String text)
 	{
 		queue.offer(text);
+
+		// Under flood, drop the oldest lines rather than letting the queue grow without bound.
+		if (pending.incrementAndGet() > highWaterMark && queue.poll() != null)
+		{
+			pending.decrementAndGet();
+			dropped.incrementAndGet();
+		}
+
+		signal();
 	}
 
 	/**
@@ -95,9 +221,10 @@ public final class OutputTerminal extends AbstractTerminal
 	@SuppressWarnings("nls")
 	public final void printSay(final String timestamp, final String user, final String text)
 	{
-		appendToPane(timestamp, Color.LIGHT_GRAY);
-		appendToPane(" " + user, Color.CYAN);
-		appendToPane(" " + text + "\n", Color.ORANGE);
+		write(new StyledOutput()
+				.append(timestamp, Color.LIGHT_GRAY)
+				.append(" " + user, Color.CYAN)
+				.append(" " + text + "\n", Color.ORANGE));
 
 		resume();
 	}
@@ -113,9 +240,10 @@ public final class OutputTerminal extends AbstractTerminal
 	@SuppressWarnings("nls")
 	public final void printWhisper(final String timestamp, final String recipient, final String text, final String sender)
 	{
-		appendToPane(timestamp, Color.LIGHT_GRAY);
-		appendToPane(" " + sender, Color.CYAN);
-		appendToPane(" " + text + "\n", Color.WHITE);
+		write(new StyledOutput()
+				.append(timestamp, Color.LIGHT_GRAY)
+				.append(" " + sender, Color.CYAN)
+				.append(" " + text + "\n", Color.WHITE));
 
 		resume();
 	}
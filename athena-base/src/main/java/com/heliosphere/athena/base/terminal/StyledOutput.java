@@ -0,0 +1,217 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.terminal;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.swing.text.AttributeSet;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.SimpleAttributeSet;
+import javax.swing.text.StyleConstants;
+import javax.swing.text.StyleContext;
+import javax.swing.text.StyledDocument;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+
+/**
+ * Buffer of styled text runs to be written to a terminal in one operation.
+ * <p>
+ * Callers append text runs with their style (foreground color and optionally a font) then write the whole buffer
+ * through {@link AbstractTerminal#write(StyledOutput)}. The attribute sets are created once per style and shared
+ * by all the buffers.
+ * <p>
+ * A styled output is not thread safe and must not be modified once written to a terminal.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class StyledOutput
+{
+	/**
+	 * Attribute sets by style.
+	 */
+	private static final Map<Style, AttributeSet> STYLES = new ConcurrentHashMap<>();
+
+	/**
+	 * Texts of the runs.
+	 */
+	private final List<String> texts = new ArrayList<>();
+
+	/**
+	 * Attribute sets of the runs (same index as the texts).
+	 */
+	private final List<AttributeSet> attributes = new ArrayList<>();
+
+	/**
+	 * Appends a text run.
+	 * <hr>
+	 * @param text Text to append.
+	 * @param color Foreground color of the text.
+	 * @return This styled output.
+	 */
+	public final StyledOutput append(final @NonNull String text, final @NonNull Color color)
+	{
+		return append(text, color, null, 0);
+	}
+
+	/**
+	 * Appends a text run.
+	 * <hr>
+	 * @param text Text to append.
+	 * @param color Foreground color of the text.
+	 * @param fontFamily Font family ({@code null} to use the default one).
+	 * @param fontSize Font size ({@code 0} to use the default one).
+	 * @return This styled output.
+	 */
+	public final StyledOutput append(final @NonNull String text, final @NonNull Color color, final String fontFamily, final int fontSize)
+	{
+		if (!text.isEmpty())
+		{
+			texts.add(text);
+			attributes.add(getAttributes(new Style(color, fontFamily, fontSize)));
+		}
+
+		return this;
+	}
+
+	/**
+	 * Appends a new line.
+	 * <hr>
+	 * @return This styled output.
+	 */
+	@SuppressWarnings("nls")
+	public final StyledOutput newLine()
+	{
+		return append("\n", Color.WHITE);
+	}
+
+	/**
+	 * Returns if this styled output is empty.
+	 * <hr>
+	 * @return {@code True} if no text run has been appended, {@code false} otherwise.
+	 */
+	public final boolean isEmpty()
+	{
+		return texts.isEmpty();
+	}
+
+	/**
+	 * Returns the text of the runs, without style.
+	 * <hr>
+	 * @return Text.
+	 */
+	public final String getText()
+	{
+		StringBuilder builder = new StringBuilder();
+		for (String text : texts)
+		{
+			builder.append(text);
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Inserts the text runs at the end of a styled document. Consecutive runs sharing the same style are inserted at
+	 * once.
+	 * <p>
+	 * Must be called on the Swing event dispatch thread when the document is displayed.
+	 * <hr>
+	 * @param document Styled document.
+	 * @throws BadLocationException Thrown in case the text cannot be inserted.
+	 */
+	public final void insertInto(final StyledDocument document) throws BadLocationException
+	{
+		StringBuilder run = new StringBuilder();
+		AttributeSet current = null;
+
+		for (int i = 0; i < texts.size(); i++)
+		{
+			if (attributes.get(i) != current && run.length() > 0)
+			{
+				document.insertString(document.getLength(), run.toString(), current);
+				run.setLength(0);
+			}
+
+			current = attributes.get(i);
+			run.append(texts.get(i));
+		}
+
+		if (run.length() > 0)
+		{
+			document.insertString(document.getLength(), run.toString(), current);
+		}
+	}
+
+	/**
+	 * Returns the (shared) attribute set of a style.
+	 * <hr>
+	 * @param style Style.
+	 * @return Attribute set.
+	 */
+	@SuppressWarnings("boxing")
+	private static final AttributeSet getAttributes(final Style style)
+	{
+		AttributeSet set = STYLES.get(style);
+		if (set == null)
+		{
+			StyleContext context = StyleContext.getDefaultStyleContext();
+			set = context.addAttribute(SimpleAttributeSet.EMPTY, StyleConstants.Foreground, style.color);
+			if (style.fontFamily != null)
+			{
+				set = context.addAttribute(set, StyleConstants.FontFamily, style.fontFamily);
+			}
+			if (style.fontSize > 0)
+			{
+				set = context.addAttribute(set, StyleConstants.FontSize, style.fontSize);
+			}
+			set = context.addAttribute(set, StyleConstants.Alignment, StyleConstants.ALIGN_LEFT);
+
+			AttributeSet previous = STYLES.putIfAbsent(style, set);
+			if (previous != null)
+			{
+				set = previous;
+			}
+		}
+
+		return set;
+	}
+
+	/**
+	 * Style of a text run.
+	 */
+	@AllArgsConstructor
+	@EqualsAndHashCode
+	private static final class Style
+	{
+		/**
+		 * Foreground color.
+		 */
+		private final Color color;
+
+		/**
+		 * Font family (can be {@code null}).
+		 */
+		private final String fontFamily;
+
+		/**
+		 * Font size ({@code 0} if not set).
+		 */
+		private final int fontSize;
+	}
+}
@@ -15,8 +15,23 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
+import com.heliosphere.athena.base.test.command.CommandParameterTest;
+import com.heliosphere.athena.base.test.command.coordinator.CommandCoordinatorTest;
 import com.heliosphere.athena.base.test.command.file.xml.XmlChatCommandFileTest;
+import com.heliosphere.athena.base.test.command.file.xml.XmlCommandCatalogLoaderTest;
+import com.heliosphere.athena.base.test.command.interpreter.CommandInterpreterTest;
+import com.heliosphere.athena.base.test.command.protocol.ProtocolDispatchTableTest;
+import com.heliosphere.athena.base.test.exception.ExceptionMessageTest;
+import com.heliosphere.athena.base.test.file.AtomicFileWriterTest;
+import com.heliosphere.athena.base.test.file.CoalescingFileSaverTest;
+import com.heliosphere.athena.base.test.file.resource.ResourceTest;
+import com.heliosphere.athena.base.test.resource.bundle.BundleEnumRegisterProcessorTest;
+import com.heliosphere.athena.base.test.resource.bundle.BundleWatcherTest;
 import com.heliosphere.athena.base.test.resource.bundle.ResourceBundleTest;
+import com.heliosphere.athena.base.test.terminal.AbstractTerminalTest;
+import com.heliosphere.athena.base.test.terminal.CommandTerminalTest;
+import com.heliosphere.athena.base.test.terminal.OutputTerminalTest;
+import com.heliosphere.athena.base.test.terminal.StyledOutputTest;
 
 /**
  * Provides a test suite that is responsible to run all the unit tests available in the {@code athena-base} module.
@@ -25,7 +40,7 @@ import com.heliosphere.athena.base.test.resource.bundle.ResourceBundleTest;
  * @version 1.0.0
  */
 @RunWith(Suite.class)
-@SuiteClasses({ ResourceBundleTest.class, XmlChatCommandFileTest.class })
+@SuiteClasses({ ResourceBundleTest.class, BundleEnumRegisterProcessorTest.class, BundleWatcherTest.class, XmlChatCommandFileTest.class, XmlCommandCatalogLoaderTest.class, CommandInterpreterTest.class, CommandParameterTest.class, CommandCoordinatorTest.class, ProtocolDispatchTableTest.class, EnumIndexTest.class, ExceptionMessageTest.class, ResourceTest.class, CoalescingFileSaverTest.class, AtomicFileWriterTest.class, StyledOutputTest.class, AbstractTerminalTest.class, OutputTerminalTest.class, CommandTerminalTest.class })
 public class AthenaBaseTestSuite
 {
 	// Empty.
@@ -0,0 +1,74 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.test;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.heliosphere.athena.base.EnumIndex;
+import com.heliosphere.athena.base.command.protocol.DefaultCommandCategoryType;
+import com.heliosphere.athena.base.command.protocol.DefaultCommandProtocol;
+import com.heliosphere.athena.base.command.protocol.DefaultParameterType;
+import com.heliosphere.athena.base.exception.InvalidArgumentException;
+import com.heliosphere.athena.base.message.protocol.TestMessageProtocol;
+
+/**
+ * Test class for the {@link EnumIndex} class.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@SuppressWarnings("nls")
+public class EnumIndexTest
+{
+	/**
+	 * Test the enumerated values are found by name whatever the case.
+	 */
+	@Test
+	public final void testFindByName()
+	{
+		EnumIndex<DefaultCommandProtocol> index = EnumIndex.byName(DefaultCommandProtocol.class);
+
+		Assert.assertSame(index, EnumIndex.byName(DefaultCommandProtocol.class));
+		for (DefaultCommandProtocol protocol : DefaultCommandProtocol.values())
+		{
+			Assert.assertSame(protocol, index.find(protocol.name()));
+			Assert.assertSame(protocol, index.find(protocol.name().toLowerCase()));
+		}
+
+		Assert.assertNull(index.find("unknown"));
+		Assert.assertNull(index.find(null));
+		Assert.assertSame(DefaultCommandProtocol.HELP, DefaultCommandProtocol.HELP.fromString("hElP"));
+		Assert.assertSame(TestMessageProtocol.MESSAGE_LOBBY_CREATE, TestMessageProtocol.MESSAGE_LOBBY_CREATE.fromString("message_lobby_create"));
+	}
+
+	/**
+	 * Test the enumerated values are found by a custom key, the first declared value winning for a shared key.
+	 */
+	@Test
+	public final void testFindByKey()
+	{
+		Assert.assertSame(DefaultCommandCategoryType.NORMAL, DefaultCommandCategoryType.fromPrefix("/"));
+		Assert.assertSame(DefaultCommandCategoryType.DEBUG, DefaultCommandCategoryType.fromPrefix("*"));
+		Assert.assertSame(DefaultParameterType.LONG, DefaultParameterType.fromType(Long.class.getName()));
+	}
+
+	/**
+	 * Test an unknown value is rejected.
+	 */
+	@Test(expected = InvalidArgumentException.class)
+	public final void testUnknownType()
+	{
+		// The lookup by type name is case sensitive.
+		DefaultParameterType.fromType("JAVA.LANG.LONG");
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.test.command;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.heliosphere.athena.base.command.CommandParameter;
+import com.heliosphere.athena.base.command.CommandParameterMetadata;
+import com.heliosphere.athena.base.command.ParameterConverterRegistry;
+import com.heliosphere.athena.base.command.internal.protocol.IParameterType;
+import com.heliosphere.athena.base.command.protocol.DefaultParameterType;
+import com.heliosphere.athena.base.exception.InvalidArgumentException;
+
+/**
+ * Test class for the {@link CommandParameter} class.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@SuppressWarnings("nls")
+public class CommandParameterTest
+{
+	/**
+	 * Custom parameter types used by the tests.
+	 */
+	private enum CustomParameterType implements IParameterType
+	{
+		/**
+		 * A parameter type stored as an {@code integer} value.
+		 */
+		PORT,
+
+		/**
+		 * A parameter type converted into a socket address.
+		 */
+		ADDRESS;
+
+		@Override
+		public String getType()
+		{
+			return name();
+		}
+	}
+
+	/**
+	 * Test the values are parsed in place from a region of the command text.
+	 */
+	@Test
+	public final void testPrimitiveValues()
+	{
+		String text = "/ban -d= 90m -n 42 -l -9223372036854775808 -r 0.5 -f TRUE";
+
+		Assert.assertEquals(90 * 60 * 1000L, create(DefaultParameterType.DURATION, text, 9, 12).getDuration().toMillis());
+		Assert.assertEquals(42, create(DefaultParameterType.INTEGER, text, 16, 18).getInt());
+		Assert.assertEquals(42L, create(DefaultParameterType.INTEGER, text, 16, 18).getLong());
+		Assert.assertEquals(Long.MIN_VALUE, create(DefaultParameterType.LONG, text, 22, 42).getLong());
+		Assert.assertEquals(0.5, create(DefaultParameterType.DOUBLE, text, 46, 49).getDouble(), 0);
+		Assert.assertTrue(create(DefaultParameterType.BOOLEAN, text, 53, 57).getBoolean());
+
+		Assert.assertEquals(Integer.valueOf(42), create(DefaultParameterType.INTEGER, text, 16, 18).getValue());
+		Assert.assertEquals(Duration.ofMinutes(90), create(DefaultParameterType.DURATION, "PT1H30M", 0, 7).getValue());
+		Assert.assertEquals(Duration.ofSeconds(30), create(DefaultParameterType.DURATION, "30", 0, 2).getDuration());
+		Assert.assertEquals(Duration.ofSeconds(5), create(DefaultParameterType.DURATION, "+5s", 0, 3).getDuration());
+		Assert.assertEquals("-n", create(DefaultParameterType.STRING, text, 13, 15).getValue());
+	}
+
+	/**
+	 * Test a parameter without value.
+	 */
+	@Test
+	public final void testNoValue()
+	{
+		CommandParameter parameter = create(DefaultParameterType.INTEGER, null, 0, 0);
+
+		Assert.assertFalse(parameter.hasValue());
+		Assert.assertNull(parameter.getValue());
+		Assert.assertEquals(Boolean.FALSE, create(DefaultParameterType.BOOLEAN, null, 0, 0).getValue());
+	}
+
+	/**
+	 * Test an out of range value is rejected.
+	 */
+	@Test(expected = NumberFormatException.class)
+	public final void testIntegerOverflow()
+	{
+		create(DefaultParameterType.INTEGER, "2147483648", 0, 10);
+	}
+
+	/**
+	 * Test an invalid ISO-8601 duration is rejected as an invalid number.
+	 */
+	@Test(expected = NumberFormatException.class)
+	public final void testInvalidIsoDuration()
+	{
+		create(DefaultParameterType.DURATION, "P1X", 0, 3);
+	}
+
+	/**
+	 * Test an ISO-8601 duration overflowing once converted to milliseconds is rejected as an invalid number.
+	 */
+	@Test(expected = NumberFormatException.class)
+	public final void testIsoDurationOverflow()
+	{
+		create(DefaultParameterType.DURATION, "PT9223372036854775807S", 0, 22);
+	}
+
+	/**
+	 * Test a typed accessor not matching the parameter type is rejected.
+	 */
+	@Test(expected = InvalidArgumentException.class)
+	public final void testTypeMismatch()
+	{
+		create(DefaultParameterType.STRING, "42", 0, 2).getInt();
+	}
+
+	/**
+	 * Test the values of the custom parameter types are converted according to the registry.
+	 */
+	@Test
+	public final void testCustomTypes()
+	{
+		Assert.assertEquals("8080", create(CustomParameterType.PORT, "8080", 0, 4).getValue());
+
+		try
+		{
+			ParameterConverterRegistry.register(CustomParameterType.PORT, DefaultParameterType.INTEGER);
+			ParameterConverterRegistry.register(CustomParameterType.ADDRESS, (text, start, end) -> InetSocketAddress.createUnresolved(text.subSequence(start, end).toString(), 0));
+
+			Assert.assertEquals(8080, create(CustomParameterType.PORT, "8080", 0, 4).getInt());
+			Assert.assertEquals("localhost", ((InetSocketAddress) create(CustomParameterType.ADDRESS, "-a localhost", 3, 12).getValue()).getHostString());
+		}
+		finally
+		{
+			ParameterConverterRegistry.unregister(CustomParameterType.PORT);
+			ParameterConverterRegistry.unregister(CustomParameterType.ADDRESS);
+		}
+	}
+
+	/**
+	 * Creates a command parameter.
+	 * <hr>
+	 * @param type Parameter type.
+	 * @param source Text containing the value.
+	 * @param start Start index of the value.
+	 * @param end End index of the value.
+	 * @return Command parameter.
+	 */
+	private static final CommandParameter create(final Enum<? extends IParameterType> type, final String source, final int start, final int end)
+	{
+		CommandParameterMetadata metadata = new CommandParameterMetadata("value", "Parameter value", "-v");
+		metadata.setType(type);
+
+		return new CommandParameter("-v", metadata, source, start, end);
+	}
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.test.command.coordinator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.heliosphere.athena.base.command.file.xml.XmlCommandFile;
+import com.heliosphere.athena.base.command.internal.ICommand;
+import com.heliosphere.athena.base.command.internal.coordinator.CommandCoordinator;
+import com.heliosphere.athena.base.command.internal.exception.CommandException;
+import com.heliosphere.athena.base.command.internal.exception.CommandNotFoundException;
+import com.heliosphere.athena.base.command.internal.processor.ExecutableCommand;
+import com.heliosphere.athena.base.command.internal.protocol.ICommandProtocolType;
+import com.heliosphere.athena.base.command.interpreter.CommandInterpreter;
+import com.heliosphere.athena.base.command.protocol.DefaultCommandProtocol;
+import com.heliosphere.athena.base.command.response.CommandStatusType;
+import com.heliosphere.athena.base.command.response.ICommandResponse;
+import com.heliosphere.athena.base.terminal.CommandTerminal;
+
+/**
+ * Test class for the {@link CommandCoordinator} class.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public class CommandCoordinatorTest
+{
+	/**
+	 * XML file containing the chat command definitions.
+	 */
+	@SuppressWarnings("nls")
+	private XmlCommandFile chatCommandfile = new XmlCommandFile("/config/command/chat-commands-v2.xml");
+
+	/**
+	 * Command interpreter.
+	 */
+	private CommandInterpreter interpreter;
+
+	/**
+	 * Executor used to execute the commands asynchronously.
+	 */
+	private ExecutorService executor;
+
+	/**
+	 * Sets up the fixture.
+	 * <p>
+	 * @throws Exception In case an error occurs during the setup phase.
+	 */
+	@Before
+	public final void setUp() throws Exception
+	{
+		chatCommandfile.load();
+
+		interpreter = new CommandInterpreter();
+		interpreter.registerCommands(chatCommandfile.getContent());
+
+		executor = Executors.newFixedThreadPool(4);
+	}
+
+	/**
+	 * Tears down the fixture.
+	 * <p>
+	 * @throws Exception In case an error occurs during the tear down phase.
+	 */
+	@After
+	public final void tearDown() throws Exception
+	{
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Test a command is executed asynchronously and its response is returned through the future.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred while executing the command.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testExecuteAsync() throws Exception
+	{
+		final List<ICommand> executed = Collections.synchronizedList(new ArrayList<>());
+
+		CommandCoordinator coordinator = new CommandCoordinator(null, executor);
+		coordinator.registerExecutable(new RecordingCommand(executed, false, null));
+
+		ICommand command = interpreter.interpret("/help -cat");
+		ICommandResponse response = coordinator.executeAsync(command).get();
+
+		Assert.assertTrue(response.getStatus() == CommandStatusType.PROCESSED);
+		Assert.assertTrue(response.getCommand() == command);
+		Assert.assertTrue(executed.size() == 1);
+	}
+
+	/**
+	 * Test the commands of an ordered command processor are executed one at a time and in their submission order.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred while executing the commands.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testExecuteAsyncOrdered() throws Exception
+	{
+		final String[] texts = { "/help -cat", "/help -name=help", "/help" };
+		final List<ICommand> executed = Collections.synchronizedList(new ArrayList<>());
+		final List<ICommand> submitted = new ArrayList<>();
+		final List<CompletableFuture<ICommandResponse>> futures = new ArrayList<>();
+		final AtomicBoolean overlap = new AtomicBoolean(false);
+
+		CommandCoordinator coordinator = new CommandCoordinator(null, executor);
+		coordinator.registerExecutable(new RecordingCommand(executed, true, overlap));
+
+		for (int i = 0; i < 30; i++)
+		{
+			ICommand command = interpreter.interpret(texts[i % texts.length]);
+			submitted.add(command);
+			futures.add(coordinator.executeAsync(command));
+		}
+
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()])).get();
+
+		Assert.assertFalse(overlap.get());
+		Assert.assertEquals(submitted, executed);
+	}
+
+	/**
+	 * Test executing a command having no registered command processor fails.
+	 * <hr>
+	 * @throws CommandException Thrown in case an error occurred while executing the command.
+	 */
+	@SuppressWarnings("nls")
+	@Test(expected = CommandNotFoundException.class)
+	public final void testExecuteAsyncNotFound() throws CommandException
+	{
+		new CommandCoordinator(null, executor).executeAsync(interpreter.interpret("/help"));
+	}
+
+	/**
+	 * Command processor for the {@code help} command recording the commands it executes.
+	 */
+	private static final class RecordingCommand implements ExecutableCommand
+	{
+		/**
+		 * Executed commands.
+		 */
+		private final List<ICommand> executed;
+
+		/**
+		 * Is this command processor ordered?
+		 */
+		private final boolean ordered;
+
+		/**
+		 * Flag set in case two commands are executed at the same time.
+		 */
+		private final AtomicBoolean overlap;
+
+		/**
+		 * Number of commands being executed.
+		 */
+		private final AtomicInteger running = new AtomicInteger();
+
+		/**
+		 * Creates a new recording command processor.
+		 * <hr>
+		 * @param executed List receiving the executed commands.
+		 * @param ordered Is this command processor ordered?
+		 * @param overlap Flag set in case two commands are executed at the same time (can be {@code null}).
+		 */
+		public RecordingCommand(final List<ICommand> executed, final boolean ordered, final AtomicBoolean overlap)
+		{
+			this.executed = executed;
+			this.ordered = ordered;
+			this.overlap = overlap;
+		}
+
+		@Override
+		public final Enum<? extends ICommandProtocolType> getProtocolType()
+		{
+			return DefaultCommandProtocol.HELP;
+		}
+
+		@Override
+		public final void execute(final CommandTerminal terminal, final ICommand command) throws CommandException
+		{
+			if (running.incrementAndGet() > 1 && overlap != null)
+			{
+				overlap.set(true);
+			}
+
+			try
+			{
+				Thread.sleep(1);
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+
+			executed.add(command);
+			running.decrementAndGet();
+		}
+
+		@Override
+		public final boolean isOrdered()
+		{
+			return ordered;
+		}
+	}
+}
@@ -13,6 +13,8 @@ package com.heliosphere.athena.base.test.command.file.xml;
 
 import static org.junit.Assert.fail;
 
+import java.io.File;
+import java.io.RandomAccessFile;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
@@ -24,6 +26,7 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import com.heliosphere.athena.base.command.CommandCatalogSnapshot;
 import com.heliosphere.athena.base.command.file.xml.XmlCommandFile;
 import com.heliosphere.athena.base.command.internal.ICommand;
 import com.heliosphere.athena.base.command.internal.ICommandMetadata;
@@ -106,6 +109,135 @@ public class XmlChatCommandFileTest
 		}
 	}
 
+	/**
+	 * Test the XML command files share the same configured engine.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testEngineShared()
+	{
+		try
+		{
+			XmlCommandFile other = new XmlCommandFile("/config/command/chat-commands-v2.xml");
+			other.load();
+
+			Assert.assertSame(chatCommandfile.getEngine(), other.getEngine());
+			Assert.assertEquals(chatCommandfile.getContent().size(), other.getContent().size());
+			Assert.assertTrue(other.getByName("help").getParameterByName("category") != null);
+		}
+		catch (Exception e)
+		{
+			fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * Test the commands of an XML command file can be loaded in streaming mode into an interpreter.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testStreamXmlCommandFile()
+	{
+		try
+		{
+			XmlCommandFile other = new XmlCommandFile("/config/command/chat-commands-v2.xml");
+			CommandInterpreter interpreter = new CommandInterpreter();
+			other.load(interpreter, 1);
+
+			Assert.assertTrue(other.getContent().isEmpty());
+			Assert.assertEquals("Resse Christophe", other.getHeader().getAuthor());
+			Assert.assertNotNull(other.getFooter().getChanged());
+			Assert.assertEquals(chatCommandfile.getContent().size(), interpreter.getCommandDefinitions().size());
+
+			ICommand command = interpreter.interpret("/help -cat:chat");
+			Assert.assertTrue(command != null);
+		}
+		catch (Exception e)
+		{
+			fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * Test the commands of an XML command file can be restored from a binary snapshot.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testSnapshotXmlCommandFile()
+	{
+		File snapshot = CommandCatalogSnapshot.getSnapshotFile(chatCommandfile.getResource().getFile());
+		snapshot.delete();
+
+		try
+		{
+			new XmlCommandFile("/config/command/chat-commands-v2.xml").load(true);
+			Assert.assertTrue(snapshot.isFile());
+
+			XmlCommandFile restored = new XmlCommandFile("/config/command/chat-commands-v2.xml");
+			restored.load(true);
+
+			Assert.assertEquals(chatCommandfile.getContent().size(), restored.getContent().size());
+			Assert.assertEquals("Resse Christophe", restored.getHeader().getAuthor());
+			Assert.assertEquals(chatCommandfile.getFooter().getChanged(), restored.getFooter().getChanged());
+
+			ICommandMetadata help = restored.getByName("help");
+			Assert.assertSame(chatCommandfile.getByName("help").getProtocolType(), help.getProtocolType());
+			Assert.assertSame(chatCommandfile.getByName("help").getParameterByName("category").getType(), help.getParameterByName("category").getType());
+			Assert.assertEquals("-cat", help.getParameterByName("category").getTag());
+			Assert.assertEquals("help", restored.findByAlias("h").get(0).getName());
+
+			// A snapshot not matching the content of the file is ignored.
+			Assert.assertNull(CommandCatalogSnapshot.read(snapshot, CommandCatalogSnapshot.hash(snapshot)));
+		}
+		catch (Exception e)
+		{
+			fail(e.getMessage());
+		}
+		finally
+		{
+			snapshot.delete();
+		}
+	}
+
+	/**
+	 * Test a snapshot containing corrupted lengths is ignored instead of triggering huge allocations.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testCorruptedSnapshot()
+	{
+		File file = chatCommandfile.getResource().getFile();
+		File snapshot = CommandCatalogSnapshot.getSnapshotFile(file);
+		snapshot.delete();
+
+		try
+		{
+			new XmlCommandFile("/config/command/chat-commands-v2.xml").load(true);
+			long hash = CommandCatalogSnapshot.hash(file);
+			Assert.assertNotNull(CommandCatalogSnapshot.read(snapshot, hash));
+
+			// Length of the first string of the header (after the magic number, the version, the hash and the header flag).
+			for (int length : new int[] { Integer.MAX_VALUE, -2 })
+			{
+				try (RandomAccessFile output = new RandomAccessFile(snapshot, "rw"))
+				{
+					output.seek(17);
+					output.writeInt(length);
+				}
+
+				Assert.assertNull(CommandCatalogSnapshot.read(snapshot, hash));
+			}
+		}
+		catch (Exception e)
+		{
+			fail(e.getMessage());
+		}
+		finally
+		{
+			snapshot.delete();
+		}
+	}
+
 	/**
 	 * Test the header of a XML command file.
 	 */
@@ -0,0 +1,115 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.test.command.file.xml;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletionException;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.heliosphere.athena.base.command.file.xml.XmlCommandCatalogLoader;
+import com.heliosphere.athena.base.command.file.xml.XmlCommandFile;
+import com.heliosphere.athena.base.command.interpreter.CommandInterpreter;
+import com.heliosphere.athena.base.file.internal.FileException;
+
+/**
+ * Test class for the {@link XmlCommandCatalogLoader} class.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@SuppressWarnings("nls")
+public class XmlCommandCatalogLoaderTest
+{
+	/**
+	 * Temporary directory containing the command files.
+	 */
+	private Path directory;
+
+	/**
+	 * Sets up the fixture.
+	 * <p>
+	 * @throws Exception In case an error occurs during the setup phase.
+	 */
+	@Before
+	public final void setUp() throws Exception
+	{
+		directory = Files.createTempDirectory("athena-catalog-");
+
+		File core = new XmlCommandFile("/config/command/chat-commands-v2.xml").getResource().getFile();
+		Files.copy(core.toPath(), directory.resolve("core-commands.xml"));
+		Files.write(directory.resolve("readme.txt"), "Not a command file".getBytes());
+	}
+
+	/**
+	 * Tears down the fixture.
+	 * <p>
+	 * @throws Exception In case an error occurs during the tear down phase.
+	 */
+	@After
+	public final void tearDown() throws Exception
+	{
+		Files.walk(directory).sorted((a, b) -> b.compareTo(a)).map(Path::toFile).forEach(File::delete);
+	}
+
+	/**
+	 * Test the command files of a directory are registered.
+	 */
+	@Test
+	public final void testRegisterDirectory()
+	{
+		CommandInterpreter interpreter = new CommandInterpreter();
+
+		Assert.assertTrue(XmlCommandCatalogLoader.isCatalog(directory.toString()));
+		new XmlCommandCatalogLoader().register(directory.toString(), interpreter).join();
+
+		Assert.assertEquals(2, interpreter.getCommandDefinitions().size());
+	}
+
+	/**
+	 * Test the command files matching a glob pattern are found in the order of their names.
+	 * <hr>
+	 * @throws Exception Thrown in case the command files cannot be found.
+	 */
+	@Test
+	public final void testFindGlob() throws Exception
+	{
+		Assert.assertTrue(XmlCommandCatalogLoader.isCatalog("/config/command/chat-commands*.xml"));
+		Assert.assertEquals(2, XmlCommandCatalogLoader.find("/config/command/chat-commands*.xml").size());
+		Assert.assertEquals("chat-commands-v2.xml", XmlCommandCatalogLoader.find("/config/command/chat-commands*.xml").get(0).getName());
+		Assert.assertEquals(1, XmlCommandCatalogLoader.find(directory.resolve("core-*.xml").toString()).size());
+	}
+
+	/**
+	 * Test a protocol type defined by several command files is reported for the same files whatever the loading
+	 * order.
+	 */
+	@Test
+	public final void testDuplicateProtocolDetected()
+	{
+		try
+		{
+			new XmlCommandCatalogLoader().register("/config/command/chat-commands*.xml", new CommandInterpreter()).join();
+			Assert.fail("Duplicate protocol type not detected");
+		}
+		catch (CompletionException e)
+		{
+			Assert.assertTrue(e.getCause() instanceof FileException);
+			Assert.assertTrue(e.getCause().getMessage().contains("first=chat-commands-v2.xml, second=chat-commands.xml"));
+		}
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.test.command.interpreter;
+
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.heliosphere.athena.base.command.file.xml.XmlCommandFile;
+import com.heliosphere.athena.base.command.internal.ICommand;
+import com.heliosphere.athena.base.command.internal.exception.CommandException;
+import com.heliosphere.athena.base.command.interpreter.CommandInterpreter;
+import com.heliosphere.athena.base.command.protocol.DefaultCommandProtocol;
+
+/**
+ * Test class for the {@link CommandInterpreter} class.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public class CommandInterpreterTest
+{
+	/**
+	 * XML file containing the chat command definitions.
+	 */
+	@SuppressWarnings("nls")
+	private XmlCommandFile chatCommandfile = new XmlCommandFile("/config/command/chat-commands-v2.xml");
+
+	/**
+	 * Command interpreter.
+	 */
+	private CommandInterpreter interpreter;
+
+	/**
+	 * Initialization of the test cases.
+	 * <p>
+	 * @throws Exception In case an error occurs during the initialization.
+	 */
+	@BeforeClass
+	public static final void setUpBeforeClass() throws Exception
+	{
+		// Empty
+	}
+
+	/**
+	 * Finalization of the test cases.
+	 * <p>
+	 * @throws Exception In case an error occurs during the finalization.
+	 */
+	@AfterClass
+	public static final void tearDownAfterClass() throws Exception
+	{
+		// Empty
+	}
+
+	/**
+	 * Sets up the fixture.
+	 * <p>
+	 * @throws Exception In case an error occurs during the setup phase.
+	 */
+	@Before
+	public final void setUp() throws Exception
+	{
+		chatCommandfile.load();
+
+		interpreter = new CommandInterpreter();
+		interpreter.registerCommands(chatCommandfile.getContent());
+	}
+
+	/**
+	 * Tears down the fixture.
+	 * <p>
+	 * @throws Exception In case an error occurs during the tear down phase.
+	 */
+	@After
+	public final void tearDown() throws Exception
+	{
+		// Empty
+	}
+
+	/**
+	 * Test the parameters of a command are correctly extracted.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testInterpretTaggedParameter()
+	{
+		try
+		{
+			ICommand command = interpreter.interpret("  /help   -name=quit  ");
+			Assert.assertTrue(command.getProtocol() == DefaultCommandProtocol.HELP);
+			Assert.assertTrue(command.getParameters().size() == 1);
+			Assert.assertTrue(command.getParameter("name").getValue().equals("quit"));
+		}
+		catch (CommandException e)
+		{
+			fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * Test a command can be resolved using one of its aliases.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testInterpretAlias()
+	{
+		try
+		{
+			Assert.assertTrue(interpreter.interpret("/h -cat").getMetadata().getName().equals("help"));
+			Assert.assertTrue(interpreter.interpret("/exit").getProtocol() == DefaultCommandProtocol.QUIT);
+		}
+		catch (CommandException e)
+		{
+			fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * Test registering a command for an already registered protocol type fails.
+	 * <hr>
+	 * @throws CommandException Thrown in case an error occurred while registering a command.
+	 */
+	@Test(expected = CommandException.class)
+	public final void testRegisterDuplicateProtocol() throws CommandException
+	{
+		interpreter.registerCommands(chatCommandfile.getContent());
+	}
+
+	/**
+	 * Test commands registered one at a time extend the previous registrations, and a rejected registration leaves
+	 * them unchanged.
+	 * <hr>
+	 * @throws CommandException Thrown in case an error occurred while registering or interpreting a command.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testRegisterIncrementally() throws CommandException
+	{
+		CommandInterpreter other = new CommandInterpreter();
+		other.registerCommand(chatCommandfile.getByName("help"));
+
+		Assert.assertEquals(1, other.getCommandDefinitions().size());
+		Assert.assertTrue(other.interpret("/h -cat").getProtocol() == DefaultCommandProtocol.HELP);
+
+		other.registerCommand(chatCommandfile.getByName("quit"));
+
+		Assert.assertEquals(2, other.getCommandDefinitions().size());
+		Assert.assertTrue(other.interpret("/exit").getProtocol() == DefaultCommandProtocol.QUIT);
+		Assert.assertTrue(other.interpret("/help").getProtocol() == DefaultCommandProtocol.HELP);
+
+		try
+		{
+			other.registerCommand(chatCommandfile.getByName("quit"));
+			fail("Duplicate protocol type not detected");
+		}
+		catch (CommandException e)
+		{
+			Assert.assertEquals(2, other.getCommandDefinitions().size());
+			Assert.assertTrue(other.interpret("/quit").getProtocol() == DefaultCommandProtocol.QUIT);
+		}
+	}
+
+	/**
+	 * Test a single command interpreter can be used concurrently by several threads.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred while interpreting a command.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testInterpretConcurrently() throws Exception
+	{
+		final String[] texts = { "/help -cat", "/help -name=help", "/quit", "/help" };
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<Future<Boolean>> results = new ArrayList<>();
+
+		try
+		{
+			for (int i = 0; i < 200; i++)
+			{
+				final String text = texts[i % texts.length];
+				results.add(executor.submit(new Callable<Boolean>()
+				{
+					@Override
+					public Boolean call() throws Exception
+					{
+						ICommand command = interpreter.interpret(text);
+						return Boolean.valueOf(command.getText().equals(text) && command.getProtocol() != null);
+					}
+				}));
+			}
+
+			for (Future<Boolean> result : results)
+			{
+				Assert.assertTrue(result.get().booleanValue());
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+}
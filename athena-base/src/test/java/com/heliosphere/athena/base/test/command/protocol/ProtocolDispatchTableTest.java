@@ -0,0 +1,150 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.test.command.protocol;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.heliosphere.athena.base.command.internal.protocol.ICommandCategoryType;
+import com.heliosphere.athena.base.command.internal.protocol.ICommandDomainType;
+import com.heliosphere.athena.base.command.internal.protocol.ICommandGroupType;
+import com.heliosphere.athena.base.command.internal.protocol.ICommandProtocolType;
+import com.heliosphere.athena.base.command.internal.protocol.ProtocolDispatchTable;
+import com.heliosphere.athena.base.command.protocol.DefaultCommandCategoryType;
+import com.heliosphere.athena.base.command.protocol.DefaultCommandDomainType;
+import com.heliosphere.athena.base.command.protocol.DefaultCommandGroupType;
+import com.heliosphere.athena.base.command.protocol.DefaultCommandProtocol;
+
+/**
+ * Test class for the {@link ProtocolDispatchTable} class.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public class ProtocolDispatchTableTest
+{
+	/**
+	 * Test values can be associated to and retrieved from command protocol types.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testWithAndGet()
+	{
+		ProtocolDispatchTable<String> empty = ProtocolDispatchTable.empty();
+		ProtocolDispatchTable<String> table = empty.with(DefaultCommandProtocol.HELP, "help").with(DefaultCommandProtocol.QUIT, "quit");
+
+		Assert.assertTrue(empty.size() == 0);
+		Assert.assertNull(empty.get(DefaultCommandProtocol.HELP));
+
+		Assert.assertTrue(table.size() == 2);
+		Assert.assertEquals("help", table.get(DefaultCommandProtocol.HELP));
+		Assert.assertEquals("quit", table.get(DefaultCommandProtocol.QUIT));
+		Assert.assertNull(table.get(DefaultCommandProtocol.AFK));
+		Assert.assertNull(table.get(null));
+
+		// Replacing a value does not change the size nor the original table.
+		ProtocolDispatchTable<String> other = table.with(DefaultCommandProtocol.HELP, "other");
+		Assert.assertTrue(other.size() == 2);
+		Assert.assertEquals("other", other.get(DefaultCommandProtocol.HELP));
+		Assert.assertEquals("help", table.get(DefaultCommandProtocol.HELP));
+	}
+
+	/**
+	 * Test command protocol types declared by several enumerations can be mixed in a table.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testSeveralProtocolEnumerations()
+	{
+		ProtocolDispatchTable<String> table = ProtocolDispatchTable.<String> empty()
+				.with(DefaultCommandProtocol.HELP, "help")
+				.with(TestCommandProtocol.WHO, "who")
+				.with(TestCommandProtocol.WHISPER, "whisper");
+
+		Assert.assertTrue(table.size() == 3);
+		Assert.assertEquals("help", table.get(DefaultCommandProtocol.HELP));
+		Assert.assertEquals("who", table.get(TestCommandProtocol.WHO));
+		Assert.assertEquals("whisper", table.get(TestCommandProtocol.WHISPER));
+		Assert.assertNull(table.get(DefaultCommandProtocol.AFK));
+		Assert.assertNull(table.get(TestCommandProtocol.IGNORE));
+	}
+
+	/**
+	 * Test a builder adds several values at once without modifying the original table.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testBuilder()
+	{
+		ProtocolDispatchTable<String> table = ProtocolDispatchTable.<String> empty().with(DefaultCommandProtocol.HELP, "help");
+		ProtocolDispatchTable.Builder<String> builder = table.toBuilder();
+
+		Assert.assertTrue(builder.contains(DefaultCommandProtocol.HELP));
+		Assert.assertFalse(builder.contains(TestCommandProtocol.WHO));
+
+		ProtocolDispatchTable<String> other = builder.put(DefaultCommandProtocol.QUIT, "quit").put(TestCommandProtocol.WHO, "who").put(DefaultCommandProtocol.HELP, "other").build();
+
+		Assert.assertTrue(other.size() == 3);
+		Assert.assertEquals("other", other.get(DefaultCommandProtocol.HELP));
+		Assert.assertEquals("quit", other.get(DefaultCommandProtocol.QUIT));
+		Assert.assertEquals("who", other.get(TestCommandProtocol.WHO));
+
+		Assert.assertTrue(table.size() == 1);
+		Assert.assertEquals("help", table.get(DefaultCommandProtocol.HELP));
+		Assert.assertNull(table.get(DefaultCommandProtocol.QUIT));
+	}
+
+	/**
+	 * A second command protocol enumeration used by the tests.
+	 */
+	private enum TestCommandProtocol implements ICommandProtocolType
+	{
+		/**
+		 * Lists the connected users.
+		 */
+		WHO,
+
+		/**
+		 * Sends a private message.
+		 */
+		WHISPER,
+
+		/**
+		 * Ignores a user.
+		 */
+		IGNORE;
+
+		@Override
+		public Enum<? extends ICommandProtocolType> fromString(final String value)
+		{
+			return valueOf(value);
+		}
+
+		@Override
+		public Enum<? extends ICommandCategoryType> getCategory()
+		{
+			return DefaultCommandCategoryType.NORMAL;
+		}
+
+		@Override
+		public Enum<? extends ICommandGroupType> getGroup()
+		{
+			return DefaultCommandGroupType.CHAT;
+		}
+
+		@Override
+		public Enum<? extends ICommandDomainType> getDomain()
+		{
+			return DefaultCommandDomainType.APPLICATION;
+		}
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.test.exception;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Locale;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.heliosphere.athena.base.command.internal.exception.CommandException;
+import com.heliosphere.athena.base.exception.AbstractUncheckedException;
+import com.heliosphere.athena.base.exception.InvalidArgumentException;
+import com.heliosphere.athena.base.resource.bundle.BundleAthenaBase;
+import com.heliosphere.athena.base.resource.bundle.LocaleScope;
+import com.heliosphere.athena.base.resource.bundle.ResourceBundleManager;
+
+/**
+ * Test class for the messages of the exceptions inheriting from {@link AbstractUncheckedException} and
+ * {@link com.heliosphere.athena.base.exception.AbstractCheckedException}.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@SuppressWarnings("nls")
+public class ExceptionMessageTest
+{
+	/**
+	 * Test the message of an exception created from a key is formatted on demand.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public final void testMessageFromKey()
+	{
+		ResourceBundleManager.setLocale(Locale.US);
+
+		InvalidArgumentException exception = new InvalidArgumentException(BundleAthenaBase.ClassInitialized, "A", "a.A");
+
+		Assert.assertEquals("Class initialized [class.name=A, class.fullname=a.A]", exception.getMessage());
+		Assert.assertEquals(exception.getMessage(), exception.getLocalizedMessage());
+		Assert.assertTrue(exception.getStackTrace().length > 0);
+	}
+
+	/**
+	 * Test the message of an exception is formatted in the locale of the scope in which it has been created.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public final void testMessageInScope()
+	{
+		ResourceBundleManager.setLocale(Locale.US);
+
+		InvalidArgumentException exception;
+		try (LocaleScope scope = ResourceBundleManager.withLocale(Locale.FRANCE))
+		{
+			exception = new InvalidArgumentException(BundleAthenaBase.TestDummy);
+		}
+
+		Assert.assertEquals("Un message de test du composant: athena-base", exception.getMessage());
+	}
+
+	/**
+	 * Test exceptions created without stack trace.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public final void testStackless()
+	{
+		ResourceBundleManager.setLocale(Locale.US);
+
+		Assert.assertEquals(0, new InvalidArgumentException(false, BundleAthenaBase.TestDummy).getStackTrace().length);
+
+		CommandException exception = new CommandException(false, "Unknown command: /foo");
+		Assert.assertEquals(0, exception.getStackTrace().length);
+		Assert.assertEquals("Unknown command: /foo", exception.getMessage());
+	}
+
+	/**
+	 * Test the message of an exception is kept when the exception is serialized.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred while serializing the exception.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public final void testSerialization() throws Exception
+	{
+		ResourceBundleManager.setLocale(Locale.US);
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try (ObjectOutputStream stream = new ObjectOutputStream(output))
+		{
+			stream.writeObject(new InvalidArgumentException(BundleAthenaBase.ClassInitialized, new Object(), "a.A"));
+		}
+
+		try (ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(output.toByteArray())))
+		{
+			Assert.assertTrue(((Exception) stream.readObject()).getMessage().endsWith("class.fullname=a.A]"));
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.test.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.heliosphere.athena.base.file.internal.AtomicFileWriter;
+
+/**
+ * Test class for the {@link AtomicFileWriter} class.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@SuppressWarnings("nls")
+public class AtomicFileWriterTest
+{
+	/**
+	 * Temporary directory.
+	 */
+	private Path directory;
+
+	/**
+	 * Sets up the fixture.
+	 * <p>
+	 * @throws Exception In case an error occurs during the setup phase.
+	 */
+	@Before
+	public final void setUp() throws Exception
+	{
+		directory = Files.createTempDirectory("athena-writer-");
+	}
+
+	/**
+	 * Tears down the fixture.
+	 * <p>
+	 * @throws Exception In case an error occurs during the tear down phase.
+	 */
+	@After
+	public final void tearDown() throws Exception
+	{
+		Files.walk(directory).sorted((a, b) -> b.compareTo(a)).map(Path::toFile).forEach(File::delete);
+	}
+
+	/**
+	 * Test the content of a file is replaced.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred while writing or reading the file.
+	 */
+	@Test
+	public final void testWrite() throws Exception
+	{
+		File target = directory.resolve("sample.txt").toFile();
+		Files.write(target.toPath(), "previous".getBytes(StandardCharsets.UTF_8));
+
+		AtomicFileWriter.write(target, output -> output.write("next".getBytes(StandardCharsets.UTF_8)));
+
+		Assert.assertEquals("next", new String(Files.readAllBytes(target.toPath()), StandardCharsets.UTF_8));
+		Assert.assertArrayEquals(new String[] { target.getName() }, directory.toFile().list());
+	}
+
+	/**
+	 * Test a writer failing leaves the previous content of the file in place and no temporary file behind.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred while reading the file.
+	 */
+	@Test
+	public final void testFailedWrite() throws Exception
+	{
+		File target = directory.resolve("sample.txt").toFile();
+		Files.write(target.toPath(), "previous".getBytes(StandardCharsets.UTF_8));
+
+		try
+		{
+			AtomicFileWriter.write(target, output ->
+			{
+				output.write("partial".getBytes(StandardCharsets.UTF_8));
+				throw new IOException("Writer failure");
+			});
+			Assert.fail("The failure of the writer has not been reported");
+		}
+		catch (IOException e)
+		{
+			Assert.assertEquals("Writer failure", e.getMessage());
+		}
+
+		Assert.assertEquals("previous", new String(Files.readAllBytes(target.toPath()), StandardCharsets.UTF_8));
+		Assert.assertArrayEquals(new String[] { target.getName() }, directory.toFile().list());
+	}
+}
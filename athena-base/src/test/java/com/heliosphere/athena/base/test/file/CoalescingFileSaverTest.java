@@ -0,0 +1,179 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.test.file;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.heliosphere.athena.base.file.internal.CoalescingFileSaver;
+import com.heliosphere.athena.base.file.internal.FileException;
+import com.heliosphere.athena.base.file.internal.IFileBase;
+import com.heliosphere.athena.base.file.internal.resource.IResource;
+import com.heliosphere.athena.base.file.xml.Footer;
+import com.heliosphere.athena.base.file.xml.Header;
+import com.heliosphere.athena.base.file.xml.XmlFile;
+
+/**
+ * Test class for the {@link CoalescingFileSaver} class.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public class CoalescingFileSaverTest
+{
+	/**
+	 * Test the successive saves of a file waiting to be executed are coalesced into one write.
+	 */
+	@Test
+	public final void testSavesCoalesced()
+	{
+		Queue<Runnable> tasks = new ArrayDeque<>();
+		CoalescingFileSaver saver = new CoalescingFileSaver(tasks::add);
+		CountingFile file = new CountingFile();
+
+		CompletableFuture<Void> first = saver.save(file);
+		Assert.assertSame(first, saver.save(file));
+		Assert.assertSame(first, saver.save(file));
+		Assert.assertEquals(1, tasks.size());
+
+		tasks.poll().run();
+		Assert.assertTrue(first.isDone() && !first.isCompletedExceptionally());
+		Assert.assertEquals(1, file.saves.get());
+
+		// A save requested once the previous one has been executed leads to a new write.
+		CompletableFuture<Void> second = saver.save(file);
+		Assert.assertNotSame(first, second);
+		tasks.poll().run();
+		Assert.assertEquals(2, file.saves.get());
+	}
+
+	/**
+	 * Test the saves of distinct file objects backed by the same path are coalesced, the last requested file object
+	 * being written.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred while saving or loading the file.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testSavesCoalescedByPath() throws Exception
+	{
+		File directory = Files.createTempDirectory("athena-save-").toFile();
+		File target = new File(directory, "sample.xml");
+
+		try
+		{
+			XmlFile<Header, String, Footer> first = new XmlFile<>(target.getPath());
+			first.setHeader(new Header());
+			first.setFooter(new Footer());
+			first.setContent(Arrays.asList("first"));
+			XmlFile<Header, String, Footer> second = new XmlFile<>(directory.getPath() + File.separator + "." + File.separator + target.getName());
+			second.setHeader(new Header());
+			second.setFooter(new Footer());
+			second.setContent(Arrays.asList("second"));
+
+			Queue<Runnable> tasks = new ArrayDeque<>();
+			CoalescingFileSaver saver = new CoalescingFileSaver(tasks::add);
+
+			CompletableFuture<Void> future = saver.save(first);
+			Assert.assertSame(future, saver.save(second));
+			Assert.assertEquals(1, tasks.size());
+
+			tasks.poll().run();
+			future.join();
+
+			XmlFile<Header, String, Footer> saved = new XmlFile<>(target.getPath());
+			saved.load();
+			Assert.assertEquals(Arrays.asList("second"), saved.getContent());
+		}
+		finally
+		{
+			target.delete();
+			directory.delete();
+		}
+	}
+
+	/**
+	 * Test an XML file is saved atomically and can be loaded again.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred while saving or loading the file.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testSaveXmlFile() throws Exception
+	{
+		File directory = Files.createTempDirectory("athena-save-").toFile();
+		File target = new File(directory, "sample.xml");
+
+		try
+		{
+			XmlFile<Header, String, Footer> file = new XmlFile<>(target.getPath());
+			Header header = new Header();
+			header.setAuthor("Resse Christophe");
+			file.setHeader(header);
+			file.setFooter(new Footer());
+			file.setContent(Arrays.asList("first", "second"));
+
+			new CoalescingFileSaver(Runnable::run).save(file).join();
+
+			// Only the saved file remains (no temporary file).
+			Assert.assertArrayEquals(new String[] { target.getName() }, directory.list());
+
+			XmlFile<Header, String, Footer> saved = new XmlFile<>(target.getPath());
+			saved.load();
+			Assert.assertEquals("Resse Christophe", saved.getHeader().getAuthor());
+			Assert.assertEquals(Arrays.asList("first", "second"), saved.getContent());
+		}
+		finally
+		{
+			target.delete();
+			directory.delete();
+		}
+	}
+
+	/**
+	 * File counting its saves.
+	 */
+	@SuppressWarnings("serial")
+	private static final class CountingFile implements IFileBase
+	{
+		/**
+		 * Number of saves.
+		 */
+		private final AtomicInteger saves = new AtomicInteger();
+
+		@Override
+		public IResource getResource()
+		{
+			return null;
+		}
+
+		@Override
+		public void load() throws FileException
+		{
+			// Empty.
+		}
+
+		@Override
+		public void save() throws FileException
+		{
+			saves.incrementAndGet();
+		}
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.test.file.resource;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Scanner;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.heliosphere.athena.base.file.internal.resource.Resource;
+import com.heliosphere.athena.base.resource.ResourceException;
+
+/**
+ * Test class for the {@link Resource} class.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@SuppressWarnings("nls")
+public class ResourceTest
+{
+	/**
+	 * Temporary directory.
+	 */
+	private Path directory;
+
+	/**
+	 * Sets up the fixture.
+	 * <p>
+	 * @throws Exception In case an error occurs during the setup phase.
+	 */
+	@Before
+	public final void setUp() throws Exception
+	{
+		directory = Files.createTempDirectory("athena-resource-");
+	}
+
+	/**
+	 * Tears down the fixture.
+	 * <p>
+	 * @throws Exception In case an error occurs during the tear down phase.
+	 */
+	@After
+	public final void tearDown() throws Exception
+	{
+		Files.walk(directory).sorted((a, b) -> b.compareTo(a)).map(Path::toFile).forEach(File::delete);
+	}
+
+	/**
+	 * Test a class path resource is resolved as a file.
+	 */
+	@Test
+	public final void testResolveClassPathFile()
+	{
+		Resource resource = new Resource("/config/command/chat-commands-v2.xml");
+
+		Assert.assertTrue(resource.getFile().isFile());
+		Assert.assertEquals("file", resource.getUrl().getProtocol());
+	}
+
+	/**
+	 * Test a class path resource packaged in a jar can be read, and is only resolved through the class loader of the
+	 * jar.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred while creating or reading the jar.
+	 */
+	@Test
+	public final void testResolveJarResource() throws Exception
+	{
+		File jar = directory.resolve("resources.jar").toFile();
+		try (JarOutputStream output = new JarOutputStream(new FileOutputStream(jar)))
+		{
+			output.putNextEntry(new JarEntry("config/packaged/sample.txt"));
+			output.write("packaged".getBytes(StandardCharsets.UTF_8));
+			output.closeEntry();
+		}
+
+		ClassLoader previous = Thread.currentThread().getContextClassLoader();
+		try (URLClassLoader loader = new URLClassLoader(new URL[] { jar.toURI().toURL() }, previous))
+		{
+			Thread.currentThread().setContextClassLoader(loader);
+
+			Resource resource = new Resource("/config/packaged/sample.txt");
+			Assert.assertNull(resource.getFile());
+			Assert.assertEquals("jar", resource.getUrl().getProtocol());
+
+			try (InputStream input = resource.openStream(); Scanner scanner = new Scanner(input, "UTF-8"))
+			{
+				Assert.assertEquals("packaged", scanner.nextLine());
+			}
+		}
+		finally
+		{
+			Thread.currentThread().setContextClassLoader(previous);
+		}
+
+		// The resource resolved through the jar class loader is not visible from the other class loaders.
+		try
+		{
+			new Resource("/config/packaged/sample.txt");
+			Assert.fail("Resource resolved outside of its class loader");
+		}
+		catch (ResourceException e)
+		{
+			// Expected.
+		}
+	}
+
+	/**
+	 * Test resolving a file that does not exist does not create it.
+	 */
+	@Test
+	public final void testResolveNewFileWithoutSideEffect()
+	{
+		File file = directory.resolve("new.xml").toFile();
+
+		Resource resource = new Resource(file.getPath());
+
+		Assert.assertEquals(file.getAbsoluteFile(), resource.getFile());
+		Assert.assertFalse(file.exists());
+	}
+
+	/**
+	 * Test a resource whose parent directory does not exist cannot be resolved.
+	 */
+	@Test(expected = ResourceException.class)
+	public final void testResolveMissingResource()
+	{
+		new Resource(directory.resolve("missing").resolve("new.xml").toString());
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.test.resource.bundle;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.heliosphere.athena.base.resource.bundle.BundleEnumRegisterProcessor;
+import com.heliosphere.athena.base.resource.bundle.BundleEnumRegisterVisitor;
+
+/**
+ * Test class for the {@link BundleEnumRegisterProcessor} class.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@SuppressWarnings("nls")
+public class BundleEnumRegisterProcessorTest
+{
+	/**
+	 * Source of an annotated resource bundle enumeration.
+	 */
+	private static final String SOURCE = "package sample;\n"
+			+ "import com.heliosphere.athena.base.resource.bundle.*;\n"
+			+ "@BundleEnumRegister(priority = 7)\n"
+			+ "public enum BundleSample implements IBundle {\n"
+			+ "  BundleFilename;\n"
+			+ "  public String getKey() { return \"bundle.sample\"; }\n"
+			+ "  public String getValue() { return null; }\n"
+			+ "}\n";
+
+	/**
+	 * Temporary directory receiving the sources and the compiled classes.
+	 */
+	private Path directory;
+
+	/**
+	 * Sets up the fixture.
+	 * <p>
+	 * @throws Exception In case an error occurs during the setup phase.
+	 */
+	@Before
+	public final void setUp() throws Exception
+	{
+		directory = Files.createTempDirectory("athena-processor-");
+	}
+
+	/**
+	 * Tears down the fixture.
+	 * <p>
+	 * @throws Exception In case an error occurs during the tear down phase.
+	 */
+	@After
+	public final void tearDown() throws Exception
+	{
+		Files.walk(directory).sorted((a, b) -> b.compareTo(a)).map(Path::toFile).forEach(File::delete);
+	}
+
+	/**
+	 * Test the index of the annotated resource bundle enumerations is generated at compile time, without the stale
+	 * entries of a previous index, and read by the visitor.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred while compiling or reading the index.
+	 */
+	@Test
+	public final void testIndexGenerated() throws Exception
+	{
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		Assume.assumeNotNull(compiler); // Requires a JDK.
+
+		File source = directory.resolve("BundleSample.java").toFile();
+		Files.write(source.toPath(), SOURCE.getBytes(StandardCharsets.UTF_8));
+
+		// Index left by a previous compilation, referencing a deleted enumeration.
+		Path previous = directory.resolve(BundleEnumRegisterProcessor.INDEX);
+		Files.createDirectories(previous.getParent());
+		Files.write(previous, "sample.BundleRemoved=3\n".getBytes(StandardCharsets.ISO_8859_1));
+
+		try (StandardJavaFileManager manager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8))
+		{
+			Iterable<? extends JavaFileObject> units = manager.getJavaFileObjects(source);
+			JavaCompiler.CompilationTask task = compiler.getTask(null, manager, null, Arrays.asList("-proc:only", "-d", directory.toString(), "-cp", System.getProperty("java.class.path")), null, units);
+			task.setProcessors(Arrays.asList(new BundleEnumRegisterProcessor()));
+
+			Assert.assertTrue(task.call().booleanValue());
+		}
+
+		Properties index = new Properties();
+		try (InputStream input = new FileInputStream(directory.resolve(BundleEnumRegisterProcessor.INDEX).toFile()))
+		{
+			index.load(input);
+		}
+		Assert.assertEquals("7", index.getProperty("sample.BundleSample"));
+		Assert.assertNull(index.getProperty("sample.BundleRemoved"));
+
+		try (URLClassLoader loader = new URLClassLoader(new URL[] { directory.toUri().toURL() }, null))
+		{
+			Assert.assertFalse(new BundleEnumRegisterVisitor().loadIndex(loader).contains(directory.toFile().getCanonicalFile()));
+		}
+	}
+
+	/**
+	 * Test the class path roots having no index are still returned to be scanned, unless in index only mode.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred while reading the index.
+	 */
+	@Test
+	public final void testUnindexedRootsScanned() throws Exception
+	{
+		Path indexed = Files.createDirectories(directory.resolve("indexed"));
+		Path unindexed = Files.createDirectories(directory.resolve("unindexed"));
+
+		Path index = indexed.resolve(BundleEnumRegisterProcessor.INDEX);
+		Files.createDirectories(index.getParent());
+		Files.write(index, "sample.BundleSample=7\n".getBytes(StandardCharsets.ISO_8859_1));
+
+		String classPath = System.getProperty("java.class.path");
+		try (URLClassLoader loader = new URLClassLoader(new URL[] { indexed.toUri().toURL() }, null))
+		{
+			System.setProperty("java.class.path", indexed + File.pathSeparator + unindexed);
+
+			List<File> roots = new BundleEnumRegisterVisitor().loadIndex(loader);
+			Assert.assertEquals(Arrays.asList(unindexed.toFile().getCanonicalFile()), roots);
+
+			// In index only mode, nothing is scanned.
+			System.setProperty(BundleEnumRegisterVisitor.INDEX_ONLY_PROPERTY, "true");
+			Assert.assertTrue(new BundleEnumRegisterVisitor().loadIndex(loader).isEmpty());
+		}
+		finally
+		{
+			System.setProperty("java.class.path", classPath);
+			System.clearProperty(BundleEnumRegisterVisitor.INDEX_ONLY_PROPERTY);
+		}
+	}
+}
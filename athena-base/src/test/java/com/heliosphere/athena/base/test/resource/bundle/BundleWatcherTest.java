@@ -0,0 +1,195 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.test.resource.bundle;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.heliosphere.athena.base.resource.bundle.BundleEnum;
+import com.heliosphere.athena.base.resource.bundle.BundleWatcher;
+import com.heliosphere.athena.base.resource.bundle.IBundle;
+import com.heliosphere.athena.base.resource.bundle.ResourceBundleManager;
+
+/**
+ * Test class for the {@link BundleWatcher} class.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@SuppressWarnings("nls")
+public class BundleWatcherTest
+{
+	/**
+	 * Class path directory (relative to the root of the test classes) of the resource bundle files.
+	 */
+	private static final String DIRECTORY = "bundle";
+
+	/**
+	 * Resource bundle file name (without locale and extension).
+	 */
+	private static final String FILENAME = "athena-reload";
+
+	/**
+	 * Class path directory receiving the resource bundle files.
+	 */
+	private Path directory;
+
+	/**
+	 * Resource bundle watcher.
+	 */
+	private BundleWatcher watcher;
+
+	/**
+	 * Sets up the fixture.
+	 * <p>
+	 * @throws Exception In case an error occurs during the setup phase.
+	 */
+	@Before
+	public final void setUp() throws Exception
+	{
+		Path root = Paths.get(BundleWatcherTest.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+		Assume.assumeTrue(Files.isDirectory(root)); // Requires the test classes to be plain files.
+
+		directory = Files.createDirectories(root.resolve(DIRECTORY));
+
+		// The files are kept once the test is over as the resource bundle stays registered.
+		write(directory.resolve(FILENAME + ".properties"), "Hello", "Greeting");
+		write(getLocalizedFile(), "Hello", "Greeting");
+
+		ResourceBundleManager.register(ReloadBundle.class);
+		watcher = ResourceBundleManager.watch();
+	}
+
+	/**
+	 * Tears down the fixture.
+	 * <p>
+	 * @throws Exception In case an error occurs during the tear down phase.
+	 */
+	@After
+	public final void tearDown() throws Exception
+	{
+		if (watcher != null)
+		{
+			watcher.close();
+		}
+	}
+
+	/**
+	 * Test the messages and the strings bound through the {@link BundleEnum} annotation are read again once their
+	 * resource bundle file is edited.
+	 * <hr>
+	 * @throws Exception Thrown in case the test is interrupted or the file cannot be written.
+	 */
+	@Test
+	public final void testReloadEditedFile() throws Exception
+	{
+		Assert.assertEquals("Hello", ResourceBundleManager.getMessage(ReloadBundle.ReloadMessage));
+		Assert.assertEquals("Greeting", ReloadBundle.ReloadMessage.getLabel());
+
+		write(getLocalizedFile(), "Bonjour", "Salutation");
+
+		long deadline = System.currentTimeMillis() + 10000;
+		while (!"Bonjour".equals(ResourceBundleManager.getMessage(ReloadBundle.ReloadMessage)) && System.currentTimeMillis() < deadline)
+		{
+			Thread.sleep(20);
+		}
+
+		Assert.assertEquals("Bonjour", ResourceBundleManager.getMessage(ReloadBundle.ReloadMessage));
+		Assert.assertEquals("Salutation", ReloadBundle.ReloadMessage.getLabel());
+	}
+
+	/**
+	 * Returns the resource bundle file of the locale of the resource bundle manager.
+	 * <hr>
+	 * @return Resource bundle file.
+	 */
+	private final Path getLocalizedFile()
+	{
+		return directory.resolve(FILENAME + "_" + ResourceBundleManager.getLocale().getLanguage() + ".properties");
+	}
+
+	/**
+	 * Writes a resource bundle file.
+	 * <hr>
+	 * @param file File.
+	 * @param message Message of the {@link ReloadBundle#ReloadMessage} entry.
+	 * @param label Label bound to the {@link ReloadBundle#ReloadMessage} entry.
+	 * @throws Exception Thrown in case the file cannot be written.
+	 */
+	private static final void write(final Path file, final String message, final String label) throws Exception
+	{
+		String content = "reload.message = " + message + "\nreload.label.ReloadMessage = " + label + "\n";
+		Files.write(file, content.getBytes(StandardCharsets.ISO_8859_1));
+	}
+
+	/**
+	 * Resource bundle enumeration bound to the reloaded resource bundle file.
+	 */
+	public enum ReloadBundle implements IBundle
+	{
+		/**
+		 * Name of the resource bundle.
+		 */
+		BundleFilename(DIRECTORY + "." + FILENAME),
+
+		/**
+		 * Reloaded message.
+		 */
+		ReloadMessage("reload.message");
+
+		/**
+		 * Resource bundle key.
+		 */
+		private final String key;
+
+		/**
+		 * Creates a new enumerated value.
+		 * <hr>
+		 * @param key Resource bundle key.
+		 */
+		private ReloadBundle(final String key)
+		{
+			this.key = key;
+		}
+
+		@Override
+		public final String getKey()
+		{
+			return key;
+		}
+
+		@Override
+		public final String getValue()
+		{
+			return ResourceBundleManager.getMessage(this);
+		}
+
+		/**
+		 * Returns the label of the enumerated value.
+		 * <hr>
+		 * @return Label.
+		 */
+		@BundleEnum(file = DIRECTORY + "." + FILENAME, path = "reload.label")
+		public final String getLabel()
+		{
+			return ResourceBundleManager.getResourceForMethodName(ReloadBundle.class, "getLabel", this, ResourceBundleManager.getLocale());
+		}
+	}
+}
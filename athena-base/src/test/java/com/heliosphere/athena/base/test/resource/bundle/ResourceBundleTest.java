@@ -13,8 +13,21 @@ package com.heliosphere.athena.base.test.resource.bundle;
 
 import static org.junit.Assert.fail;
 
+import java.lang.reflect.Field;
 import java.text.Collator;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.After;
 import org.junit.AfterClass;
@@ -25,6 +38,8 @@ import org.junit.Test;
 
 import com.heliosphere.athena.base.resource.ResourceException;
 import com.heliosphere.athena.base.resource.bundle.BundleAthenaBase;
+import com.heliosphere.athena.base.resource.bundle.BundleEnum;
+import com.heliosphere.athena.base.resource.bundle.LocaleScope;
 import com.heliosphere.athena.base.resource.bundle.ResourceBundleManager;
 
 /**
@@ -299,4 +314,236 @@ public final class ResourceBundleTest
 			fail(e.getLocalizedMessage());
 		}
 	}
+
+	/**
+	 * Test messages are consistently retrieved by concurrent readers while the locale is being changed.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred while retrieving the messages.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public final void retrieveDummyMessageConcurrently() throws Exception
+	{
+		final Set<String> expected = new HashSet<>(Arrays.asList(DUMMY_ENGLISH, DUMMY_FRENCH, DUMMY_GERMAN, DUMMY_SPANISH, DUMMY_ITALIAN));
+		final Locale[] locales = { english, french, german, spanish, italian };
+		final List<Future<Boolean>> readers = new ArrayList<>();
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try
+		{
+			for (int i = 0; i < 4; i++)
+			{
+				readers.add(executor.submit(() ->
+				{
+					for (int j = 0; j < 1000; j++)
+					{
+						if (!expected.contains(ResourceBundleManager.getMessage(BundleAthenaBase.TestDummy)))
+						{
+							return Boolean.FALSE;
+						}
+					}
+					return Boolean.TRUE;
+				}));
+			}
+
+			for (int i = 0; i < 50; i++)
+			{
+				ResourceBundleManager.setLocale(locales[i % locales.length]);
+			}
+
+			for (Future<Boolean> reader : readers)
+			{
+				Assert.assertTrue("Unexpected dummy message!", reader.get(30, TimeUnit.SECONDS).booleanValue());
+			}
+		}
+		finally
+		{
+			executor.shutdownNow();
+			ResourceBundleManager.setLocale(english);
+		}
+	}
+
+	/**
+	 * Test the extraction of messages with parameters, rendered as before the single formatting pass, in english.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public final void retrieveMessageWithParametersInEnglish()
+	{
+		ResourceBundleManager.setLocale(english);
+
+		Assert.assertEquals("Class initialized [class.name=A, class.fullname=a.A]", ResourceBundleManager.getMessage(BundleAthenaBase.ClassInitialized, "A", "a.A"));
+		Assert.assertEquals("Class initialized [class.name=B, class.fullname=b.B]", ResourceBundleManager.getMessage(BundleAthenaBase.ClassInitialized, "B", "b.B"));
+		Assert.assertEquals("Class initialized [class.name={0}, class.fullname={1}]", ResourceBundleManager.getMessage(BundleAthenaBase.ClassInitialized));
+		Assert.assertEquals("Error for element: x. Caused by: ", ResourceBundleManager.getMessage(BundleAthenaBase.EncodingError, "x"));
+		Assert.assertEquals(DUMMY_ENGLISH, ResourceBundleManager.getMessage(BundleAthenaBase.TestDummy, "ignored"));
+	}
+
+	/**
+	 * Test the extraction of messages bound to enumerated values through the {@link BundleEnum} annotation.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public final void retrieveResourceForMethodName()
+	{
+		ResourceBundleManager.setLocale(english);
+
+		Assert.assertEquals(DUMMY_ENGLISH, TestBundleEnum.dummy.getLabel());
+		Assert.assertEquals(DUMMY_FRENCH, TestBundleEnum.dummy.getLabel(french));
+		Assert.assertEquals(DUMMY_ENGLISH, TestBundleEnum.dummy.getText());
+		Assert.assertEquals(DUMMY_ENGLISH, ResourceBundleManager.getResourceForMethodName(TestBundleEnum.class, "getLabel", TestBundleEnum.dummy, english));
+	}
+
+	/**
+	 * Test the extraction of messages for a given locale, explicitly or through a locale scope, without changing the
+	 * locale of the resource bundle manager.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public final void retrieveDummyMessageForLocale()
+	{
+		ResourceBundleManager.setLocale(english);
+
+		Assert.assertEquals(DUMMY_FRENCH, ResourceBundleManager.getMessageFor(BundleAthenaBase.TestDummy, french));
+		Assert.assertEquals(DUMMY_GERMAN, ResourceBundleManager.getMessageFor(BundleAthenaBase.TestDummy, german));
+
+		// A locale passed as a message parameter is formatted into the message.
+		Assert.assertEquals("Error for element: " + french + ". Caused by: ", ResourceBundleManager.getMessage(BundleAthenaBase.EncodingError, french));
+
+		try (LocaleScope scope = ResourceBundleManager.withLocale(italian))
+		{
+			Assert.assertEquals(DUMMY_ITALIAN, ResourceBundleManager.getMessage(BundleAthenaBase.TestDummy));
+
+			try (LocaleScope inner = ResourceBundleManager.withLocale(spanish))
+			{
+				Assert.assertEquals(DUMMY_SPANISH, ResourceBundleManager.getMessage(BundleAthenaBase.TestDummy));
+			}
+
+			Assert.assertEquals(DUMMY_ITALIAN, ResourceBundleManager.getMessage(BundleAthenaBase.TestDummy));
+		}
+
+		Assert.assertEquals(DUMMY_ENGLISH, ResourceBundleManager.getMessage(BundleAthenaBase.TestDummy));
+		Assert.assertEquals(english.getLanguage(), ResourceBundleManager.getLocale().getLanguage());
+	}
+
+	/**
+	 * Enumeration binding its enumerated values to resource bundle entries.
+	 */
+	private enum TestBundleEnum
+	{
+		/**
+		 * Bound to the {@code athena-base.test.dummy} entry.
+		 */
+		dummy;
+
+		/**
+		 * Returns the label of the enumerated value.
+		 * <hr>
+		 * @return Label.
+		 */
+		@BundleEnum(file = "bundle.athena-base", path = "athena-base.test")
+		public final String getLabel()
+		{
+			return ResourceBundleManager.getResourceForMethodName(TestBundleEnum.class, "getLabel", this);
+		}
+
+		/**
+		 * Returns the label of the enumerated value.
+		 * <hr>
+		 * @param locale Locale of the label.
+		 * @return Label.
+		 */
+		@SuppressWarnings("deprecation")
+		@BundleEnum(file = "bundle.athena-base", path = "athena-base.test")
+		public final String getLabel(final Locale locale)
+		{
+			return ResourceBundleManager.getResourceForMethodName(TestBundleEnum.class, this, locale);
+		}
+
+		/**
+		 * Returns the text of the enumerated value (the calling method being found by walking the stack).
+		 * <hr>
+		 * @return Text.
+		 */
+		@SuppressWarnings("deprecation")
+		@BundleEnum(file = "bundle.athena-base", path = "athena-base.test")
+		public final String getText()
+		{
+			return ResourceBundleManager.getResourceForMethodName(TestBundleEnum.class, this);
+		}
+	}
+
+	/**
+	 * Test a resource bundle registered in indexed mode returns the same messages as the regular resolution path.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public final void retrieveIndexedMessages()
+	{
+		Object[] parameters = { "a", "b", "c", "d", "e" };
+
+		for (Locale locale : Arrays.asList(english, french))
+		{
+			ResourceBundleManager.setLocale(locale);
+			Assert.assertNotNull(getIndex());
+
+			ResourceBundle bundle = ResourceBundle.getBundle(BundleAthenaBase.BundleFilename.getKey(), locale);
+			for (BundleAthenaBase value : BundleAthenaBase.values())
+			{
+				if (bundle.containsKey(value.getKey()))
+				{
+					Assert.assertEquals(value.name(), new MessageFormat(bundle.getString(value.getKey())).format(parameters), ResourceBundleManager.getMessage(value, parameters));
+				}
+			}
+		}
+
+		ResourceBundleManager.setLocale(english);
+	}
+
+	/**
+	 * Test changing the locale replaces the messages indexed by ordinal.
+	 */
+	@SuppressWarnings("static-method")
+	@Test
+	public final void changeLocaleOfIndexedMessages()
+	{
+		ResourceBundleManager.setLocale(english);
+		Object[] index = getIndex();
+		Assert.assertEquals(DUMMY_ENGLISH, ResourceBundleManager.getMessage(BundleAthenaBase.TestDummy));
+
+		ResourceBundleManager.setLocale(french);
+		Object[] other = getIndex();
+		Assert.assertNotNull(other);
+		Assert.assertNotSame(index, other);
+		Assert.assertEquals(DUMMY_FRENCH, ResourceBundleManager.getMessage(BundleAthenaBase.TestDummy));
+
+		ResourceBundleManager.setLocale(english);
+		Assert.assertNotSame(other, getIndex());
+		Assert.assertEquals(DUMMY_ENGLISH, ResourceBundleManager.getMessage(BundleAthenaBase.TestDummy));
+	}
+
+	/**
+	 * Returns the messages of the {@link BundleAthenaBase} resource bundle indexed by ordinal in the current snapshot
+	 * of the resource bundle manager.
+	 * <hr>
+	 * @return Messages indexed by ordinal or {@code null} if the resource bundle is not indexed.
+	 */
+	private static final Object[] getIndex()
+	{
+		try
+		{
+			Field catalogField = ResourceBundleManager.class.getDeclaredField("catalog");
+			catalogField.setAccessible(true);
+			Object catalog = catalogField.get(null);
+
+			Field indexesField = catalog.getClass().getDeclaredField("indexes");
+			indexesField.setAccessible(true);
+
+			return (Object[]) ((Map<?, ?>) indexesField.get(catalog)).get(BundleAthenaBase.class);
+		}
+		catch (ReflectiveOperationException e)
+		{
+			throw new AssertionError(e);
+		}
+	}
 }
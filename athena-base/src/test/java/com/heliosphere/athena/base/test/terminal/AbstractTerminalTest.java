@@ -0,0 +1,195 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.test.terminal;
+
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.beryx.textio.TextTerminal;
+import org.beryx.textio.mock.MockTextTerminal;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.heliosphere.athena.base.terminal.AbstractTerminal;
+import com.heliosphere.athena.base.terminal.TerminalStatusType;
+
+/**
+ * Test class for the wake-up logic of the {@link AbstractTerminal} class.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@SuppressWarnings("nls")
+public class AbstractTerminalTest
+{
+	/**
+	 * Former polling interval of the terminals (in milliseconds).
+	 */
+	private static final long POLL_INTERVAL = 100;
+
+	/**
+	 * Headless terminal handling queued texts.
+	 */
+	private QueueTerminal terminal;
+
+	/**
+	 * Sets up the fixture.
+	 * <p>
+	 * @throws Exception In case an error occurs during the setup phase.
+	 */
+	@Before
+	public final void setUp() throws Exception
+	{
+		terminal = new QueueTerminal(new MockTextTerminal());
+		terminal.start();
+	}
+
+	/**
+	 * Tears down the fixture.
+	 * <p>
+	 * @throws Exception In case an error occurs during the tear down phase.
+	 */
+	@After
+	public final void tearDown() throws Exception
+	{
+		terminal.stop();
+	}
+
+	/**
+	 * Test a queued work is handled as soon as it is signalled, and an idle terminal blocks instead of polling.
+	 * <hr>
+	 * @throws Exception Thrown in case the test is interrupted.
+	 */
+	@Test
+	public final void testSignalledWork() throws Exception
+	{
+		terminal.offer("first");
+		Assert.assertEquals("first", terminal.handled.poll(5, TimeUnit.SECONDS));
+
+		// Idle: the terminal thread is blocked and never wakes up.
+		Thread.sleep(3 * POLL_INTERVAL);
+		int wakeups = terminal.wakeups.get();
+		Thread.sleep(3 * POLL_INTERVAL);
+		Assert.assertEquals(wakeups, terminal.wakeups.get());
+
+		long start = System.nanoTime();
+		terminal.offer("second");
+		Assert.assertEquals("second", terminal.handled.poll(5, TimeUnit.SECONDS));
+		Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < POLL_INTERVAL);
+	}
+
+	/**
+	 * Test a paused terminal does not handle the queued work until it is resumed.
+	 * <hr>
+	 * @throws Exception Thrown in case the test is interrupted.
+	 */
+	@Test
+	public final void testPauseAndResume() throws Exception
+	{
+		long deadline = System.currentTimeMillis() + 5000;
+		while (terminal.getStatus() != TerminalStatusType.RUNNING && System.currentTimeMillis() < deadline)
+		{
+			Thread.sleep(10);
+		}
+
+		terminal.pause();
+		terminal.offer("paused");
+		Assert.assertNull(terminal.handled.poll(3 * POLL_INTERVAL, TimeUnit.MILLISECONDS));
+
+		terminal.resume();
+		Assert.assertEquals("paused", terminal.handled.poll(5, TimeUnit.SECONDS));
+	}
+
+	/**
+	 * Headless terminal handling the texts of a queue.
+	 */
+	private static final class QueueTerminal extends AbstractTerminal
+	{
+		/**
+		 * Texts waiting to be handled.
+		 */
+		private final Queue<String> queue = new ConcurrentLinkedQueue<>();
+
+		/**
+		 * Handled texts.
+		 */
+		private final BlockingQueue<String> handled = new LinkedBlockingQueue<>();
+
+		/**
+		 * Number of times the terminal thread woke up.
+		 */
+		private final AtomicInteger wakeups = new AtomicInteger();
+
+		/**
+		 * Creates a new queue terminal.
+		 * <hr>
+		 * @param terminal Text terminal.
+		 */
+		public QueueTerminal(final TextTerminal<?> terminal)
+		{
+			super(terminal);
+		}
+
+		/**
+		 * Queues a text to handle.
+		 * <hr>
+		 * @param text Text.
+		 */
+		public final void offer(final String text)
+		{
+			queue.offer(text);
+			signal();
+		}
+
+		@Override
+		protected final boolean hasPendingWork()
+		{
+			return status == TerminalStatusType.RUNNING && !queue.isEmpty();
+		}
+
+		@Override
+		public final void run()
+		{
+			while (status != TerminalStatusType.STOPPED)
+			{
+				if (status == TerminalStatusType.INITIALIZE)
+				{
+					status = TerminalStatusType.RUNNING;
+				}
+
+				String text = status == TerminalStatusType.RUNNING ? queue.poll() : null;
+				if (text != null)
+				{
+					handled.offer(text);
+				}
+				else
+				{
+					try
+					{
+						awaitWork();
+						wakeups.incrementAndGet();
+					}
+					catch (InterruptedException e)
+					{
+						return;
+					}
+				}
+			}
+		}
+	}
+}
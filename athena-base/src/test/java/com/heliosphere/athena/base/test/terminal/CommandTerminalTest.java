@@ -0,0 +1,260 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.test.terminal;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.beryx.textio.mock.MockTextTerminal;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.heliosphere.athena.base.command.file.xml.XmlCommandFile;
+import com.heliosphere.athena.base.command.internal.ICommand;
+import com.heliosphere.athena.base.command.internal.ICommandListener;
+import com.heliosphere.athena.base.command.processor.HelpCommandProcessor;
+import com.heliosphere.athena.base.command.protocol.DefaultCommandProtocol;
+import com.heliosphere.athena.base.file.internal.FileException;
+import com.heliosphere.athena.base.message.protocol.DefaultMessageProtocolUsingClasses;
+import com.heliosphere.athena.base.terminal.CommandTerminal;
+import com.heliosphere.athena.base.terminal.TerminalStatusType;
+
+/**
+ * Test class for the {@link CommandTerminal} class running headless.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public class CommandTerminalTest
+{
+	/**
+	 * In memory text terminal.
+	 */
+	private PipedTextTerminal pipe;
+
+	/**
+	 * Headless command terminal.
+	 */
+	private CommandTerminal terminal;
+
+	/**
+	 * Sets up the fixture.
+	 * <p>
+	 * @throws Exception In case an error occurs during the setup phase.
+	 */
+	@SuppressWarnings("nls")
+	@Before
+	public final void setUp() throws Exception
+	{
+		pipe = new PipedTextTerminal();
+		terminal = new CommandTerminal(pipe, "/config/command/chat-commands-v2.xml");
+	}
+
+	/**
+	 * Tears down the fixture.
+	 * <p>
+	 * @throws Exception In case an error occurs during the tear down phase.
+	 */
+	@SuppressWarnings("nls")
+	@After
+	public final void tearDown() throws Exception
+	{
+		terminal.stop();
+		pipe.input("");
+	}
+
+	/**
+	 * Test submitted commands are executed by a headless terminal.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred while executing the commands.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testSubmitCommand() throws Exception
+	{
+		final CountDownLatch quit = new CountDownLatch(1);
+		final AtomicBoolean helpPrinted = new AtomicBoolean();
+
+		Assert.assertTrue(terminal.isHeadless());
+
+		terminal.getCoordinator().registerExecutable(new HelpCommandProcessor(terminal.getInterpreter().getCommandDefinitions()));
+		terminal.registerListener(new ICommandListener()
+		{
+			@Override
+			public void onCommand(final ICommand command)
+			{
+				if (command.getProtocol() == DefaultCommandProtocol.QUIT)
+				{
+					helpPrinted.set(pipe.getOutput().contains("Available commands are"));
+					quit.countDown();
+				}
+			}
+		});
+
+		terminal.submitCommand(new DefaultMessageProtocolUsingClasses.SubmitCommand("/help", null));
+		terminal.submitCommand(new DefaultMessageProtocolUsingClasses.SubmitCommand("/quit", null));
+		terminal.start();
+
+		// Commands not handled by the command coordinator are dispatched to the listeners.
+		Assert.assertTrue(quit.await(5, TimeUnit.SECONDS));
+
+		// The submitted commands are executed in order: the output of the help command is printed before the quit
+		// command is dispatched.
+		Assert.assertTrue(helpPrinted.get());
+
+		// Once the submitted commands are executed, the terminal reads its input.
+		long deadline = System.currentTimeMillis() + 5000;
+		while (terminal.getStatus() != TerminalStatusType.RUNNING && System.currentTimeMillis() < deadline)
+		{
+			Thread.sleep(10);
+		}
+		Assert.assertTrue(terminal.getStatus() == TerminalStatusType.RUNNING);
+	}
+
+	/**
+	 * Test the plug-in command files of a directory are registered in background by a headless terminal.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred while creating the plug-in command files.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testPluginRegistration() throws Exception
+	{
+		Path directory = Files.createTempDirectory("athena-plugins-");
+		CommandTerminal plugged = null;
+
+		try
+		{
+			// Plug-in command file defining the AFK command only (the HELP command being a core command).
+			File file = new XmlCommandFile("/config/command/chat-commands.xml").getResource().getFile();
+			String content = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+			content = content.substring(0, content.indexOf("<!-- HELP command. -->")) + content.substring(content.indexOf("<!-- AFK command. -->"));
+			Files.write(directory.resolve("afk-commands.xml"), content.getBytes(StandardCharsets.UTF_8));
+
+			plugged = new CommandTerminal(pipe, "/config/command/chat-commands-v2.xml", directory.toString());
+			plugged.getPluginRegistration().get(5, TimeUnit.SECONDS);
+
+			Assert.assertEquals(3, plugged.getInterpreter().getCommandDefinitions().size());
+			Assert.assertEquals(DefaultCommandProtocol.AFK, plugged.getInterpreter().interpret("/away").getProtocol());
+
+			// A terminal without plug-in has nothing to wait for.
+			Assert.assertTrue(terminal.getPluginRegistration().isDone());
+		}
+		finally
+		{
+			if (plugged != null)
+			{
+				plugged.stop();
+			}
+			Files.walk(directory).sorted((a, b) -> b.compareTo(a)).map(Path::toFile).forEach(File::delete);
+		}
+	}
+
+	/**
+	 * Test a plug-in command file defining a protocol type of a core command is rejected.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred while creating the plug-in command files.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testPluginDuplicateProtocol() throws Exception
+	{
+		Path directory = Files.createTempDirectory("athena-plugins-");
+		CommandTerminal plugged = null;
+
+		try
+		{
+			// Plug-in command file also defining the HELP command (a core command).
+			File file = new XmlCommandFile("/config/command/chat-commands.xml").getResource().getFile();
+			Files.copy(file.toPath(), directory.resolve("chat-commands.xml"));
+
+			plugged = new CommandTerminal(pipe, "/config/command/chat-commands-v2.xml", directory.toString());
+
+			try
+			{
+				plugged.getPluginRegistration().get(5, TimeUnit.SECONDS);
+				Assert.fail("Duplicate protocol type not detected!");
+			}
+			catch (ExecutionException e)
+			{
+				Assert.assertTrue(e.getCause() instanceof FileException);
+			}
+
+			Assert.assertEquals(2, plugged.getInterpreter().getCommandDefinitions().size());
+		}
+		finally
+		{
+			if (plugged != null)
+			{
+				plugged.stop();
+			}
+			Files.walk(directory).sorted((a, b) -> b.compareTo(a)).map(Path::toFile).forEach(File::delete);
+		}
+	}
+
+	/**
+	 * In memory text terminal whose input is fed by the test.
+	 */
+	private static final class PipedTextTerminal extends MockTextTerminal
+	{
+		/**
+		 * Input lines.
+		 */
+		private final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+
+		/**
+		 * Feeds an input line.
+		 * <hr>
+		 * @param line Input line.
+		 */
+		public final void input(final String line)
+		{
+			lines.offer(line);
+		}
+
+		@Override
+		public String read(final boolean masking)
+		{
+			try
+			{
+				return lines.take();
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				return null;
+			}
+		}
+
+		@Override
+		public synchronized void rawPrint(final String message)
+		{
+			super.rawPrint(message);
+		}
+
+		@Override
+		public synchronized String getOutput()
+		{
+			return super.getOutput();
+		}
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.test.terminal;
+
+import org.beryx.textio.mock.MockTextTerminal;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.heliosphere.athena.base.terminal.OutputTerminal;
+
+/**
+ * Test class for the {@link OutputTerminal} class running headless.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@SuppressWarnings("nls")
+public class OutputTerminalTest
+{
+	/**
+	 * In memory text terminal.
+	 */
+	private SynchronizedTextTerminal output;
+
+	/**
+	 * Headless output terminal.
+	 */
+	private OutputTerminal terminal;
+
+	/**
+	 * Sets up the fixture.
+	 * <p>
+	 * @throws Exception In case an error occurs during the setup phase.
+	 */
+	@Before
+	public final void setUp() throws Exception
+	{
+		output = new SynchronizedTextTerminal();
+		terminal = new OutputTerminal(output);
+	}
+
+	/**
+	 * Tears down the fixture.
+	 * <p>
+	 * @throws Exception In case an error occurs during the tear down phase.
+	 */
+	@After
+	public final void tearDown() throws Exception
+	{
+		terminal.stop();
+	}
+
+	/**
+	 * Test each added line is printed exactly once.
+	 * <hr>
+	 * @throws Exception Thrown in case the test is interrupted.
+	 */
+	@Test
+	public final void testLinesPrintedOnce() throws Exception
+	{
+		terminal.start();
+		terminal.addText("first");
+		terminal.addText("second");
+		awaitOutput("second");
+
+		terminal.addText("third");
+		awaitOutput("third");
+
+		// Leave some time to the terminal thread to (wrongly) print the lines again.
+		Thread.sleep(200);
+
+		Assert.assertEquals("first\nsecond\nthird", output.getOutput());
+	}
+
+	/**
+	 * Test the oldest lines are dropped and replaced by a notice once the high-water mark is reached.
+	 * <hr>
+	 * @throws Exception Thrown in case the test is interrupted.
+	 */
+	@Test
+	public final void testHighWaterMark() throws Exception
+	{
+		terminal.setHighWaterMark(3);
+
+		// Lines added before the terminal thread is started stay pending.
+		for (int i = 1; i <= 10; i++)
+		{
+			terminal.addText("line " + i);
+		}
+
+		terminal.start();
+		awaitOutput("line 10");
+
+		Assert.assertEquals("[7 line(s) dropped]\nline 8\nline 9\nline 10", output.getOutput());
+	}
+
+	/**
+	 * Waits until the output contains a given text.
+	 * <hr>
+	 * @param text Text.
+	 * @throws InterruptedException Thrown in case the test is interrupted.
+	 */
+	private final void awaitOutput(final String text) throws InterruptedException
+	{
+		long deadline = System.currentTimeMillis() + 5000;
+		while (!output.getOutput().contains(text) && System.currentTimeMillis() < deadline)
+		{
+			Thread.sleep(10);
+		}
+
+		Assert.assertTrue(output.getOutput().contains(text));
+	}
+
+	/**
+	 * In memory text terminal safely readable by the test thread.
+	 */
+	private static final class SynchronizedTextTerminal extends MockTextTerminal
+	{
+		@Override
+		public synchronized void rawPrint(final String message)
+		{
+			super.rawPrint(message);
+		}
+
+		@Override
+		public synchronized String getOutput()
+		{
+			return super.getOutput();
+		}
+	}
+}
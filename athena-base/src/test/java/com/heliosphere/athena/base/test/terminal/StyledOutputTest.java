@@ -0,0 +1,78 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.base.test.terminal;
+
+import java.awt.Color;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.DefaultStyledDocument;
+import javax.swing.text.StyleConstants;
+import javax.swing.text.StyledDocument;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.heliosphere.athena.base.terminal.StyledOutput;
+
+/**
+ * Test class for the {@link StyledOutput} class.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public class StyledOutputTest
+{
+	/**
+	 * Test the text runs are inserted in order with their style.
+	 * <hr>
+	 * @throws BadLocationException Thrown in case the text cannot be inserted.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testInsertInto() throws BadLocationException
+	{
+		StyledDocument document = new DefaultStyledDocument();
+		document.insertString(0, "> ", null);
+
+		new StyledOutput()
+				.append("[", Color.LIGHT_GRAY)
+				.append("help", Color.ORANGE)
+				.append("] ", Color.LIGHT_GRAY)
+				.append("Display help.", Color.WHITE, "Menlo", 14)
+				.newLine()
+				.insertInto(document);
+
+		Assert.assertEquals("> [help] Display help.\n", document.getText(0, document.getLength()));
+		Assert.assertEquals(Color.ORANGE, StyleConstants.getForeground(document.getCharacterElement(3).getAttributes()));
+		Assert.assertEquals(Color.WHITE, StyleConstants.getForeground(document.getCharacterElement(9).getAttributes()));
+		Assert.assertEquals("Menlo", StyleConstants.getFontFamily(document.getCharacterElement(9).getAttributes()));
+		Assert.assertTrue(StyleConstants.getFontSize(document.getCharacterElement(9).getAttributes()) == 14);
+	}
+
+	/**
+	 * Test an empty styled output does not modify the document.
+	 * <hr>
+	 * @throws BadLocationException Thrown in case the text cannot be inserted.
+	 */
+	@SuppressWarnings("nls")
+	@Test
+	public final void testEmpty() throws BadLocationException
+	{
+		StyledDocument document = new DefaultStyledDocument();
+		StyledOutput output = new StyledOutput().append("", Color.WHITE);
+
+		Assert.assertTrue(output.isEmpty());
+
+		output.insertInto(document);
+		Assert.assertTrue(document.getLength() == 0);
+	}
+}
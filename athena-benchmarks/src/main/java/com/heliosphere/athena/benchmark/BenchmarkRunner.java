@@ -0,0 +1,65 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the Athena benchmarks.
+ * <p>
+ * Runs the {@code JMH} benchmarks of the Athena artifacts. The standard {@code JMH} command line options are
+ * supported (for example, a regular expression to select the benchmarks to run) and the {@link GCProfiler} is
+ * always attached so that each benchmark reports its allocation rate next to its throughput.
+ * <p>
+ * Usage: {@code java -jar athena-benchmarks/target/benchmarks.jar [jmh options]}
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+public final class BenchmarkRunner
+{
+	/**
+	 * Default regular expression used to select the benchmarks to run when none is given on the command line.
+	 */
+	@SuppressWarnings("nls")
+	private static final String DEFAULT_INCLUDE = "com\\.heliosphere\\.athena\\.benchmark\\..*";
+
+	/**
+	 * Main entry point.
+	 * <hr>
+	 * @param arguments Command line arguments ({@code JMH} options).
+	 * @throws RunnerException Thrown in case an error occurred while running the benchmarks.
+	 * @throws CommandLineOptionException Thrown in case the command line options are invalid.
+	 */
+	public static void main(final String[] arguments) throws RunnerException, CommandLineOptionException
+	{
+		CommandLineOptions command = new CommandLineOptions(arguments);
+
+		OptionsBuilder builder = new OptionsBuilder();
+		builder.parent(command);
+		builder.addProfiler(GCProfiler.class);
+
+		if (command.getIncludes().isEmpty())
+		{
+			builder.include(DEFAULT_INCLUDE);
+		}
+
+		Options options = builder.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import com.heliosphere.athena.base.command.file.xml.XmlCommandFile;
+import com.heliosphere.athena.base.file.internal.FileException;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Utility class providing the fixtures shared by the Athena benchmarks.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@UtilityClass
+public final class BenchmarkSupport
+{
+	/**
+	 * Class path resource containing the chat command definitions used by the benchmarks.
+	 */
+	@SuppressWarnings("nls")
+	public static final String CHAT_COMMAND_RESOURCE = "/config/command/chat-commands-v2.xml";
+
+	/**
+	 * Extracts a class path resource to a temporary file.
+	 * <p>
+	 * The benchmarks run from a packaged jar in which the resources of {@code athena-base} are not plain files,
+	 * so they are first copied to the file system. The temporary file is deleted when the virtual machine exits.
+	 * <hr>
+	 * @param resource Class path resource name.
+	 * @return Temporary file.
+	 * @throws IOException Thrown in case the resource cannot be found or copied.
+	 */
+	@SuppressWarnings("nls")
+	public static final File extract(final @NonNull String resource) throws IOException
+	{
+		try (InputStream input = BenchmarkSupport.class.getResourceAsStream(resource))
+		{
+			if (input == null)
+			{
+				throw new IOException("Cannot find class path resource: " + resource);
+			}
+
+			File file = File.createTempFile("athena-benchmark-", ".xml");
+			file.deleteOnExit();
+			Files.copy(input, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+			return file;
+		}
+	}
+
+	/**
+	 * Loads the chat command definitions used by the benchmarks.
+	 * <hr>
+	 * @return Loaded XML command file.
+	 * @throws IOException Thrown in case the resource cannot be extracted.
+	 * @throws FileException Thrown in case the command definitions cannot be loaded.
+	 */
+	public static final XmlCommandFile loadChatCommands() throws IOException, FileException
+	{
+		XmlCommandFile file = new XmlCommandFile(extract(CHAT_COMMAND_RESOURCE).getAbsolutePath());
+		file.load();
+
+		return file;
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.benchmark.command;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.heliosphere.athena.base.command.internal.ICommand;
+import com.heliosphere.athena.base.command.internal.coordinator.CommandCoordinator;
+import com.heliosphere.athena.base.command.internal.exception.CommandException;
+import com.heliosphere.athena.base.command.internal.exception.CommandNotFoundException;
+import com.heliosphere.athena.base.command.internal.processor.ExecutableCommand;
+import com.heliosphere.athena.base.command.internal.protocol.ICommandProtocolType;
+import com.heliosphere.athena.base.command.interpreter.CommandInterpreter;
+import com.heliosphere.athena.base.command.protocol.DefaultCommandProtocol;
+import com.heliosphere.athena.base.terminal.CommandTerminal;
+import com.heliosphere.athena.benchmark.BenchmarkSupport;
+
+/**
+ * Benchmarks the {@link CommandCoordinator#execute(ICommand)} method.
+ * <p>
+ * The registered command processor does not write anything to a terminal, so the benchmark measures the
+ * dispatching cost of the command coordinator only.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class CommandCoordinatorBenchmark
+{
+	/**
+	 * Command coordinator.
+	 */
+	private CommandCoordinator coordinator;
+
+	/**
+	 * Pre-interpreted command to execute.
+	 */
+	private ICommand command;
+
+	/**
+	 * Last command executed by the command processor (returned by the benchmark so the execution cannot be
+	 * eliminated).
+	 */
+	private ICommand executed;
+
+	/**
+	 * Registers a command processor and interprets the command to execute.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred while setting up the benchmark.
+	 */
+	@SuppressWarnings("nls")
+	@Setup
+	public void setUp() throws Exception
+	{
+		CommandInterpreter interpreter = new CommandInterpreter();
+		interpreter.registerCommands(BenchmarkSupport.loadChatCommands().getContent());
+		command = interpreter.interpret("/help -name=quit");
+
+		coordinator = new CommandCoordinator(null);
+		coordinator.registerExecutable(new ExecutableCommand()
+		{
+			@Override
+			public Enum<? extends ICommandProtocolType> getProtocolType()
+			{
+				return DefaultCommandProtocol.HELP;
+			}
+
+			@Override
+			public void execute(final CommandTerminal terminal, final ICommand processed) throws CommandException
+			{
+				executed = processed;
+			}
+		});
+	}
+
+	/**
+	 * Executes a command through the command coordinator.
+	 * <hr>
+	 * @return Last executed command.
+	 * @throws CommandNotFoundException Thrown in case no command processor is registered for the command.
+	 */
+	@Benchmark
+	public ICommand execute() throws CommandNotFoundException
+	{
+		coordinator.execute(command);
+
+		return executed;
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.benchmark.command;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.heliosphere.athena.base.command.internal.ICommand;
+import com.heliosphere.athena.base.command.internal.exception.CommandException;
+import com.heliosphere.athena.base.command.interpreter.CommandInterpreter;
+import com.heliosphere.athena.benchmark.BenchmarkSupport;
+
+/**
+ * Benchmarks the {@link CommandInterpreter#interpret(String)} method.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class CommandInterpreterBenchmark
+{
+	/**
+	 * Command interpreter.
+	 */
+	private CommandInterpreter interpreter;
+
+	/**
+	 * Command without parameter.
+	 */
+	@SuppressWarnings("nls")
+	private String simple = "/quit";
+
+	/**
+	 * Command with a tagged parameter.
+	 */
+	@SuppressWarnings("nls")
+	private String tagged = "/help -name=quit";
+
+	/**
+	 * Command issued through one of its aliases.
+	 */
+	@SuppressWarnings("nls")
+	private String alias = "/h -cat";
+
+	/**
+	 * Loads and registers the chat command definitions.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred while setting up the benchmark.
+	 */
+	@Setup
+	public void setUp() throws Exception
+	{
+		interpreter = new CommandInterpreter();
+		interpreter.registerCommands(BenchmarkSupport.loadChatCommands().getContent());
+	}
+
+	/**
+	 * Interprets a command without parameter.
+	 * <hr>
+	 * @return Interpreted command.
+	 * @throws CommandException Thrown in case the command cannot be interpreted.
+	 */
+	@Benchmark
+	public ICommand interpretSimple() throws CommandException
+	{
+		return interpreter.interpret(simple);
+	}
+
+	/**
+	 * Interprets a command having a tagged parameter.
+	 * <hr>
+	 * @return Interpreted command.
+	 * @throws CommandException Thrown in case the command cannot be interpreted.
+	 */
+	@Benchmark
+	public ICommand interpretTaggedParameter() throws CommandException
+	{
+		return interpreter.interpret(tagged);
+	}
+
+	/**
+	 * Interprets a command issued through one of its aliases.
+	 * <hr>
+	 * @return Interpreted command.
+	 * @throws CommandException Thrown in case the command cannot be interpreted.
+	 */
+	@Benchmark
+	public ICommand interpretAlias() throws CommandException
+	{
+		return interpreter.interpret(alias);
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.benchmark.command;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.heliosphere.athena.base.command.internal.protocol.ICommandProtocolType;
+import com.heliosphere.athena.base.command.internal.protocol.ProtocolDispatchTable;
+import com.heliosphere.athena.base.command.protocol.DefaultCommandProtocol;
+
+/**
+ * Benchmarks the cost of looking up a value by command protocol type using a {@link ProtocolDispatchTable}
+ * compared to a {@link HashMap}.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class ProtocolDispatchBenchmark
+{
+	/**
+	 * Command protocol types to look up.
+	 */
+	private DefaultCommandProtocol[] protocols = DefaultCommandProtocol.values();
+
+	/**
+	 * Values by command protocol type stored in a hash map.
+	 */
+	private Map<Enum<? extends ICommandProtocolType>, String> map = new HashMap<>();
+
+	/**
+	 * Values by command protocol type stored in a dispatch table.
+	 */
+	private ProtocolDispatchTable<String> table = ProtocolDispatchTable.empty();
+
+	/**
+	 * Fills the hash map and the dispatch table.
+	 */
+	@Setup
+	public void setUp()
+	{
+		for (DefaultCommandProtocol protocol : protocols)
+		{
+			map.put(protocol, protocol.name());
+			table = table.with(protocol, protocol.name());
+		}
+	}
+
+	/**
+	 * Looks up every command protocol type in the hash map.
+	 * <hr>
+	 * @param blackhole Black hole consuming the values.
+	 */
+	@Benchmark
+	public void lookupHashMap(final Blackhole blackhole)
+	{
+		for (DefaultCommandProtocol protocol : protocols)
+		{
+			blackhole.consume(map.get(protocol));
+		}
+	}
+
+	/**
+	 * Looks up every command protocol type in the dispatch table.
+	 * <hr>
+	 * @param blackhole Black hole consuming the values.
+	 */
+	@Benchmark
+	public void lookupDispatchTable(final Blackhole blackhole)
+	{
+		for (DefaultCommandProtocol protocol : protocols)
+		{
+			blackhole.consume(table.get(protocol));
+		}
+	}
+}
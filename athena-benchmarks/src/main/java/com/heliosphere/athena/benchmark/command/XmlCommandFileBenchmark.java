@@ -0,0 +1,75 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.benchmark.command;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.heliosphere.athena.base.command.file.xml.XmlCommandFile;
+import com.heliosphere.athena.base.file.internal.FileException;
+import com.heliosphere.athena.benchmark.BenchmarkSupport;
+
+/**
+ * Benchmarks the {@link XmlCommandFile#load()} method.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class XmlCommandFileBenchmark
+{
+	/**
+	 * Path name of the XML file containing the chat command definitions.
+	 */
+	private String pathname;
+
+	/**
+	 * Extracts the chat command definitions to the file system.
+	 * <hr>
+	 * @throws Exception Thrown in case an error occurred while setting up the benchmark.
+	 */
+	@Setup
+	public void setUp() throws Exception
+	{
+		pathname = BenchmarkSupport.extract(BenchmarkSupport.CHAT_COMMAND_RESOURCE).getAbsolutePath();
+	}
+
+	/**
+	 * Creates and loads a XML command file.
+	 * <hr>
+	 * @return Loaded XML command file.
+	 * @throws FileException Thrown in case the file cannot be loaded.
+	 */
+	@Benchmark
+	public XmlCommandFile load() throws FileException
+	{
+		XmlCommandFile file = new XmlCommandFile(pathname);
+		file.load();
+
+		return file;
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.benchmark.message;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.heliosphere.athena.base.message.Message;
+import com.heliosphere.athena.base.message.internal.IMessage;
+import com.heliosphere.athena.base.message.internal.protocol.MessageResponseStatus;
+import com.heliosphere.athena.base.message.protocol.TestMessageProtocol;
+
+/**
+ * Benchmarks the {@link Message#createMessage(Enum)} factory methods.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class MessageBenchmark
+{
+	/**
+	 * Request message used as the original message of the replies.
+	 */
+	private IMessage request = Message.createMessage(TestMessageProtocol.MESSAGE_LOBBY_CREATE);
+
+	/**
+	 * Creates a request message.
+	 * <hr>
+	 * @return Message.
+	 */
+	@Benchmark
+	public IMessage createRequest()
+	{
+		return Message.createMessage(TestMessageProtocol.MESSAGE_LOBBY_CREATE);
+	}
+
+	/**
+	 * Creates a reply message to a request message.
+	 * <hr>
+	 * @return Message.
+	 */
+	@Benchmark
+	public IMessage createReply()
+	{
+		return Message.createMessage(TestMessageProtocol.MESSAGE_LOBBY_CREATED, request, MessageResponseStatus.STATUS_OK, 1L);
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright(c) 2017 - Heliosphere Corp.
+ * ---------------------------------------------------------------------------
+ * This file is part of the Heliosphere's project which is licensed under the
+ * Apache license version 2 and use is subject to license terms.
+ * You should have received a copy of the license with the project's artifact
+ * binaries and/or sources.
+ *
+ * License can be consulted at http://www.apache.org/licenses/LICENSE-2.0
+ * ---------------------------------------------------------------------------
+ */
+package com.heliosphere.athena.benchmark.resource.bundle;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.heliosphere.athena.base.resource.bundle.BundleAthenaBase;
+import com.heliosphere.athena.base.resource.bundle.ResourceBundleManager;
+
+/**
+ * Benchmarks the {@link ResourceBundleManager#getMessage(Enum, Object...)} methods.
+ * <hr>
+ * @author <a href="mailto:christophe.resse@gmail.com">Resse Christophe - Heliosphere</a>
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class ResourceBundleManagerBenchmark
+{
+	/**
+	 * First message parameter.
+	 */
+	@SuppressWarnings("nls")
+	private String enumeration = "com.heliosphere.athena.base.command.protocol.DefaultCommandProtocol";
+
+	/**
+	 * Second message parameter.
+	 */
+	@SuppressWarnings("nls")
+	private String value = "UNKNOWN";
+
+	/**
+	 * Forces the resource bundles to be registered before measuring.
+	 */
+	@Setup
+	public void setUp()
+	{
+		ResourceBundleManager.getMessage(BundleAthenaBase.TestDummy);
+	}
+
+	/**
+	 * Retrieves a message without parameter.
+	 * <hr>
+	 * @return Message.
+	 */
+	@Benchmark
+	public String getMessage()
+	{
+		return ResourceBundleManager.getMessage(BundleAthenaBase.TestDummy);
+	}
+
+	/**
+	 * Retrieves a message having parameters.
+	 * <hr>
+	 * @return Formatted message.
+	 */
+	@Benchmark
+	public String getMessageWithParameters()
+	{
+		return ResourceBundleManager.getMessage(BundleAthenaBase.CannotCreateEnumerated, enumeration, value);
+	}
+}